@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+import java.time.Duration;
+
+/**
+ * A rate limiter that adapts its rate to feedback from executions using additive increase, multiplicative decrease
+ * (AIMD). An adaptive rate limiter starts at its {@link AdaptiveRateLimiterConfig#getMaxExecutions() max executions}
+ * per {@link AdaptiveRateLimiterConfig#getPeriod() period}, and evenly distributes permits over time, similar to a
+ * {@link RateLimiter#smoothBuilder(long, Duration) smooth rate limiter}. When an execution fails, or exceeds the {@link
+ * AdaptiveRateLimiterBuilder#withLatencyThreshold(Duration) latency threshold}, the rate is multiplied by a {@link
+ * AdaptiveRateLimiterBuilder#withMultiplicativeDecrease(double) decrease factor}, down to the {@link
+ * AdaptiveRateLimiterBuilder#withMinExecutions(long) min executions} per period. When an execution succeeds, the rate
+ * is increased so that it climbs by the {@link AdaptiveRateLimiterBuilder#withAdditiveIncrease(long) additive
+ * increase} for each period's worth of successful executions, up to the max executions per period.
+ * <p>
+ * Failures are determined via the {@code handle} methods of the {@link AdaptiveRateLimiterBuilder}, the same as other
+ * policies that handle failures. When used with a {@link FailsafeExecutor}, the rate is decreased at most once for the
+ * executions that were in flight when the rate last decreased, so that a burst of failures caused by a single overload
+ * only decreases the rate once.
+ * </p>
+ * <p>
+ * An adaptive rate limiter can be used standalone, by acquiring permits and recording results via {@link
+ * #recordSuccess()} and {@link #recordFailure()}, or as a {@link Policy}, in which case executions that would exceed the
+ * {@link AdaptiveRateLimiterBuilder#withMaxWaitTime(Duration) max wait time} fail with {@link
+ * RateLimitExceededException}.
+ * </p>
+ * <p>
+ * This class is threadsafe.
+ * </p>
+ *
+ * @param <R> result type
+ * @see AdaptiveRateLimiterConfig
+ * @see AdaptiveRateLimiterBuilder
+ * @see RateLimitExceededException
+ */
+public interface AdaptiveRateLimiter<R> extends Policy<R> {
+  /**
+   * Returns an AdaptiveRateLimiterBuilder for up to {@code maxExecutions} per {@code period}. By default, the returned
+   * builder will have a {@link AdaptiveRateLimiterBuilder#withMaxWaitTime max wait time} of {@code 0}, {@link
+   * AdaptiveRateLimiterBuilder#withMinExecutions(long) min executions} of {@code 1}, an {@link
+   * AdaptiveRateLimiterBuilder#withAdditiveIncrease(long) additive increase} of {@code 1}, and a {@link
+   * AdaptiveRateLimiterBuilder#withMultiplicativeDecrease(double) multiplicative decrease} of {@code .5}.
+   *
+   * @param maxExecutions The max number of permitted executions per {@code period}
+   * @param period The period that executions are permitted over
+   * @throws NullPointerException if {@code period} is null
+   * @throws IllegalArgumentException if {@code maxExecutions} < 1 or {@code period} is too small to permit {@code
+   * maxExecutions}
+   */
+  static <R> AdaptiveRateLimiterBuilder<R> builder(long maxExecutions, Duration period) {
+    return new AdaptiveRateLimiterBuilder<>(maxExecutions, period);
+  }
+
+  /**
+   * Creates a new AdaptiveRateLimiterBuilder that will be based on the {@code config}.
+   */
+  static <R> AdaptiveRateLimiterBuilder<R> builder(AdaptiveRateLimiterConfig<R> config) {
+    return new AdaptiveRateLimiterBuilder<>(config);
+  }
+
+  /**
+   * Returns the {@link AdaptiveRateLimiterConfig} that the AdaptiveRateLimiter was built with.
+   */
+  @Override
+  AdaptiveRateLimiterConfig<R> getConfig();
+
+  /**
+   * Returns the current rate at which individual executions are permitted. For example, a rate of {@code
+   * Duration.ofMillis(10)} permits up to one execution every 10 milliseconds.
+   */
+  Duration getRate();
+
+  /**
+   * Returns the current number of executions permitted per {@link AdaptiveRateLimiterConfig#getPeriod() period}.
+   */
+  double getExecutionsPerPeriod();
+
+  /**
+   * Attempts to acquire a permit to perform an execution, waiting until one is available or the thread is
+   * interrupted.
+   *
+   * @throws InterruptedException if the current thread is interrupted while waiting to acquire a permit
+   */
+  void acquirePermit() throws InterruptedException;
+
+  /**
+   * Tries to acquire a permit to perform an execution, returning immediately without waiting.
+   *
+   * @return whether the requested permit was acquired
+   */
+  boolean tryAcquirePermit();
+
+  /**
+   * Tries to acquire a permit to perform an execution, waiting up to the {@code maxWaitTime} until one is available.
+   *
+   * @return whether a permit was acquired
+   * @throws NullPointerException if {@code maxWaitTime} is null
+   * @throws InterruptedException if the current thread is interrupted while waiting to acquire a permit
+   */
+  boolean tryAcquirePermit(Duration maxWaitTime) throws InterruptedException;
+
+  /**
+   * Records an execution success, which increases the rate, up to the max executions per period.
+   */
+  void recordSuccess();
+
+  /**
+   * Records an execution failure, which decreases the rate, down to the min executions per period.
+   */
+  void recordFailure();
+}
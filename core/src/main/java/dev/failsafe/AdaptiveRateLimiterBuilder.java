@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+import dev.failsafe.internal.AdaptiveRateLimiterImpl;
+import dev.failsafe.internal.util.Assert;
+import dev.failsafe.spi.Ticker;
+
+import java.time.Duration;
+
+/**
+ * Builds {@link AdaptiveRateLimiter} instances.
+ * <p>
+ * Note:
+ * <ul>
+ *   <li>By default, any exception is considered a failure and will decrease the rate. You can specify which
+ *   exceptions are handled as failures via one of the {@code handle} methods.</li>
+ *   <li>By default, a successful execution does not decrease the rate, regardless of how long it takes. Slow executions
+ *   can be treated as failures via {@link #withLatencyThreshold(Duration)}.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * This class is <i>not</i> threadsafe.
+ * </p>
+ *
+ * @param <R> result type
+ * @see AdaptiveRateLimiterConfig
+ * @see RateLimitExceededException
+ */
+public class AdaptiveRateLimiterBuilder<R>
+  extends FailurePolicyBuilder<AdaptiveRateLimiterBuilder<R>, AdaptiveRateLimiterConfig<R>, R> {
+  AdaptiveRateLimiterBuilder(long maxExecutions, Duration period) {
+    super(new AdaptiveRateLimiterConfig<>(maxExecutions, period));
+    Assert.isTrue(maxExecutions >= 1, "maxExecutions must be >= 1");
+    Assert.notNull(period, "period");
+    Assert.isTrue(period.toNanos() / maxExecutions > 0, "period must be >= maxExecutions nanos");
+    config.minExecutions = 1;
+    config.additiveIncrease = 1;
+    config.multiplicativeDecrease = .5;
+    config.maxWaitTime = Duration.ZERO;
+  }
+
+  AdaptiveRateLimiterBuilder(AdaptiveRateLimiterConfig<R> config) {
+    super(new AdaptiveRateLimiterConfig<>(config));
+  }
+
+  /**
+   * Builds a new {@link AdaptiveRateLimiter} using the builder's configuration.
+   */
+  public AdaptiveRateLimiter<R> build() {
+    return new AdaptiveRateLimiterImpl<>(new AdaptiveRateLimiterConfig<>(config));
+  }
+
+  /**
+   * Configures the {@code minExecutions} per period that the rate will not be decreased below. Defaults to {@code 1}.
+   *
+   * @throws IllegalArgumentException if {@code minExecutions} < 1 or > the max executions
+   */
+  public AdaptiveRateLimiterBuilder<R> withMinExecutions(long minExecutions) {
+    Assert.isTrue(minExecutions >= 1, "minExecutions must be >= 1");
+    Assert.isTrue(minExecutions <= config.maxExecutions, "minExecutions must be <= maxExecutions");
+    config.minExecutions = minExecutions;
+    return this;
+  }
+
+  /**
+   * Configures the number of {@code executions} per period that the rate increases by for each period's worth of
+   * successful executions. Each successful execution increases the rate by a fraction of the {@code executions}, in
+   * proportion to the current rate, so that the rate climbs steadily regardless of how many executions are performed.
+   * Defaults to {@code 1}.
+   *
+   * @throws IllegalArgumentException if {@code executions} < 1
+   */
+  public AdaptiveRateLimiterBuilder<R> withAdditiveIncrease(long executions) {
+    Assert.isTrue(executions >= 1, "executions must be >= 1");
+    config.additiveIncrease = executions;
+    return this;
+  }
+
+  /**
+   * Configures the {@code factor} that the rate is multiplied by when an execution fails or exceeds the {@link
+   * #withLatencyThreshold(Duration) latency threshold}. For example, a factor of {@code .5} halves the rate. Defaults to
+   * {@code .5}.
+   *
+   * @throws IllegalArgumentException if {@code factor} is not > 0 and < 1
+   */
+  public AdaptiveRateLimiterBuilder<R> withMultiplicativeDecrease(double factor) {
+    Assert.isTrue(factor > 0 && factor < 1, "factor must be > 0 and < 1");
+    config.multiplicativeDecrease = factor;
+    return this;
+  }
+
+  /**
+   * Configures a {@code latencyThreshold} beyond which a successful execution attempt decreases the rate as if it had
+   * failed, which allows the rate to be decreased when a downstream resource slows down before it starts failing.
+   * <p>
+   * Execution attempt durations are only available when the rate limiter is used with a {@link FailsafeExecutor}.
+   * Executions that are recorded directly via {@link AdaptiveRateLimiter#recordSuccess()} are not considered slow.
+   * </p>
+   *
+   * @throws NullPointerException if {@code latencyThreshold} is null
+   * @throws IllegalArgumentException if {@code latencyThreshold} <= 0
+   */
+  public AdaptiveRateLimiterBuilder<R> withLatencyThreshold(Duration latencyThreshold) {
+    Assert.notNull(latencyThreshold, "latencyThreshold");
+    Assert.isTrue(latencyThreshold.toNanos() > 0, "latencyThreshold must be > 0");
+    config.latencyThreshold = latencyThreshold;
+    return this;
+  }
+
+  /**
+   * Configures the {@code maxWaitTime} to wait for a permit to be available. If a permit cannot be acquired before the
+   * {@code maxWaitTime} is exceeded, then the rate limiter will throw {@link RateLimitExceededException}.
+   * <p>
+   * This setting only applies when the resulting AdaptiveRateLimiter is used with the {@link Failsafe} class. It does
+   * not apply when the AdaptiveRateLimiter is used in a standalone way.
+   * </p>
+   *
+   * @throws NullPointerException if {@code maxWaitTime} is null
+   */
+  public AdaptiveRateLimiterBuilder<R> withMaxWaitTime(Duration maxWaitTime) {
+    config.maxWaitTime = Assert.notNull(maxWaitTime, "maxWaitTime");
+    return this;
+  }
+
+  /**
+   * Configures the {@code ticker} that the rate limiter reads the time from. Defaults to {@link Ticker#SYSTEM}.
+   *
+   * @throws NullPointerException if {@code ticker} is null
+   * @see Ticker#coarse()
+   */
+  public AdaptiveRateLimiterBuilder<R> withTicker(Ticker ticker) {
+    config.ticker = Assert.notNull(ticker, "ticker");
+    return this;
+  }
+}
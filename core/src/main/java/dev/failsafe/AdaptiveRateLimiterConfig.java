@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+import dev.failsafe.spi.Ticker;
+
+import java.time.Duration;
+
+/**
+ * Configuration for an {@link AdaptiveRateLimiter}.
+ *
+ * @param <R> result type
+ * @see AdaptiveRateLimiterBuilder
+ */
+public class AdaptiveRateLimiterConfig<R> extends FailurePolicyConfig<R> {
+  // Rate
+  long maxExecutions;
+  long minExecutions;
+  Duration period;
+
+  // Adaptation
+  long additiveIncrease;
+  double multiplicativeDecrease;
+  Duration latencyThreshold;
+
+  // Common
+  Duration maxWaitTime;
+  Ticker ticker = Ticker.SYSTEM;
+
+  AdaptiveRateLimiterConfig(long maxExecutions, Duration period) {
+    this.maxExecutions = maxExecutions;
+    this.period = period;
+  }
+
+  AdaptiveRateLimiterConfig(AdaptiveRateLimiterConfig<R> config) {
+    super(config);
+    maxExecutions = config.maxExecutions;
+    minExecutions = config.minExecutions;
+    period = config.period;
+    additiveIncrease = config.additiveIncrease;
+    multiplicativeDecrease = config.multiplicativeDecrease;
+    latencyThreshold = config.latencyThreshold;
+    maxWaitTime = config.maxWaitTime;
+    ticker = config.ticker;
+  }
+
+  /**
+   * Returns the max number of executions permitted per {@link #getPeriod() period}, which is also the initial rate.
+   *
+   * @see AdaptiveRateLimiter#builder(long, Duration)
+   */
+  public long getMaxExecutions() {
+    return maxExecutions;
+  }
+
+  /**
+   * Returns the min number of executions permitted per {@link #getPeriod() period}, which the rate will not be
+   * decreased below.
+   *
+   * @see AdaptiveRateLimiterBuilder#withMinExecutions(long)
+   */
+  public long getMinExecutions() {
+    return minExecutions;
+  }
+
+  /**
+   * Returns the period that executions are permitted over.
+   *
+   * @see AdaptiveRateLimiter#builder(long, Duration)
+   */
+  public Duration getPeriod() {
+    return period;
+  }
+
+  /**
+   * Returns the number of executions per period that the rate increases by for each period's worth of successful
+   * executions.
+   *
+   * @see AdaptiveRateLimiterBuilder#withAdditiveIncrease(long)
+   */
+  public long getAdditiveIncrease() {
+    return additiveIncrease;
+  }
+
+  /**
+   * Returns the factor that the rate is multiplied by when an execution fails or exceeds the {@link
+   * #getLatencyThreshold() latency threshold}.
+   *
+   * @see AdaptiveRateLimiterBuilder#withMultiplicativeDecrease(double)
+   */
+  public double getMultiplicativeDecrease() {
+    return multiplicativeDecrease;
+  }
+
+  /**
+   * Returns the duration beyond which a successful execution attempt decreases the rate as if it had failed, else
+   * {@code null} if none was configured.
+   *
+   * @see AdaptiveRateLimiterBuilder#withLatencyThreshold(Duration)
+   */
+  public Duration getLatencyThreshold() {
+    return latencyThreshold;
+  }
+
+  /**
+   * Returns the max time to wait for a permit to be available. If a permit cannot be acquired before the max wait time
+   * is exceeded, then the rate limiter will throw {@link RateLimitExceededException}.
+   * <p>
+   * This setting only applies when the AdaptiveRateLimiter is used with the {@link Failsafe} class. It does not apply
+   * when the AdaptiveRateLimiter is used in a standalone way.
+   * </p>
+   *
+   * @see AdaptiveRateLimiterBuilder#withMaxWaitTime(Duration)
+   */
+  public Duration getMaxWaitTime() {
+    return maxWaitTime;
+  }
+
+  /**
+   * Returns the ticker that the rate limiter reads the time from. Defaults to {@link Ticker#SYSTEM}.
+   *
+   * @see AdaptiveRateLimiterBuilder#withTicker(Ticker)
+   */
+  public Ticker getTicker() {
+    return ticker;
+  }
+}
@@ -44,14 +44,20 @@ final class AsyncExecutionImpl<R> extends ExecutionImpl<R> implements AsyncExecu
   // Whether a result has been recorded
   private volatile boolean recorded;
 
-  AsyncExecutionImpl(List<Policy<R>> policies, Scheduler scheduler, FailsafeFuture<R> future, boolean asyncExecution,
-    Function<AsyncExecutionInternal<R>, CompletableFuture<ExecutionResult<R>>> innerFn) {
-    super(policies);
+  AsyncExecutionImpl(List<Policy<R>> policies, Scheduler scheduler, Ticker ticker, FailsafeFuture<R> future,
+    boolean asyncExecution, Function<AsyncExecutionInternal<R>, CompletableFuture<ExecutionResult<R>>> innerFn) {
+    super(policies, ticker);
     this.future = future;
     this.asyncExecution = asyncExecution;
 
     outerFn = asyncExecution ? Functions.toExecutionAware(innerFn) : innerFn;
-    outerFn = Functions.toAsync(outerFn, scheduler, future);
+
+    // Schedule the execution unless a policy performs it in its own executor
+    boolean hasAsyncExecutor = false;
+    for (PolicyExecutor<R> policyExecutor : policyExecutors)
+      hasAsyncExecutor |= policyExecutor.hasAsyncExecutor();
+    if (!hasAsyncExecutor)
+      outerFn = Functions.toAsync(outerFn, scheduler, future);
 
     for (PolicyExecutor<R> policyExecutor : policyExecutors)
       outerFn = policyExecutor.applyAsync(outerFn, scheduler, future);
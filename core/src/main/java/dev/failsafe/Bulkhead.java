@@ -18,6 +18,7 @@ package dev.failsafe;
 import dev.failsafe.internal.BulkheadImpl;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A bulkhead allows you to restrict concurrent executions as a way of preventing system overload.
@@ -67,11 +68,24 @@ public interface Bulkhead<R> extends Policy<R> {
   @Override
   BulkheadConfig<R> getConfig();
 
+  /**
+   * Returns the current max concurrent executions that are permitted within the bulkhead. This is the {@link
+   * BulkheadConfig#getMaxConcurrency() max concurrency}, unless the bulkhead has {@link
+   * BulkheadBuilder#withAdaptiveConcurrency(int, int) adaptive concurrency}, in which case the limit changes over time.
+   * <p>
+   * The default implementation returns the {@link BulkheadConfig#getMaxConcurrency() max concurrency}.
+   * </p>
+   */
+  default int getConcurrencyLimit() {
+    return getConfig().getMaxConcurrency();
+  }
+
   /**
    * Attempts to acquire a permit to perform an execution against within the bulkhead, waiting until one is available or
    * the thread is interrupted. After execution is complete, the permit should be {@link #releasePermit() released} back
    * to the bulkhead.
    *
+   * @throws BulkheadFullException if the bulkhead's {@link BulkheadConfig#getMaxQueueSize() wait queue} is full
    * @throws InterruptedException if the current thread is interrupted while waiting to acquire a permit
    * @see #tryAcquirePermit()
    */
@@ -92,6 +106,45 @@ public interface Bulkhead<R> extends Policy<R> {
       throw new BulkheadFullException(this);
   }
 
+  /**
+   * Attempts to acquire a permit to perform an execution within the bulkhead without blocking, returning a
+   * CompletableFuture that is completed when a permit is available, else is completed exceptionally with {@link
+   * BulkheadFullException} if the bulkhead's {@link BulkheadConfig#getMaxQueueSize() wait queue} is full. Cancelling
+   * the returned future before it completes removes the waiter from the bulkhead. After execution is complete, the
+   * permit should be {@link #releasePermit() released} back to the bulkhead.
+   *
+   * <p>
+   * The default implementation throws {@link UnsupportedOperationException}, since waiting for a permit without
+   * blocking requires support from the bulkhead implementation.
+   * </p>
+   *
+   * @throws UnsupportedOperationException if the bulkhead does not support acquiring permits without blocking
+   * @see #acquirePermit()
+   */
+  default CompletableFuture<Void> acquirePermitAsync() {
+    throw new UnsupportedOperationException("acquirePermitAsync");
+  }
+
+  /**
+   * Attempts to acquire a permit to perform an execution within the bulkhead without blocking, returning a
+   * CompletableFuture that is completed when a permit is available, else is completed exceptionally with {@link
+   * BulkheadFullException} by a shared scheduler if a permit is not available within the {@code maxWaitTime}.
+   * Cancelling the returned future before it completes removes the waiter from the bulkhead. After execution is
+   * complete, the permit should be {@link #releasePermit() released} back to the bulkhead.
+   *
+   * <p>
+   * The default implementation throws {@link UnsupportedOperationException}, since waiting for a permit without
+   * blocking requires support from the bulkhead implementation.
+   * </p>
+   *
+   * @throws NullPointerException if {@code maxWaitTime} is null
+   * @throws UnsupportedOperationException if the bulkhead does not support acquiring permits without blocking
+   * @see #acquirePermit(Duration)
+   */
+  default CompletableFuture<Void> acquirePermitAsync(Duration maxWaitTime) {
+    throw new UnsupportedOperationException("acquirePermitAsync");
+  }
+
   /**
    * Tries to acquire a permit to perform an execution within the bulkhead, returning immediately without waiting. After
    * execution is complete, the permit should be {@link #releasePermit() released} back to the bulkhead.
@@ -17,6 +17,7 @@ package dev.failsafe;
 
 import dev.failsafe.internal.BulkheadImpl;
 import dev.failsafe.internal.util.Assert;
+import dev.failsafe.spi.Ticker;
 
 import java.time.Duration;
 
@@ -47,6 +48,30 @@ public class BulkheadBuilder<R> extends PolicyBuilder<BulkheadBuilder<R>, Bulkhe
     return new BulkheadImpl<>(new BulkheadConfig<>(config));
   }
 
+  /**
+   * Configures the bulkhead to adapt its concurrency limit to the latency of executions, starting at the {@code
+   * initialConcurrency} and staying between the {@code minConcurrency} and the bulkhead's max concurrency. The limit is
+   * adjusted using a variant of the TCP Vegas algorithm, which estimates how many executions are queued within the
+   * protected resource by comparing the latency of each execution to the lowest latency recently observed. The limit
+   * increases while few executions are estimated to be queued, and decreases as the queue grows or when executions fail
+   * with {@link TimeoutExceededException}. The current limit is available via {@link Bulkhead#getConcurrencyLimit()}.
+   * <p>
+   * Latency is measured from when an execution attempt starts, after a permit is acquired, to when it completes, so
+   * this setting only applies when the resulting Bulkhead is used with the {@link Failsafe} class.
+   * </p>
+   *
+   * @throws IllegalArgumentException if {@code minConcurrency} < 1, or if {@code initialConcurrency} is not between the
+   * {@code minConcurrency} and the max concurrency
+   */
+  public BulkheadBuilder<R> withAdaptiveConcurrency(int minConcurrency, int initialConcurrency) {
+    Assert.isTrue(minConcurrency >= 1, "minConcurrency must be >= 1");
+    Assert.isTrue(initialConcurrency >= minConcurrency, "initialConcurrency must be >= minConcurrency");
+    Assert.isTrue(initialConcurrency <= config.maxConcurrency, "initialConcurrency must be <= maxConcurrency");
+    config.minConcurrency = minConcurrency;
+    config.initialConcurrency = initialConcurrency;
+    return this;
+  }
+
   /**
    * Configures the {@code maxWaitTime} to wait for permits to be available. If permits cannot be acquired before the
    * {@code maxWaitTime} is exceeded, then the bulkhead will throw {@link BulkheadFullException}.
@@ -61,4 +86,60 @@ public class BulkheadBuilder<R> extends PolicyBuilder<BulkheadBuilder<R>, Bulkhe
     config.maxWaitTime = Assert.notNull(maxWaitTime, "maxWaitTime");
     return this;
   }
+
+  /**
+   * Configures the {@code maxQueueSize}, which is the max number of executions that may wait for a permit at a time.
+   * When this many executions are already waiting, further executions are rejected immediately with {@link
+   * BulkheadFullException}, rather than waiting up to the {@link #withMaxWaitTime(Duration) maxWaitTime}. This bounds
+   * the memory and scheduling used by waiting executions when the bulkhead is saturated. A {@code maxQueueSize} of
+   * {@code 0} prevents executions from waiting at all.
+   *
+   * @throws IllegalArgumentException if {@code maxQueueSize} < 0
+   */
+  public BulkheadBuilder<R> withMaxQueueSize(int maxQueueSize) {
+    Assert.isTrue(maxQueueSize >= 0, "maxQueueSize must be >= 0");
+    config.maxQueueSize = maxQueueSize;
+    return this;
+  }
+
+  /**
+   * Configures the bulkhead to perform executions in a dedicated thread pool with the {@code name}, rather than on the
+   * calling thread, which isolates them from other executions and from the calling thread. The thread pool has up to the
+   * bulkhead's max concurrency threads, which are named with the {@code name} followed by a thread number, and which
+   * terminate when idle. Executions that are waiting for a permit are queued by the bulkhead, subject to the {@link
+   * #withMaxWaitTime(Duration) maxWaitTime} and {@link #withMaxQueueSize(int) maxQueueSize}.
+   * <p>
+   * Synchronous executions wait for their result in the calling thread. If the calling thread is interrupted while
+   * waiting, such as by an outer {@link Timeout} that is configured to {@link TimeoutBuilder#withInterrupt() interrupt},
+   * then the execution is abandoned and interrupted, so that the calling thread returns immediately even if the
+   * execution does not respond to the interrupt. An abandoned execution holds its permit until it stops running, so
+   * that the bulkhead never admits more executions than it has threads. If a thread does not become available within
+   * the {@link #withMaxWaitTime(Duration) maxWaitTime}, the execution is rejected with {@link BulkheadFullException}.
+   * Async executions that are delayed by an inner policy, such as a retry
+   * by an inner {@link RetryPolicy}, are resumed on the execution's scheduler, so policies that retry async executions
+   * should be composed outside of the bulkhead.
+   * </p>
+   * <p>
+   * This setting only applies when the resulting Bulkhead is used with the {@link Failsafe} class. It does not apply
+   * when the Bulkhead is used in a standalone way.
+   * </p>
+   *
+   * @throws NullPointerException if {@code name} is null
+   */
+  public BulkheadBuilder<R> withThreadPool(String name) {
+    config.threadPoolName = Assert.notNull(name, "name");
+    return this;
+  }
+
+  /**
+   * Configures the {@code ticker} that the bulkhead reads the time from when expiring executions that have waited for
+   * the {@link #withMaxWaitTime(Duration) maxWaitTime}. Defaults to {@link Ticker#SYSTEM}.
+   *
+   * @throws NullPointerException if {@code ticker} is null
+   * @see Ticker#coarse()
+   */
+  public BulkheadBuilder<R> withTicker(Ticker ticker) {
+    config.ticker = Assert.notNull(ticker, "ticker");
+    return this;
+  }
 }
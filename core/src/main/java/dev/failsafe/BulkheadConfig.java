@@ -15,6 +15,8 @@
  */
 package dev.failsafe;
 
+import dev.failsafe.spi.Ticker;
+
 import java.time.Duration;
 
 /**
@@ -26,20 +28,36 @@ import java.time.Duration;
 public class BulkheadConfig<R> extends PolicyConfig<R> {
   int maxConcurrency;
   Duration maxWaitTime;
+  int maxQueueSize;
+  Ticker ticker = Ticker.SYSTEM;
+
+  // Adaptive concurrency
+  int minConcurrency;
+  int initialConcurrency;
+
+  // Thread pool isolation
+  String threadPoolName;
 
   BulkheadConfig(int maxConcurrency) {
     this.maxConcurrency = maxConcurrency;
     maxWaitTime = Duration.ZERO;
+    maxQueueSize = Integer.MAX_VALUE;
   }
 
   BulkheadConfig(BulkheadConfig<R> config) {
     super(config);
     maxConcurrency = config.maxConcurrency;
     maxWaitTime = config.maxWaitTime;
+    maxQueueSize = config.maxQueueSize;
+    ticker = config.ticker;
+    minConcurrency = config.minConcurrency;
+    initialConcurrency = config.initialConcurrency;
+    threadPoolName = config.threadPoolName;
   }
 
   /**
-   * Returns that max concurrent executions that are permitted within the bulkhead.
+   * Returns that max concurrent executions that are permitted within the bulkhead. For bulkheads with adaptive
+   * concurrency, this is the max that the concurrency limit can be increased to.
    *
    * @see Bulkhead#builder(int)
    */
@@ -47,6 +65,26 @@ public class BulkheadConfig<R> extends PolicyConfig<R> {
     return maxConcurrency;
   }
 
+  /**
+   * For bulkheads with adaptive concurrency, returns the min concurrent executions that the concurrency limit can be
+   * decreased to, else {@code 0} if adaptive concurrency is not configured.
+   *
+   * @see BulkheadBuilder#withAdaptiveConcurrency(int, int)
+   */
+  public int getMinConcurrency() {
+    return minConcurrency;
+  }
+
+  /**
+   * For bulkheads with adaptive concurrency, returns the concurrency limit that the bulkhead starts with, else {@code 0}
+   * if adaptive concurrency is not configured.
+   *
+   * @see BulkheadBuilder#withAdaptiveConcurrency(int, int)
+   */
+  public int getInitialConcurrency() {
+    return initialConcurrency;
+  }
+
   /**
    * Returns the max time to wait for permits to be available. If permits cannot be acquired before the max wait time is
    * exceeded, then the bulkhead will throw {@link BulkheadFullException}.
@@ -60,4 +98,35 @@ public class BulkheadConfig<R> extends PolicyConfig<R> {
   public Duration getMaxWaitTime() {
     return maxWaitTime;
   }
+
+  /**
+   * Returns the max number of executions that may wait for a permit at a time. When this many executions are already
+   * waiting, further executions are rejected with {@link BulkheadFullException} without waiting. Defaults to {@link
+   * Integer#MAX_VALUE}, which does not limit waiting executions.
+   *
+   * @see BulkheadBuilder#withMaxQueueSize(int)
+   */
+  public int getMaxQueueSize() {
+    return maxQueueSize;
+  }
+
+  /**
+   * Returns the ticker that the bulkhead reads the time from when expiring executions that have waited for the {@link
+   * #getMaxWaitTime() maxWaitTime}. Defaults to {@link Ticker#SYSTEM}.
+   *
+   * @see BulkheadBuilder#withTicker(Ticker)
+   */
+  public Ticker getTicker() {
+    return ticker;
+  }
+
+  /**
+   * Returns the name of the dedicated thread pool that executions are performed in, else {@code null} if executions are
+   * performed on the calling thread.
+   *
+   * @see BulkheadBuilder#withThreadPool(String)
+   */
+  public String getThreadPoolName() {
+    return threadPoolName;
+  }
 }
@@ -29,7 +29,8 @@ import java.time.Duration;
  * <i>half-open</i> state. In the
  * <i>half-open</i> state a {@link CircuitBreakerBuilder#withSuccessThreshold(int) configurable number} of trial
  * executions will be allowed, after which the circuit breaker will transition back to <i>closed</i> or <i>open</i>
- * depending on how many were successful.
+ * depending on how many were successful. A circuit breaker can optionally {@link CircuitBreakerBuilder#withRampUp(int,
+ * Duration) ramp up} the percentage of executions it permits after closing from <i>half-open</i>.
  * </p>
  * <p>
  * A circuit breaker can be <i>count based</i> or <i>time based</i>:
@@ -43,7 +44,9 @@ import java.time.Duration;
  * breakers use a sliding window to aggregate execution results. The window is divided into {@code 10} time slices,
  * each representing 1/10th of the {@link CircuitBreakerConfig#getFailureThresholdingPeriod() failureThresholdingPeriod}.
  * As time progresses, statistics for old time slices are gradually discarded, which smoothes the calculation of
- * success and failure rates.</p>
+ * success and failure rates. Alternatively, circuit breakers can {@link
+ * CircuitBreakerBuilder#withExponentialDecay(Duration) exponentially decay} execution results so that they fade out
+ * gradually.</p>
  * <p>
  * This class is threadsafe.
  * </p>
@@ -208,6 +211,21 @@ public interface CircuitBreaker<R> extends Policy<R> {
    */
   int getSuccessRate();
 
+  /**
+   * Returns an immutable snapshot of the circuit's state, execution counts, rates, and remaining delay, which are read
+   * together so that they are consistent with each other. Taking a snapshot does not block executions from being
+   * recorded.
+   * <p>
+   * The default implementation throws {@link UnsupportedOperationException}, since a consistent snapshot must be read
+   * from the circuit breaker implementation's internal state.
+   * </p>
+   *
+   * @throws UnsupportedOperationException if the circuit breaker does not support metrics snapshots
+   */
+  default CircuitBreakerMetrics getMetrics() {
+    throw new UnsupportedOperationException("getMetrics");
+  }
+
   /**
    * Returns whether the circuit is closed.
    */
@@ -22,6 +22,7 @@ import dev.failsafe.function.CheckedPredicate;
 import dev.failsafe.internal.CircuitBreakerImpl;
 import dev.failsafe.internal.util.Assert;
 import dev.failsafe.internal.util.Durations;
+import dev.failsafe.spi.Ticker;
 
 import java.time.Duration;
 
@@ -241,7 +242,7 @@ public class CircuitBreakerBuilder<R>
    * @throws NullPointerException if {@code failureThresholdingPeriod} is null
    * @throws IllegalArgumentException if {@code failureRateThreshold} < 1 or > 100, {@code failureExecutionThreshold} <
    * 1, or {@code failureThresholdingPeriod} < 10 ms
-   * @see CircuitBreakerConfig#getFailureRateThreshold()
+   * @see CircuitBreakerConfig#getFailureRateThresholdPercentage()
    * @see CircuitBreakerConfig#getFailureExecutionThreshold()
    * @see CircuitBreakerConfig#getFailureThresholdingPeriod()
    */
@@ -249,6 +250,43 @@ public class CircuitBreakerBuilder<R>
     Duration failureThresholdingPeriod) {
     Assert.isTrue(failureRateThreshold >= 1 && failureRateThreshold <= 100,
       "failureRateThreshold must be between 1 and 100");
+    return withFailureRateThreshold((double) failureRateThreshold, failureExecutionThreshold,
+      failureThresholdingPeriod);
+  }
+
+  /**
+   * Configures time based failure rate thresholding by setting the percentage rate of failures, which may be
+   * fractional, that must occur within the rolling {@code failureThresholdingPeriod} when in a CLOSED state in order to
+   * open the circuit. For example, {@code 0.4} would open the circuit when 0.4% of executions fail. The number of
+   * executions must also exceed the {@code failureExecutionThreshold} within the {@code failureThresholdingPeriod}
+   * before the circuit can be opened.
+   * <p>
+   * The {@code failureRateThreshold} is applied with a precision of one basis point, 0.01%, and failure rates are
+   * compared to it using exact execution counts rather than rounded percentages.
+   * </p>
+   * <p>
+   * If a {@link #withSuccessThreshold(int) success threshold} is not configured, the {@code failureExecutionThreshold}
+   * will also be used when the circuit breaker is in a HALF_OPEN state to determine whether to transition back to open
+   * or closed.
+   * </p>
+   *
+   * @param failureRateThreshold The percentage rate of failures, from 0.01 to 100, that must occur in order to open the
+   * circuit
+   * @param failureExecutionThreshold The minimum number of executions that must occur within the {@code
+   * failureThresholdingPeriod} when in the CLOSED state before the circuit can be opened, or in the HALF_OPEN state
+   * before it can be re-opened or closed
+   * @param failureThresholdingPeriod The period during which failures are compared to the {@code failureThreshold}
+   * @throws NullPointerException if {@code failureThresholdingPeriod} is null
+   * @throws IllegalArgumentException if {@code failureRateThreshold} < 0.01 or > 100, {@code failureExecutionThreshold}
+   * < 1, or {@code failureThresholdingPeriod} < 10 ms
+   * @see CircuitBreakerConfig#getFailureRateThresholdPercentage()
+   * @see CircuitBreakerConfig#getFailureExecutionThreshold()
+   * @see CircuitBreakerConfig#getFailureThresholdingPeriod()
+   */
+  public CircuitBreakerBuilder<R> withFailureRateThreshold(double failureRateThreshold, int failureExecutionThreshold,
+    Duration failureThresholdingPeriod) {
+    Assert.isTrue(failureRateThreshold >= 0.01 && failureRateThreshold <= 100,
+      "failureRateThreshold must be between 0.01 and 100");
     assertFailureExecutionThreshold(failureExecutionThreshold);
     assertFailureThresholdingPeriod(failureThresholdingPeriod);
     config.failureRateThreshold = failureRateThreshold;
@@ -257,6 +295,30 @@ public class CircuitBreakerBuilder<R>
     return this;
   }
 
+  /**
+   * Configures failure thresholding in the CLOSED state to use exponentially decaying execution counts rather than a
+   * count or time based window. Each execution result is weighted so that its contribution to the failure and success
+   * counts halves every {@code halfLife}, so old results fade out gradually rather than expiring all at once when a
+   * time slice rolls over, and failure rates change smoothly. Decaying counts also use a small, constant amount of
+   * memory regardless of the thresholding capacity or period.
+   * <p>
+   * The configured failure thresholds and execution thresholds are compared to the decayed counts. With a steady
+   * execution rate, the decayed execution count is about 1.44 times the number of executions per {@code halfLife}.
+   * </p>
+   *
+   * @param halfLife the time after which the weight of an execution result has halved
+   * @throws NullPointerException if {@code halfLife} is null
+   * @throws IllegalArgumentException if {@code halfLife} < 1 ms
+   * @see CircuitBreakerConfig#getDecayHalfLife()
+   */
+  public CircuitBreakerBuilder<R> withExponentialDecay(Duration halfLife) {
+    Assert.notNull(halfLife, "halfLife");
+    halfLife = Durations.ofSafeNanos(halfLife);
+    Assert.isTrue(halfLife.toMillis() >= 1, "halfLife must be >= 1 ms");
+    config.decayHalfLife = halfLife;
+    return this;
+  }
+
   private void assertFailureExecutionThreshold(int failureExecutionThreshold) {
     Assert.isTrue(failureExecutionThreshold >= 1, "failureExecutionThreshold must be >= 1");
   }
@@ -266,6 +328,43 @@ public class CircuitBreakerBuilder<R>
     Assert.isTrue(failureThresholdingPeriod.toMillis() >= 10, "failureThresholdingPeriod must be >= 10 ms");
   }
 
+  /**
+   * Configures slow call thresholding by setting the {@code slowCallDurationThreshold} beyond which an execution attempt
+   * is considered slow, and the percentage rate of slow executions, from 1 to 100, that must occur when in a CLOSED
+   * state in order to open the circuit. Slow executions are recorded in the same window as failures, and the slow call
+   * rate is only checked once the number of executions reaches the {@link #withFailureThreshold(int, int, Duration)
+   * failure execution threshold}, or for count based thresholding, the failure thresholding capacity. A slow execution
+   * may be either a success or a failure.
+   * <p>
+   * When in a HALF_OPEN state, if the slow call rate threshold is met when the circuit would otherwise close, the circuit
+   * is re-opened instead.
+   * </p>
+   * <p>
+   * Execution attempt durations are only available when the circuit breaker is used with a {@link FailsafeExecutor}.
+   * Executions that are recorded directly via {@link CircuitBreaker#recordSuccess()} or similar methods are not
+   * considered slow.
+   * </p>
+   *
+   * @param slowCallDurationThreshold The duration beyond which an execution attempt is considered slow
+   * @param slowCallRateThreshold The percentage rate of slow executions, from 1 to 100, that must occur in order to open
+   * the circuit
+   * @throws NullPointerException if {@code slowCallDurationThreshold} is null
+   * @throws IllegalArgumentException if {@code slowCallDurationThreshold} <= 0 or {@code slowCallRateThreshold} < 1 or
+   * > 100
+   * @see CircuitBreakerConfig#getSlowCallDurationThreshold()
+   * @see CircuitBreakerConfig#getSlowCallRateThreshold()
+   */
+  public CircuitBreakerBuilder<R> withSlowCallThreshold(Duration slowCallDurationThreshold, int slowCallRateThreshold) {
+    Assert.notNull(slowCallDurationThreshold, "slowCallDurationThreshold");
+    slowCallDurationThreshold = Durations.ofSafeNanos(slowCallDurationThreshold);
+    Assert.isTrue(slowCallDurationThreshold.toNanos() > 0, "slowCallDurationThreshold must be > 0");
+    Assert.isTrue(slowCallRateThreshold >= 1 && slowCallRateThreshold <= 100,
+      "slowCallRateThreshold must be between 1 and 100");
+    config.slowCallDurationThreshold = slowCallDurationThreshold;
+    config.slowCallRateThreshold = slowCallRateThreshold;
+    return this;
+  }
+
   /**
    * Configures count based success thresholding by setting the number of consecutive successful executions that must
    * occur when in a HALF_OPEN state in order to close the circuit, else the circuit is re-opened when a failure
@@ -301,4 +400,41 @@ public class CircuitBreakerBuilder<R>
     config.successThresholdingCapacity = successThresholdingCapacity;
     return this;
   }
+
+  /**
+   * Configures the circuit to gradually ramp up traffic after it closes from a HALF_OPEN state, rather than permitting
+   * all executions at once. When the circuit closes, {@code initialPercentage} of executions are permitted, and the
+   * percentage grows linearly to 100 over the {@code rampUpPeriod}. Executions that are not permitted fail with {@link
+   * CircuitBreakerOpenException}. While ramping up, the circuit is CLOSED and its failure thresholds still apply, so
+   * the circuit will re-open if failures exceed a threshold.
+   * <p>
+   * Ramp up does not apply when the circuit is closed manually via {@link CircuitBreaker#close()}.
+   * </p>
+   *
+   * @param initialPercentage the percentage of executions, from 1 to 99, to permit when the circuit first closes
+   * @param rampUpPeriod the period over which to ramp up to permitting all executions
+   * @throws NullPointerException if {@code rampUpPeriod} is null
+   * @throws IllegalArgumentException if {@code initialPercentage} is not between 1 and 99 or {@code rampUpPeriod} <= 0
+   */
+  public CircuitBreakerBuilder<R> withRampUp(int initialPercentage, Duration rampUpPeriod) {
+    Assert.isTrue(initialPercentage >= 1 && initialPercentage <= 99, "initialPercentage must be between 1 and 99");
+    Assert.notNull(rampUpPeriod, "rampUpPeriod");
+    rampUpPeriod = Durations.ofSafeNanos(rampUpPeriod);
+    Assert.isTrue(rampUpPeriod.toNanos() > 0, "rampUpPeriod must be > 0");
+    config.rampUpInitialPercentage = initialPercentage;
+    config.rampUpPeriod = rampUpPeriod;
+    return this;
+  }
+
+  /**
+   * Configures the {@code ticker} that the circuit breaker reads the time from when performing time based thresholding
+   * and when computing delays. Defaults to {@link Ticker#SYSTEM}.
+   *
+   * @throws NullPointerException if {@code ticker} is null
+   * @see Ticker#coarse()
+   */
+  public CircuitBreakerBuilder<R> withTicker(Ticker ticker) {
+    config.ticker = Assert.notNull(ticker, "ticker");
+    return this;
+  }
 }
@@ -17,6 +17,7 @@ package dev.failsafe;
 
 import dev.failsafe.event.EventListener;
 import dev.failsafe.event.CircuitBreakerStateChangedEvent;
+import dev.failsafe.spi.Ticker;
 
 import java.time.Duration;
 
@@ -33,15 +34,27 @@ import java.time.Duration;
 public class CircuitBreakerConfig<R> extends DelayablePolicyConfig<R> {
   // Failure config
   int failureThreshold;
-  int failureRateThreshold;
+  double failureRateThreshold;
   int failureThresholdingCapacity;
   int failureExecutionThreshold;
   Duration failureThresholdingPeriod;
+  Duration decayHalfLife;
+
+  // Slow call config
+  Duration slowCallDurationThreshold;
+  int slowCallRateThreshold;
 
   // Success config
   int successThreshold;
   int successThresholdingCapacity;
 
+  // Recovery config
+  int rampUpInitialPercentage;
+  Duration rampUpPeriod;
+
+  // Time
+  Ticker ticker = Ticker.SYSTEM;
+
   // Listeners
   EventListener<CircuitBreakerStateChangedEvent> openListener;
   EventListener<CircuitBreakerStateChangedEvent> halfOpenListener;
@@ -57,8 +70,14 @@ public class CircuitBreakerConfig<R> extends DelayablePolicyConfig<R> {
     failureThresholdingCapacity = config.failureThresholdingCapacity;
     failureExecutionThreshold = config.failureExecutionThreshold;
     failureThresholdingPeriod = config.failureThresholdingPeriod;
+    decayHalfLife = config.decayHalfLife;
+    slowCallDurationThreshold = config.slowCallDurationThreshold;
+    slowCallRateThreshold = config.slowCallRateThreshold;
     successThreshold = config.successThreshold;
     successThresholdingCapacity = config.successThresholdingCapacity;
+    rampUpInitialPercentage = config.rampUpInitialPercentage;
+    rampUpPeriod = config.rampUpPeriod;
+    ticker = config.ticker;
     openListener = config.openListener;
     halfOpenListener = config.halfOpenListener;
     closeListener = config.closeListener;
@@ -101,11 +120,24 @@ public class CircuitBreakerConfig<R> extends DelayablePolicyConfig<R> {
   /**
    * Used with time based thresholding. Returns percentage rate of failures, from 1 to 100, that must occur when in a
    * CLOSED or HALF_OPEN state in order to open the circuit, else {@code 0} if failure rate thresholding is not
-   * configured.
+   * configured. Fractional thresholds are rounded up to the next whole percentage.
    *
    * @see CircuitBreakerBuilder#withFailureRateThreshold(int, int, Duration)
+   * @deprecated Use {@link #getFailureRateThresholdPercentage()} instead, which supports fractional thresholds
    */
+  @Deprecated
   public int getFailureRateThreshold() {
+    return (int) Math.ceil(failureRateThreshold);
+  }
+
+  /**
+   * Used with time based thresholding. Returns percentage rate of failures, greater than 0 and up to 100, that must
+   * occur when in a CLOSED or HALF_OPEN state in order to open the circuit, else {@code 0} if failure rate thresholding
+   * is not configured.
+   *
+   * @see CircuitBreakerBuilder#withFailureRateThreshold(double, int, Duration)
+   */
+  public double getFailureRateThresholdPercentage() {
     return failureRateThreshold;
   }
 
@@ -122,9 +154,19 @@ public class CircuitBreakerConfig<R> extends DelayablePolicyConfig<R> {
     return failureThresholdingPeriod;
   }
 
+  /**
+   * Returns the half-life over which the weight of execution results decays when performing failure thresholding in the
+   * CLOSED state, else {@code null} if exponential decay is not configured.
+   *
+   * @see CircuitBreakerBuilder#withExponentialDecay(Duration)
+   */
+  public Duration getDecayHalfLife() {
+    return decayHalfLife;
+  }
+
   /**
    * Used with time based thresholding. Returns the minimum number of executions that must be recorded in the CLOSED
-   * state before the breaker can be opened. For {@link CircuitBreakerBuilder#withFailureRateThreshold(int, int,
+   * state before the breaker can be opened. For {@link CircuitBreakerBuilder#withFailureRateThreshold(double, int,
    * Duration) failure rate thresholding} this also determines the minimum number of executions that must be recorded in
    * the HALF_OPEN state. Returns {@code 0} by default.
    *
@@ -135,6 +177,26 @@ public class CircuitBreakerConfig<R> extends DelayablePolicyConfig<R> {
     return failureExecutionThreshold;
   }
 
+  /**
+   * Returns the duration beyond which an execution attempt is considered slow, else {@code null} if slow call
+   * thresholding is not configured.
+   *
+   * @see CircuitBreakerBuilder#withSlowCallThreshold(Duration, int)
+   */
+  public Duration getSlowCallDurationThreshold() {
+    return slowCallDurationThreshold;
+  }
+
+  /**
+   * Returns the percentage rate of slow executions, from 1 to 100, that must occur when in a CLOSED state in order to
+   * open the circuit, else {@code 0} if slow call thresholding is not configured.
+   *
+   * @see CircuitBreakerBuilder#withSlowCallThreshold(Duration, int)
+   */
+  public int getSlowCallRateThreshold() {
+    return slowCallRateThreshold;
+  }
+
   /**
    * Gets the number of successes that must occur within the {@link #getSuccessThresholdingCapacity() success
    * thresholding capacity} when in a HALF_OPEN state in order to open the circuit. Returns {@code 0} by default, in
@@ -158,6 +220,37 @@ public class CircuitBreakerConfig<R> extends DelayablePolicyConfig<R> {
     return successThresholdingCapacity;
   }
 
+  /**
+   * Returns the percentage of executions, from 1 to 99, that are permitted when the circuit first closes after being
+   * HALF_OPEN, if a {@link #getRampUpPeriod() ramp up period} is configured, else {@code 0}.
+   *
+   * @see CircuitBreakerBuilder#withRampUp(int, Duration)
+   */
+  public int getRampUpInitialPercentage() {
+    return rampUpInitialPercentage;
+  }
+
+  /**
+   * Returns the period over which the percentage of permitted executions grows from the {@link
+   * #getRampUpInitialPercentage() initial percentage} to 100 after the circuit closes from HALF_OPEN, else {@code null}
+   * if ramp up is not configured.
+   *
+   * @see CircuitBreakerBuilder#withRampUp(int, Duration)
+   */
+  public Duration getRampUpPeriod() {
+    return rampUpPeriod;
+  }
+
+  /**
+   * Returns the ticker that the circuit breaker reads the time from when performing time based thresholding and when
+   * computing delays. Defaults to {@link Ticker#SYSTEM}.
+   *
+   * @see CircuitBreakerBuilder#withTicker(Ticker)
+   */
+  public Ticker getTicker() {
+    return ticker;
+  }
+
   /**
    * Returns the open event listener.
    *
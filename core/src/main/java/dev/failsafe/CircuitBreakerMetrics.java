@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+import dev.failsafe.CircuitBreaker.State;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * An immutable snapshot of a {@link CircuitBreaker}'s state and execution metrics, taken via {@link
+ * CircuitBreaker#getMetrics()}. The counts and rates in a snapshot are read together, so they are consistent with
+ * each other and with the state.
+ * <p>
+ * Implementations are threadsafe.
+ * </p>
+ *
+ * @see CircuitBreaker#getMetrics()
+ */
+public interface CircuitBreakerMetrics {
+  /**
+   * Returns the state of the circuit when the snapshot was taken.
+   */
+  State getState();
+
+  /**
+   * Returns the number of executions recorded. See {@link CircuitBreaker#getExecutionCount()}.
+   */
+  int getExecutionCount();
+
+  /**
+   * Returns the number of successes recorded. See {@link CircuitBreaker#getSuccessCount()}.
+   */
+  int getSuccessCount();
+
+  /**
+   * Returns the number of failures recorded. See {@link CircuitBreaker#getFailureCount()}.
+   */
+  int getFailureCount();
+
+  /**
+   * Returns the percentage rate of successful executions, from 0 to 100. See {@link CircuitBreaker#getSuccessRate()}.
+   */
+  int getSuccessRate();
+
+  /**
+   * Returns the percentage rate of failed executions, from 0 to 100. See {@link CircuitBreaker#getFailureRate()}.
+   */
+  int getFailureRate();
+
+  /**
+   * Returns the number of executions, either successes or failures, that were slow. Only recorded when {@link
+   * CircuitBreakerBuilder#withSlowCallThreshold(Duration, int) slow call thresholding} is configured.
+   */
+  int getSlowCallCount();
+
+  /**
+   * Returns the percentage rate of slow executions, from 0 to 100.
+   */
+  int getSlowCallRate();
+
+  /**
+   * Returns the start of the window that the counts were recorded within when the circuit is using a {@link
+   * CircuitBreakerConfig#getFailureThresholdingPeriod() failure thresholding period}, else {@code null} if the counts
+   * are not time based or no executions have been recorded.
+   */
+  Instant getWindowStartTime();
+
+  /**
+   * Returns the remaining delay until the circuit is half-opened when the state is OPEN, else {@code Duration.ZERO}.
+   * See {@link CircuitBreaker#getRemainingDelay()}.
+   */
+  Duration getRemainingDelay();
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+/**
+ * A registry of {@link CircuitBreaker CircuitBreakers} that are lazily created for keys, such as downstream hosts or
+ * tenants, from a shared {@link CircuitBreakerConfig}.
+ * <p>
+ * A registry can be bounded by a {@link CircuitBreakerRegistryBuilder#withMaxSize(int) max size} and an {@link
+ * CircuitBreakerRegistryBuilder#withIdleTimeout(java.time.Duration) idle timeout}, in which case circuit breakers that
+ * are closed, or open with their delay elapsed, and have not been recently obtained from the registry are evicted.
+ * Circuit breakers that are half-open or still within their open delay are never evicted. An evicted circuit breaker
+ * remains usable by anyone holding it, but a subsequent call to {@link #getOrCreate(Object)} for the same key will
+ * create a new circuit breaker.
+ * </p>
+ * <p>
+ * Lookups of existing circuit breakers do not lock.
+ * </p>
+ * <p>
+ * This class is threadsafe.
+ * </p>
+ *
+ * @param <K> key type
+ * @param <R> result type
+ * @see CircuitBreakerRegistryBuilder
+ */
+public interface CircuitBreakerRegistry<K, R> {
+  /**
+   * Creates a CircuitBreakerRegistryBuilder that will build a registry of circuit breakers based on the {@code config}.
+   * By default, the registry is unbounded.
+   *
+   * @throws NullPointerException if {@code config} is null
+   */
+  static <R> CircuitBreakerRegistryBuilder<R> builder(CircuitBreakerConfig<R> config) {
+    return new CircuitBreakerRegistryBuilder<>(config);
+  }
+
+  /**
+   * Returns the config that circuit breakers in the registry are created from.
+   */
+  CircuitBreakerConfig<R> getConfig();
+
+  /**
+   * Returns the circuit breaker for the {@code key}, creating it if one does not already exist.
+   *
+   * @throws NullPointerException if {@code key} is null
+   */
+  CircuitBreaker<R> getOrCreate(K key);
+
+  /**
+   * Returns the circuit breaker for the {@code key}, else {@code null} if one does not exist. Unlike {@link
+   * #getOrCreate(Object)}, this does not count as a use of the circuit breaker when determining whether it's idle.
+   *
+   * @throws NullPointerException if {@code key} is null
+   */
+  CircuitBreaker<R> get(K key);
+
+  /**
+   * Removes and returns the circuit breaker for the {@code key}, else returns {@code null} if one does not exist.
+   *
+   * @throws NullPointerException if {@code key} is null
+   */
+  CircuitBreaker<R> remove(K key);
+
+  /**
+   * Returns the number of circuit breakers in the registry.
+   */
+  int size();
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+import dev.failsafe.internal.CircuitBreakerRegistryImpl;
+import dev.failsafe.internal.util.Assert;
+import dev.failsafe.internal.util.Durations;
+
+import java.time.Duration;
+
+/**
+ * Builds {@link CircuitBreakerRegistry} instances.
+ * <p>
+ * This class is <i>not</i> threadsafe.
+ * </p>
+ *
+ * @param <R> result type
+ * @see CircuitBreakerRegistry
+ */
+public class CircuitBreakerRegistryBuilder<R> {
+  private final CircuitBreakerConfig<R> config;
+  private int maxSize = Integer.MAX_VALUE;
+  private Duration idleTimeout;
+
+  CircuitBreakerRegistryBuilder(CircuitBreakerConfig<R> config) {
+    this.config = new CircuitBreakerConfig<>(Assert.notNull(config, "config"));
+  }
+
+  /**
+   * Builds a new {@link CircuitBreakerRegistry} using the builder's configuration.
+   */
+  public <K> CircuitBreakerRegistry<K, R> build() {
+    return new CircuitBreakerRegistryImpl<>(new CircuitBreakerConfig<>(config), maxSize,
+      idleTimeout == null ? -1 : idleTimeout.toNanos());
+  }
+
+  /**
+   * Sets the {@code maxSize} beyond which the least recently used evictable circuit breakers are evicted. Since
+   * half-open circuit breakers and open circuit breakers whose delay has not elapsed are not evicted, the registry may
+   * temporarily exceed the {@code maxSize}.
+   *
+   * @throws IllegalArgumentException if {@code maxSize} < 1
+   */
+  public CircuitBreakerRegistryBuilder<R> withMaxSize(int maxSize) {
+    Assert.isTrue(maxSize >= 1, "maxSize must be >= 1");
+    this.maxSize = maxSize;
+    return this;
+  }
+
+  /**
+   * Sets the {@code idleTimeout} after which closed circuit breakers, and open circuit breakers whose delay has
+   * elapsed, that have not been obtained via {@link CircuitBreakerRegistry#getOrCreate(Object)} are evicted.
+   *
+   * @throws NullPointerException if {@code idleTimeout} is null
+   * @throws IllegalArgumentException if {@code idleTimeout} <= 0
+   */
+  public CircuitBreakerRegistryBuilder<R> withIdleTimeout(Duration idleTimeout) {
+    Assert.notNull(idleTimeout, "idleTimeout");
+    idleTimeout = Durations.ofSafeNanos(idleTimeout);
+    Assert.isTrue(idleTimeout.toNanos() > 0, "idleTimeout must be > 0");
+    this.idleTimeout = idleTimeout;
+    return this;
+  }
+}
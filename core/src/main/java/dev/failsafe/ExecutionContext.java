@@ -36,14 +36,34 @@ public interface ExecutionContext<R> {
 
   /**
    * Returns the elapsed time since initial execution began.
+   *
+   * @see #getElapsedNanos()
    */
   Duration getElapsedTime();
 
+  /**
+   * Returns the elapsed time in nanoseconds since initial execution began. Unlike {@link #getElapsedTime()}, Failsafe's
+   * executions implement this without allocating.
+   */
+  default long getElapsedNanos() {
+    return getElapsedTime().toNanos();
+  }
+
   /**
    * Returns the elapsed time since the last execution attempt began.
+   *
+   * @see #getElapsedAttemptNanos()
    */
   Duration getElapsedAttemptTime();
 
+  /**
+   * Returns the elapsed time in nanoseconds since the last execution attempt began. Unlike {@link
+   * #getElapsedAttemptTime()}, Failsafe's executions implement this without allocating.
+   */
+  default long getElapsedAttemptNanos() {
+    return getElapsedAttemptTime().toNanos();
+  }
+
   /**
    * Gets the number of execution attempts so far, including attempts that are blocked before being executed, such as
    * when a {@link CircuitBreaker} is open. Will return {@code 0} when the first attempt is in progress or has yet to
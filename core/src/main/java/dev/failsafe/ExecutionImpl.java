@@ -20,6 +20,7 @@ import dev.failsafe.internal.util.Assert;
 import dev.failsafe.spi.ExecutionInternal;
 import dev.failsafe.spi.ExecutionResult;
 import dev.failsafe.spi.PolicyExecutor;
+import dev.failsafe.spi.Ticker;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -39,8 +40,14 @@ class ExecutionImpl<R> implements ExecutionInternal<R> {
   // -- Cross-attempt state --
 
   final List<PolicyExecutor<R>> policyExecutors;
-  // When the first execution attempt was started
-  private volatile Instant startTime;
+  // Reads the time for the execution
+  private final Ticker ticker;
+  // Whether the first execution attempt was started
+  private volatile boolean started;
+  // When the first execution attempt was started, in ticker nanos
+  private volatile long startNanos;
+  // When the first execution attempt was started, in wall clock millis
+  private volatile long startTimeMillis;
   // Number of execution attempts
   private final AtomicInteger attempts;
   // Number of completed executions
@@ -54,8 +61,8 @@ class ExecutionImpl<R> implements ExecutionInternal<R> {
   private final ExecutionResult<R> previousResult;
   // The result of the current execution attempt;
   volatile ExecutionResult<R> result;
-  // When the most recent execution attempt was started
-  private volatile Instant attemptStartTime;
+  // When the most recent execution attempt was started, in ticker nanos
+  private volatile long attemptStartNanos;
   // The index of a PolicyExecutor that cancelled the execution. Integer.MIN_VALUE represents non-cancelled.
   volatile int cancelledIndex = Integer.MIN_VALUE;
   // The user-provided callback to be called when an execution is cancelled
@@ -68,10 +75,11 @@ class ExecutionImpl<R> implements ExecutionInternal<R> {
   volatile boolean completed;
 
   /**
-   * Creates a new execution for the {@code policies}.
+   * Creates a new execution for the {@code policies} that reads the time from the {@code ticker}.
    */
-  ExecutionImpl(List<? extends Policy<R>> policies) {
+  ExecutionImpl(List<? extends Policy<R>> policies, Ticker ticker) {
     policyExecutors = new ArrayList<>(policies.size());
+    this.ticker = ticker;
     attempts = new AtomicInteger();
     executions = new AtomicInteger();
     latest = new AtomicReference<>(this);
@@ -91,7 +99,10 @@ class ExecutionImpl<R> implements ExecutionInternal<R> {
    */
   ExecutionImpl(ExecutionImpl<R> execution) {
     policyExecutors = execution.policyExecutors;
-    startTime = execution.startTime;
+    ticker = execution.ticker;
+    started = execution.started;
+    startNanos = execution.startNanos;
+    startTimeMillis = execution.startTimeMillis;
     attempts = execution.attempts;
     executions = execution.executions;
     latest = execution.latest;
@@ -102,6 +113,7 @@ class ExecutionImpl<R> implements ExecutionInternal<R> {
   /** Used for testing purposes only */
   ExecutionImpl(ExecutionResult<R> previousResult) {
     policyExecutors = null;
+    ticker = Ticker.SYSTEM;
     attempts = new AtomicInteger();
     executions = new AtomicInteger();
     latest = new AtomicReference<>(this);
@@ -121,9 +133,12 @@ class ExecutionImpl<R> implements ExecutionInternal<R> {
   @Override
   public synchronized void preExecute() {
     if (!preExecuted) {
-      attemptStartTime = Instant.now();
-      if (startTime == null)
-        startTime = attemptStartTime;
+      attemptStartNanos = ticker.nanoTime();
+      if (!started) {
+        startNanos = attemptStartNanos;
+        startTimeMillis = ticker.currentTimeMillis();
+        started = true;
+      }
       preExecuted = true;
     }
   }
@@ -219,12 +234,22 @@ class ExecutionImpl<R> implements ExecutionInternal<R> {
 
   @Override
   public Duration getElapsedTime() {
-    return startTime == null ? Duration.ZERO : Duration.between(startTime, Instant.now());
+    return started ? Duration.ofNanos(getElapsedNanos()) : Duration.ZERO;
+  }
+
+  @Override
+  public long getElapsedNanos() {
+    return started ? ticker.nanoTime() - startNanos : 0;
   }
 
   @Override
   public Duration getElapsedAttemptTime() {
-    return attemptStartTime == null ? Duration.ZERO : Duration.between(attemptStartTime, Instant.now());
+    return preExecuted ? Duration.ofNanos(getElapsedAttemptNanos()) : Duration.ZERO;
+  }
+
+  @Override
+  public long getElapsedAttemptNanos() {
+    return preExecuted ? ticker.nanoTime() - attemptStartNanos : 0;
   }
 
   @Override
@@ -258,7 +283,7 @@ class ExecutionImpl<R> implements ExecutionInternal<R> {
 
   @Override
   public Instant getStartTime() {
-    return startTime;
+    return started ? Instant.ofEpochMilli(startTimeMillis) : null;
   }
 
   @Override
@@ -24,6 +24,7 @@ import dev.failsafe.spi.AsyncExecutionInternal;
 import dev.failsafe.spi.ExecutionResult;
 import dev.failsafe.spi.FailsafeFuture;
 import dev.failsafe.spi.Scheduler;
+import dev.failsafe.spi.Ticker;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -49,6 +50,7 @@ import static dev.failsafe.Functions.*;
  */
 public class FailsafeExecutor<R> {
   private Scheduler scheduler = Scheduler.DEFAULT;
+  private Ticker ticker = Ticker.SYSTEM;
   private Executor executor;
   /** Policies sorted outermost first */
   final List<? extends Policy<R>> policies;
@@ -366,12 +368,24 @@ public class FailsafeExecutor<R> {
     return this;
   }
 
+  /**
+   * Configures the {@code ticker} to use for reading execution start times and elapsed times. Defaults to {@link
+   * Ticker#SYSTEM}.
+   *
+   * @throws NullPointerException if {@code ticker} is null
+   * @see Ticker#coarse()
+   */
+  public FailsafeExecutor<R> with(Ticker ticker) {
+    this.ticker = Assert.notNull(ticker, "ticker");
+    return this;
+  }
+
   /**
    * Calls the {@code innerSupplier} synchronously, handling results according to the configured policies.
    */
   @SuppressWarnings({ "unchecked", "rawtypes" })
   private <T> T call(ContextualSupplier<T, T> innerSupplier) {
-    SyncExecutionImpl<T> execution = new SyncExecutionImpl(this, scheduler, null,
+    SyncExecutionImpl<T> execution = new SyncExecutionImpl(this, scheduler, ticker, null,
       Functions.get(innerSupplier, executor));
     return execution.executeSync();
   }
@@ -383,7 +397,7 @@ public class FailsafeExecutor<R> {
   @SuppressWarnings({ "unchecked", "rawtypes" })
   private <T> Call<T> callSync(ContextualSupplier<T, T> innerSupplier) {
     CallImpl<T> call = new CallImpl<>();
-    new SyncExecutionImpl(this, scheduler, call, Functions.get(innerSupplier, executor));
+    new SyncExecutionImpl(this, scheduler, ticker, call, Functions.get(innerSupplier, executor));
     return call;
   }
 
@@ -401,7 +415,7 @@ public class FailsafeExecutor<R> {
     boolean asyncExecution) {
 
     FailsafeFuture<T> future = new FailsafeFuture(completionHandler);
-    AsyncExecutionImpl<T> execution = new AsyncExecutionImpl(policies, scheduler, future, asyncExecution,
+    AsyncExecutionImpl<T> execution = new AsyncExecutionImpl(policies, scheduler, ticker, future, asyncExecution,
       innerFn.apply(future));
     future.setExecution(execution);
     execution.executeAsync();
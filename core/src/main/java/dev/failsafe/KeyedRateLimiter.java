@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+import java.util.function.Function;
+
+/**
+ * A rate limiter that lazily creates a separate {@link RateLimiter} for each key, such as an API key or tenant, from a
+ * shared {@link RateLimiterConfig}.
+ * <p>
+ * A keyed rate limiter can be used standalone, by obtaining the rate limiter for a key via {@link #getOrCreate(Object)},
+ * or as a {@link Policy}, in which case the key for each execution is resolved via the {@link
+ * KeyedRateLimiterBuilder#build(Function) key resolver} that it was built with.
+ * </p>
+ * <p>
+ * A keyed rate limiter can be bounded by a {@link KeyedRateLimiterBuilder#withMaxSize(int) max size} and an {@link
+ * KeyedRateLimiterBuilder#withIdleTimeout(java.time.Duration) idle timeout}, in which case rate limiters whose permits
+ * are all available, and which have not been recently obtained, are evicted. Since a rate limiter with all of its
+ * permits available behaves the same as a new rate limiter, eviction does not change how executions are limited. An
+ * evicted rate limiter remains usable by anyone holding it, but a subsequent call to {@link #getOrCreate(Object)} for
+ * the same key will create a new rate limiter.
+ * </p>
+ * <p>
+ * Rate limiters for each key do not use {@link RateLimiterBuilder#withPermitLeasing(int, java.time.Duration) permit
+ * leasing}, even if the config has it, since leases are held per thread for each rate limiter.
+ * </p>
+ * <p>
+ * Lookups of existing rate limiters do not lock.
+ * </p>
+ * <p>
+ * This class is threadsafe.
+ * </p>
+ *
+ * @param <K> key type
+ * @param <R> result type
+ * @see KeyedRateLimiterBuilder
+ */
+public interface KeyedRateLimiter<K, R> extends Policy<R> {
+  /**
+   * Creates a KeyedRateLimiterBuilder that will build a keyed rate limiter whose rate limiters are based on the {@code
+   * config}. By default, the keyed rate limiter is unbounded.
+   *
+   * @throws NullPointerException if {@code config} is null
+   */
+  static <R> KeyedRateLimiterBuilder<R> builder(RateLimiterConfig<R> config) {
+    return new KeyedRateLimiterBuilder<>(config);
+  }
+
+  /**
+   * Returns the config that rate limiters for each key are created from.
+   */
+  @Override
+  RateLimiterConfig<R> getConfig();
+
+  /**
+   * Returns the rate limiter for the {@code key}, creating it if one does not already exist.
+   *
+   * @throws NullPointerException if {@code key} is null
+   */
+  RateLimiter<R> getOrCreate(K key);
+
+  /**
+   * Returns the rate limiter for the {@code key}, else {@code null} if one does not exist. Unlike {@link
+   * #getOrCreate(Object)}, this does not count as a use of the rate limiter when determining whether it's idle.
+   *
+   * @throws NullPointerException if {@code key} is null
+   */
+  RateLimiter<R> get(K key);
+
+  /**
+   * Removes and returns the rate limiter for the {@code key}, else returns {@code null} if one does not exist.
+   *
+   * @throws NullPointerException if {@code key} is null
+   */
+  RateLimiter<R> remove(K key);
+
+  /**
+   * Returns the number of rate limiters that currently exist.
+   */
+  int size();
+}
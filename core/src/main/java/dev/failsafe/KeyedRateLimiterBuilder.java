@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+import dev.failsafe.internal.KeyedRateLimiterImpl;
+import dev.failsafe.internal.util.Assert;
+import dev.failsafe.internal.util.Durations;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Builds {@link KeyedRateLimiter} instances.
+ * <p>
+ * This class is <i>not</i> threadsafe.
+ * </p>
+ *
+ * @param <R> result type
+ * @see KeyedRateLimiter
+ */
+public class KeyedRateLimiterBuilder<R> {
+  private final RateLimiterConfig<R> config;
+  private int maxSize = Integer.MAX_VALUE;
+  private Duration idleTimeout;
+
+  KeyedRateLimiterBuilder(RateLimiterConfig<R> config) {
+    this.config = new RateLimiterConfig<>(Assert.notNull(config, "config"));
+  }
+
+  /**
+   * Builds a new {@link KeyedRateLimiter} using the builder's configuration. The resulting keyed rate limiter can only
+   * be used standalone. To use a keyed rate limiter as a {@link Policy}, use {@link #build(Function)} instead.
+   */
+  public <K> KeyedRateLimiter<K, R> build() {
+    return new KeyedRateLimiterImpl<>(new RateLimiterConfig<>(config), null, maxSize,
+      idleTimeout == null ? -1 : idleTimeout.toNanos());
+  }
+
+  /**
+   * Builds a new {@link KeyedRateLimiter} using the builder's configuration, which can also be used as a {@link Policy}.
+   * When used as a Policy, the {@code keyResolver} is called with each execution attempt to resolve the key whose rate
+   * limiter the attempt is performed against, such as a key read from the current request's context.
+   *
+   * @throws NullPointerException if {@code keyResolver} is null
+   */
+  public <K> KeyedRateLimiter<K, R> build(Function<? super ExecutionContext<R>, ? extends K> keyResolver) {
+    return new KeyedRateLimiterImpl<>(new RateLimiterConfig<>(config), Assert.notNull(keyResolver, "keyResolver"),
+      maxSize, idleTimeout == null ? -1 : idleTimeout.toNanos());
+  }
+
+  /**
+   * Sets the {@code maxSize} beyond which the least recently used rate limiters that have all of their permits
+   * available are evicted. Since other rate limiters are not evicted, the keyed rate limiter may temporarily exceed the
+   * {@code maxSize}.
+   *
+   * @throws IllegalArgumentException if {@code maxSize} < 1
+   */
+  public KeyedRateLimiterBuilder<R> withMaxSize(int maxSize) {
+    Assert.isTrue(maxSize >= 1, "maxSize must be >= 1");
+    this.maxSize = maxSize;
+    return this;
+  }
+
+  /**
+   * Sets the {@code idleTimeout} after which rate limiters that have all of their permits available, and that have not
+   * been obtained via {@link KeyedRateLimiter#getOrCreate(Object)} or used by an execution, are evicted.
+   *
+   * @throws NullPointerException if {@code idleTimeout} is null
+   * @throws IllegalArgumentException if {@code idleTimeout} <= 0
+   */
+  public KeyedRateLimiterBuilder<R> withIdleTimeout(Duration idleTimeout) {
+    Assert.notNull(idleTimeout, "idleTimeout");
+    idleTimeout = Durations.ofSafeNanos(idleTimeout);
+    Assert.isTrue(idleTimeout.toNanos() > 0, "idleTimeout must be > 0");
+    this.idleTimeout = idleTimeout;
+    return this;
+  }
+}
@@ -16,21 +16,38 @@
 package dev.failsafe;
 
 /**
- * Thrown when an execution exceeds or would exceed a {@link RateLimiter}.
+ * Thrown when an execution exceeds or would exceed a {@link RateLimiter} or {@link AdaptiveRateLimiter}.
  *
  * @author Jonathan Halterman
  */
 public class RateLimitExceededException extends FailsafeException {
   private static final long serialVersionUID = 1L;
 
-  private final RateLimiter<?> rateLimiter;
+  private final Policy<?> rateLimiter;
 
   public RateLimitExceededException(RateLimiter<?> rateLimiter) {
     this.rateLimiter = rateLimiter;
   }
 
-  /** Returns the {@link RateLimiter} that caused the exception. */
+  public RateLimitExceededException(AdaptiveRateLimiter<?> rateLimiter) {
+    this.rateLimiter = rateLimiter;
+  }
+
+  /**
+   * Returns the {@link RateLimiter} that caused the exception, else {@code null} if the exception was caused by an
+   * {@link AdaptiveRateLimiter}.
+   *
+   * @see #getPolicy()
+   */
   public RateLimiter<?> getRateLimiter() {
+    return rateLimiter instanceof RateLimiter ? (RateLimiter<?>) rateLimiter : null;
+  }
+
+  /**
+   * Returns the rate limiting policy that caused the exception, which is either a {@link RateLimiter} or an {@link
+   * AdaptiveRateLimiter}.
+   */
+  public Policy<?> getPolicy() {
     return rateLimiter;
   }
 }
@@ -15,14 +15,21 @@
  */
 package dev.failsafe;
 
+import dev.failsafe.internal.util.Assert;
+import dev.failsafe.spi.Scheduler;
+
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A rate limiter allows you to control the rate of executions as a way of preventing system overload.
  * <p>
- * There are two types of rate limiting: <i>smooth</i> and <i>bursty</i>. <i>Smooth</i> rate limiting will evenly spread
- * out execution requests over-time, effectively smoothing out uneven execution request rates. <i>Bursty</i> rate
- * limiting allows potential bursts of executions to occur, up to a configured max per time period.</p>
+ * There are three types of rate limiting: <i>smooth</i>, <i>bursty</i>, and <i>token bucket</i>. <i>Smooth</i> rate
+ * limiting will evenly spread out execution requests over-time, effectively smoothing out uneven execution request
+ * rates. <i>Bursty</i> rate limiting allows potential bursts of executions to occur, up to a configured max per time
+ * period. <i>Token bucket</i> rate limiting continuously refills permits at a configured rate, up to a configured
+ * capacity, allowing bursts of up to the capacity.</p>
  * <p>Rate limiting is based on permits, which can be requested in order to perform rate limited execution.
  * Permits are automatically refreshed over time based on the rate limiter's configuration.</p>
  * <p>
@@ -121,6 +128,54 @@ public interface RateLimiter<R> extends Policy<R> {
     return new RateLimiterBuilder<>(maxExecutions, period);
   }
 
+  /**
+   * Returns a token bucket {@link RateLimiterBuilder} for the {@code refillPermits} per {@code refillPeriod} and the
+   * {@code capacity}. The individual refill rate is computed as {@code refillPeriod / refillPermits}. For example, with
+   * {@code refillPermits} of {@code 100}, a {@code refillPeriod} of {@code 1000 millis}, and a {@code capacity} of
+   * {@code 20}, a permit is refilled every 10 millis and up to 20 executions can be performed in a burst.
+   * <p>By default, the returned {@link RateLimiterBuilder} will have a {@link RateLimiterBuilder#withMaxWaitTime max
+   * wait time} of {@code 0}.
+   *
+   * @param refillPermits The number of permits that are refilled per {@code refillPeriod}
+   * @param refillPeriod The period over which the {@code refillPermits} are refilled
+   * @param capacity The max number of permits that the bucket can hold
+   * @throws NullPointerException if {@code refillPeriod} is null
+   * @throws IllegalArgumentException if {@code refillPermits} or {@code capacity} are < 1, or the computed refill rate
+   * is <= 0
+   * @see #tokenBucketBuilder(Duration, long)
+   */
+  static <R> RateLimiterBuilder<R> tokenBucketBuilder(long refillPermits, Duration refillPeriod, long capacity) {
+    Assert.notNull(refillPeriod, "refillPeriod");
+    Assert.isTrue(refillPermits > 0, "refillPermits must be > 0");
+    return tokenBucketBuilder(refillPeriod.dividedBy(refillPermits), capacity);
+  }
+
+  /**
+   * Returns a token bucket {@link RateLimiterBuilder} for the {@code refillRate} and {@code capacity}. Permits are
+   * refilled into the bucket continuously, one per {@code refillRate}, up to the {@code capacity}. Each execution takes a
+   * permit from the bucket. For example, a {@code refillRate} of {@code Duration.ofMillis(10)} with a {@code capacity}
+   * of {@code 20} would allow bursts of up to 20 executions, and a sustained rate of one execution every 10
+   * milliseconds.
+   * <p>By default, the returned {@link RateLimiterBuilder} will have a {@link RateLimiterBuilder#withMaxWaitTime max
+   * wait time} of {@code 0}.
+   * <p>
+   * Unlike a {@link #burstyBuilder(long, Duration) bursty} rate limiter, whose permits are reset at the start of each
+   * period, permits are refilled continuously, and unlike a {@link #smoothBuilder(Duration) smooth} rate limiter,
+   * unused permits accumulate to allow bursts. A {@link RateLimiterBuilder#withWarmUp(Duration) warm up period} can
+   * also be configured.
+   *
+   * @param refillRate at which individual permits are refilled into the bucket
+   * @param capacity The max number of permits that the bucket can hold
+   * @throws NullPointerException if {@code refillRate} is null
+   * @throws IllegalArgumentException if {@code refillRate} is <= 0 or {@code capacity} is < 1
+   */
+  static <R> RateLimiterBuilder<R> tokenBucketBuilder(Duration refillRate, long capacity) {
+    Assert.notNull(refillRate, "refillRate");
+    Assert.isTrue(refillRate.toNanos() > 0, "refillRate must be > 0");
+    Assert.isTrue(capacity > 0, "capacity must be > 0");
+    return new RateLimiterBuilder<>(refillRate, capacity);
+  }
+
   /**
    * Creates a new RateLimiterBuilder that will be based on the {@code config}.
    */
@@ -187,6 +242,74 @@ public interface RateLimiter<R> extends Policy<R> {
       throw new RateLimitExceededException(this);
   }
 
+  /**
+   * Attempts to acquire a permit to perform an execution against the rate limiter without blocking, returning a
+   * CompletableFuture that is completed by a shared scheduler when the permit is available. Cancelling the returned
+   * future before the permit is available releases the reserved permit back to the rate limiter.
+   *
+   * @see #acquirePermit()
+   */
+  default CompletableFuture<Void> acquirePermitAsync() {
+    return acquirePermitsAsync(1);
+  }
+
+  /**
+   * Attempts to acquire the requested {@code permits} to perform executions against the rate limiter without blocking,
+   * returning a CompletableFuture that is completed by a shared scheduler when the {@code permits} are available.
+   * Cancelling the returned future before the {@code permits} are available releases the reserved {@code permits} back
+   * to the rate limiter.
+   *
+   * <p>
+   * The default implementation delegates to {@link #acquirePermitsAsync(int, Duration)} without a max wait time.
+   * </p>
+   *
+   * @throws IllegalArgumentException if {@code permits} is < 1
+   * @see #acquirePermits(int)
+   */
+  default CompletableFuture<Void> acquirePermitsAsync(int permits) {
+    return acquirePermitsAsync(permits, Duration.ofNanos(Long.MAX_VALUE));
+  }
+
+  /**
+   * Attempts to acquire a permit to perform an execution against the rate limiter without blocking, returning a
+   * CompletableFuture that is completed by a shared scheduler when the permit is available, else is completed
+   * exceptionally with {@link RateLimitExceededException} if a permit will not be available within the {@code
+   * maxWaitTime}.
+   *
+   * @throws NullPointerException if {@code maxWaitTime} is null
+   * @see #acquirePermit(Duration)
+   */
+  default CompletableFuture<Void> acquirePermitAsync(Duration maxWaitTime) {
+    return acquirePermitsAsync(1, maxWaitTime);
+  }
+
+  /**
+   * Attempts to acquire the requested {@code permits} to perform executions against the rate limiter without blocking,
+   * returning a CompletableFuture that is completed by a shared scheduler when the {@code permits} are available, else
+   * is completed exceptionally with {@link RateLimitExceededException} if the {@code permits} will not be available
+   * within the {@code maxWaitTime}.
+   * <p>
+   * The default implementation {@link #tryReservePermits(int, Duration) reserves} the {@code permits} and completes the
+   * future via the {@link Scheduler#DEFAULT default scheduler}, but does not release the reserved {@code permits} if
+   * the future is cancelled.
+   * </p>
+   *
+   * @throws IllegalArgumentException if {@code permits} is < 1
+   * @throws NullPointerException if {@code maxWaitTime} is null
+   * @see #acquirePermits(int, Duration)
+   */
+  default CompletableFuture<Void> acquirePermitsAsync(int permits, Duration maxWaitTime) {
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    long waitNanos = tryReservePermits(permits, maxWaitTime).toNanos();
+    if (waitNanos == -1)
+      future.completeExceptionally(new RateLimitExceededException(this));
+    else if (waitNanos == 0)
+      future.complete(null);
+    else
+      Scheduler.DEFAULT.schedule(() -> future.complete(null), waitNanos, TimeUnit.NANOSECONDS);
+    return future;
+  }
+
   /**
    * Returns whether the rate limiter is smooth.
    *
@@ -206,6 +329,16 @@ public interface RateLimiter<R> extends Policy<R> {
     return getConfig().getPeriod() != null;
   }
 
+  /**
+   * Returns whether the rate limiter is a token bucket.
+   *
+   * @see #tokenBucketBuilder(Duration, long)
+   * @see #tokenBucketBuilder(long, Duration, long)
+   */
+  default boolean isTokenBucket() {
+    return getConfig().getRefillRate() != null;
+  }
+
   /**
    * Reserves a permit to perform an execution against the rate limiter, and returns the time that the caller is
    * expected to wait before acting on the permit. Returns {@code 0} if the permit is immediately available and no
@@ -17,6 +17,7 @@ package dev.failsafe;
 
 import dev.failsafe.internal.RateLimiterImpl;
 import dev.failsafe.internal.util.Assert;
+import dev.failsafe.spi.Ticker;
 
 import java.time.Duration;
 
@@ -42,6 +43,11 @@ public class RateLimiterBuilder<R> extends PolicyBuilder<RateLimiterBuilder<R>,
     config.maxWaitTime = Duration.ZERO;
   }
 
+  RateLimiterBuilder(Duration refillRate, long capacity) {
+    super(new RateLimiterConfig<>(refillRate, capacity));
+    config.maxWaitTime = Duration.ZERO;
+  }
+
   RateLimiterBuilder(RateLimiterConfig<R> config) {
     super(new RateLimiterConfig<>(config));
   }
@@ -67,4 +73,82 @@ public class RateLimiterBuilder<R> extends PolicyBuilder<RateLimiterBuilder<R>,
     config.maxWaitTime = Assert.notNull(maxWaitTime, "maxWaitTime");
     return this;
   }
+
+  /**
+   * Configures a {@code warmUpPeriod} for token bucket rate limiters, over which the permitted rate climbs gradually
+   * after the rate limiter has been idle. A rate limiter is considered idle, or cold, when its bucket has been full for
+   * at least the {@code warmUpPeriod}, as is the case when it's first created. While warming up, permits are not
+   * available in bursts, and the permitted rate climbs linearly from one third of the {@link
+   * RateLimiterConfig#getRefillRate() refill rate} up to the full refill rate. This allows cold downstream resources,
+   * such as caches, to warm up without being flooded.
+   *
+   * @throws NullPointerException if {@code warmUpPeriod} is null
+   * @throws IllegalArgumentException if {@code warmUpPeriod} is <= 0
+   * @throws IllegalStateException if the rate limiter is not a token bucket rate limiter
+   */
+  public RateLimiterBuilder<R> withWarmUp(Duration warmUpPeriod) {
+    Assert.notNull(warmUpPeriod, "warmUpPeriod");
+    Assert.isTrue(warmUpPeriod.toNanos() > 0, "warmUpPeriod must be > 0");
+    Assert.state(config.refillRate != null, "warm up is only supported for token bucket rate limiters");
+    config.warmUpPeriod = warmUpPeriod;
+    return this;
+  }
+
+  /**
+   * Configures threads to lease batches of {@code leaseSize} permits at a time, which are then used by the thread
+   * without contending with other threads. This reduces contention for rate limiters that are acquired from very
+   * frequently by many threads, at the cost of accuracy.
+   * <p>
+   * A batch is leased when it can be acquired within the {@code leaseDuration}, which is also how long the leased
+   * permits remain usable. Since leased permits are used immediately, each thread may run ahead of the rate limiter by
+   * up to the {@code leaseDuration}, so the {@code leaseDuration} should be short relative to the rate. When a batch
+   * cannot be leased, or when more permits than the {@code leaseSize} are requested, permits are acquired as usual.
+   * Permits that are unused when a lease expires are released the next time the thread acquires a permit. Those held
+   * by threads that stop acquiring permits are released by other threads that acquire permits after the lease expires,
+   * within about one {@code leaseDuration} of its expiration.
+   * </p>
+   *
+   * @throws IllegalArgumentException if {@code leaseSize} < 2 or {@code leaseDuration} <= 0
+   * @throws NullPointerException if {@code leaseDuration} is null
+   */
+  public RateLimiterBuilder<R> withPermitLeasing(int leaseSize, Duration leaseDuration) {
+    Assert.isTrue(leaseSize >= 2, "leaseSize must be >= 2");
+    Assert.notNull(leaseDuration, "leaseDuration");
+    Assert.isTrue(leaseDuration.toNanos() > 0, "leaseDuration must be > 0");
+    config.leaseSize = leaseSize;
+    config.leaseDuration = leaseDuration;
+    return this;
+  }
+
+  /**
+   * Configures a {@code parent} rate limiter that permits must also be acquired from, such as a global rate limiter that
+   * is shared by several per-client rate limiters. Permits are only reserved when they can be acquired from both the
+   * rate limiter and its parent within the max wait time, in which case the wait time is the longer of the two. If
+   * either cannot provide permits in time, then no permits are reserved from either, so that a rejection by one rate
+   * limiter does not consume the other's permits.
+   * <p>
+   * Parent rate limiters can have parents of their own. Permits released by a rate limiter, such as when waiting for
+   * them is cancelled, are also released to its parent.
+   * </p>
+   *
+   * @throws NullPointerException if {@code parent} is null
+   * @throws IllegalArgumentException if {@code parent} was not built by a {@link RateLimiterBuilder}
+   */
+  public RateLimiterBuilder<R> withParent(RateLimiter<?> parent) {
+    Assert.notNull(parent, "parent");
+    Assert.isTrue(parent instanceof RateLimiterImpl, "parent must be built by a RateLimiterBuilder");
+    config.parent = parent;
+    return this;
+  }
+
+  /**
+   * Configures the {@code ticker} that the rate limiter reads the time from. Defaults to {@link Ticker#SYSTEM}.
+   *
+   * @throws NullPointerException if {@code ticker} is null
+   * @see Ticker#coarse()
+   */
+  public RateLimiterBuilder<R> withTicker(Ticker ticker) {
+    config.ticker = Assert.notNull(ticker, "ticker");
+    return this;
+  }
 }
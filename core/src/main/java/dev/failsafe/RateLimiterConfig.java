@@ -15,6 +15,8 @@
  */
 package dev.failsafe;
 
+import dev.failsafe.spi.Ticker;
+
 import java.time.Duration;
 
 /**
@@ -31,8 +33,19 @@ public class RateLimiterConfig<R> extends PolicyConfig<R> {
   long maxPermits;
   Duration period;
 
+  // Token bucket
+  Duration refillRate;
+  long capacity;
+  Duration warmUpPeriod;
+
+  // Leasing
+  int leaseSize;
+  Duration leaseDuration;
+
   // Common
+  RateLimiter<?> parent;
   Duration maxWaitTime;
+  Ticker ticker = Ticker.SYSTEM;
 
   RateLimiterConfig(Duration maxRate) {
     this.maxRate = maxRate;
@@ -43,12 +56,24 @@ public class RateLimiterConfig<R> extends PolicyConfig<R> {
     this.period = period;
   }
 
+  RateLimiterConfig(Duration refillRate, long capacity) {
+    this.refillRate = refillRate;
+    this.capacity = capacity;
+  }
+
   RateLimiterConfig(RateLimiterConfig<R> config) {
     super(config);
     maxRate = config.maxRate;
     maxPermits = config.maxPermits;
     period = config.period;
+    refillRate = config.refillRate;
+    capacity = config.capacity;
+    warmUpPeriod = config.warmUpPeriod;
+    leaseSize = config.leaseSize;
+    leaseDuration = config.leaseDuration;
+    parent = config.parent;
     maxWaitTime = config.maxWaitTime;
+    ticker = config.ticker;
   }
 
   /**
@@ -82,6 +107,65 @@ public class RateLimiterConfig<R> extends PolicyConfig<R> {
     return period;
   }
 
+  /**
+   * For token bucket rate limiters, returns the rate at which individual permits are refilled into the bucket, else
+   * {@code null} if the rate limiter is not a token bucket.
+   *
+   * @see RateLimiter#tokenBucketBuilder(Duration, long)
+   */
+  public Duration getRefillRate() {
+    return refillRate;
+  }
+
+  /**
+   * For token bucket rate limiters, returns the max number of permits that the bucket can hold, which is the largest
+   * burst of executions that can be performed without waiting, else {@code 0} if the rate limiter is not a token
+   * bucket.
+   *
+   * @see RateLimiter#tokenBucketBuilder(Duration, long)
+   */
+  public long getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * For token bucket rate limiters, returns the period over which the permitted rate climbs to the {@link
+   * #getRefillRate() refill rate} after the rate limiter has been idle, else {@code null} if no warm-up is configured.
+   *
+   * @see RateLimiterBuilder#withWarmUp(Duration)
+   */
+  public Duration getWarmUpPeriod() {
+    return warmUpPeriod;
+  }
+
+  /**
+   * Returns the number of permits that each thread leases at a time, else {@code 0} if permit leasing is not
+   * configured.
+   *
+   * @see RateLimiterBuilder#withPermitLeasing(int, Duration)
+   */
+  public int getLeaseSize() {
+    return leaseSize;
+  }
+
+  /**
+   * Returns how long leased permits remain usable by a thread, else {@code null} if permit leasing is not configured.
+   *
+   * @see RateLimiterBuilder#withPermitLeasing(int, Duration)
+   */
+  public Duration getLeaseDuration() {
+    return leaseDuration;
+  }
+
+  /**
+   * Returns the parent rate limiter that permits must also be acquired from, else {@code null} if none was configured.
+   *
+   * @see RateLimiterBuilder#withParent(RateLimiter)
+   */
+  public RateLimiter<?> getParent() {
+    return parent;
+  }
+
   /**
    * Returns the max time to wait for permits to be available. If permits cannot be acquired before the max wait time is
    * exceeded, then the rate limiter will throw {@link RateLimitExceededException}.
@@ -95,4 +179,13 @@ public class RateLimiterConfig<R> extends PolicyConfig<R> {
   public Duration getMaxWaitTime() {
     return maxWaitTime;
   }
+
+  /**
+   * Returns the ticker that the rate limiter reads the time from. Defaults to {@link Ticker#SYSTEM}.
+   *
+   * @see RateLimiterBuilder#withTicker(Ticker)
+   */
+  public Ticker getTicker() {
+    return ticker;
+  }
 }
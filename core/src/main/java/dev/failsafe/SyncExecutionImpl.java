@@ -19,6 +19,7 @@ import dev.failsafe.spi.ExecutionResult;
 import dev.failsafe.spi.PolicyExecutor;
 import dev.failsafe.spi.Scheduler;
 import dev.failsafe.spi.SyncExecutionInternal;
+import dev.failsafe.spi.Ticker;
 
 import java.time.Duration;
 import java.util.List;
@@ -57,7 +58,7 @@ final class SyncExecutionImpl<R> extends ExecutionImpl<R> implements SyncExecuti
    * Create a standalone sync execution for the {@code policies}.
    */
   SyncExecutionImpl(List<? extends Policy<R>> policies) {
-    super(policies);
+    super(policies, Ticker.SYSTEM);
     executor = null;
     call = null;
     interruptable = new AtomicBoolean();
@@ -69,9 +70,9 @@ final class SyncExecutionImpl<R> extends ExecutionImpl<R> implements SyncExecuti
   /**
    * Create a sync execution for the {@code executor}.
    */
-  SyncExecutionImpl(FailsafeExecutor<R> executor, Scheduler scheduler, CallImpl<R> call,
+  SyncExecutionImpl(FailsafeExecutor<R> executor, Scheduler scheduler, Ticker ticker, CallImpl<R> call,
     Function<SyncExecutionInternal<R>, ExecutionResult<R>> innerFn) {
-    super(executor.policies);
+    super(executor.policies, ticker);
     this.executor = executor;
     this.call = call;
     interruptable = new AtomicBoolean();
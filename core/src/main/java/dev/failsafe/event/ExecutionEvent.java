@@ -41,6 +41,13 @@ public abstract class ExecutionEvent {
     return context.getElapsedTime();
   }
 
+  /**
+   * Returns the elapsed time in nanoseconds since initial execution began.
+   */
+  public long getElapsedNanos() {
+    return context.getElapsedNanos();
+  }
+
   /**
    * Gets the number of execution attempts so far, including attempts that are blocked before being executed, such as
    * when a {@link CircuitBreaker CircuitBreaker} is open. Will return {@code 0} when the first
@@ -73,6 +80,13 @@ public abstract class ExecutionEvent {
     return context.getElapsedAttemptTime();
   }
 
+  /**
+   * Returns the elapsed time in nanoseconds since the last execution attempt began.
+   */
+  public long getElapsedAttemptNanos() {
+    return context.getElapsedAttemptNanos();
+  }
+
   /**
    * Returns {@code true} when {@link #getAttemptCount()} is {@code 0} meaning this is the first execution attempt.
    */
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.AdaptiveRateLimiter;
+import dev.failsafe.ExecutionContext;
+import dev.failsafe.RateLimitExceededException;
+import dev.failsafe.spi.ExecutionResult;
+import dev.failsafe.spi.FailsafeFuture;
+import dev.failsafe.spi.PolicyExecutor;
+import dev.failsafe.spi.Scheduler;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A PolicyExecutor that handles failures according to an {@link AdaptiveRateLimiter}.
+ *
+ * @param <R> result type
+ */
+public class AdaptiveRateLimiterExecutor<R> extends PolicyExecutor<R> {
+  private final AdaptiveRateLimiterImpl<R> rateLimiter;
+  private final Duration maxWaitTime;
+
+  public AdaptiveRateLimiterExecutor(AdaptiveRateLimiterImpl<R> rateLimiter, int policyIndex) {
+    super(rateLimiter, policyIndex);
+    this.rateLimiter = rateLimiter;
+    maxWaitTime = rateLimiter.getConfig().getMaxWaitTime();
+  }
+
+  @Override
+  protected ExecutionResult<R> preExecute() {
+    try {
+      return rateLimiter.tryAcquirePermit(maxWaitTime) ?
+        null :
+        ExecutionResult.exception(new RateLimitExceededException(rateLimiter));
+    } catch (InterruptedException e) {
+      // Set interrupt flag
+      Thread.currentThread().interrupt();
+      return ExecutionResult.exception(e);
+    }
+  }
+
+  @Override
+  protected CompletableFuture<ExecutionResult<R>> preExecuteAsync(Scheduler scheduler, FailsafeFuture<R> future) {
+    return RateLimiterExecutor.preExecuteAsync(this, () -> rateLimiter.reservePermit(maxWaitTime),
+      rateLimiter::releasePermit, () -> new RateLimitExceededException(rateLimiter), scheduler, future);
+  }
+
+  @Override
+  protected void onSuccess(ExecutionContext<R> context, ExecutionResult<R> result) {
+    rateLimiter.recordSuccess(context);
+  }
+
+  @Override
+  protected ExecutionResult<R> onFailure(ExecutionContext<R> context, ExecutionResult<R> result) {
+    rateLimiter.recordFailure(context);
+    return result;
+  }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.AdaptiveRateLimiter;
+import dev.failsafe.AdaptiveRateLimiterConfig;
+import dev.failsafe.ExecutionContext;
+import dev.failsafe.internal.RateLimiterStats.Stopwatch;
+import dev.failsafe.internal.util.Assert;
+import dev.failsafe.internal.util.Durations;
+import dev.failsafe.spi.FailurePolicy;
+import dev.failsafe.spi.PolicyExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An AdaptiveRateLimiter implementation that adjusts the interval between permits using additive increase,
+ * multiplicative decrease.
+ * <p>
+ * The current rate is held only as the interval in the stats, which is adjusted via CAS, so that recording results
+ * never blocks and the rate can never disagree with the interval that permits are acquired at.
+ * </p>
+ *
+ * @param <R> result type
+ */
+public class AdaptiveRateLimiterImpl<R> implements AdaptiveRateLimiter<R>, FailurePolicy<R> {
+  private final AdaptiveRateLimiterConfig<R> config;
+  private final Stopwatch stopwatch;
+  private final AdaptiveRateLimiterStats stats;
+  private final long periodNanos;
+  /* The interval at the max executions per period */
+  private final long minIntervalNanos;
+  /* The interval at the min executions per period */
+  private final long maxIntervalNanos;
+
+  // The stopwatch time that the rate was last decreased at
+  private volatile long lastDecreaseNanos = Long.MIN_VALUE;
+
+  public AdaptiveRateLimiterImpl(AdaptiveRateLimiterConfig<R> config) {
+    this(config, new Stopwatch(config.getTicker()));
+  }
+
+  AdaptiveRateLimiterImpl(AdaptiveRateLimiterConfig<R> config, Stopwatch stopwatch) {
+    this.config = config;
+    this.stopwatch = stopwatch;
+    periodNanos = config.getPeriod().toNanos();
+    minIntervalNanos = periodNanos / config.getMaxExecutions();
+    maxIntervalNanos = periodNanos / config.getMinExecutions();
+    stats = new AdaptiveRateLimiterStats(minIntervalNanos, stopwatch);
+  }
+
+  @Override
+  public AdaptiveRateLimiterConfig<R> getConfig() {
+    return config;
+  }
+
+  @Override
+  public Duration getRate() {
+    return Duration.ofNanos(stats.getIntervalNanos());
+  }
+
+  @Override
+  public double getExecutionsPerPeriod() {
+    return (double) periodNanos / stats.getIntervalNanos();
+  }
+
+  @Override
+  public void acquirePermit() throws InterruptedException {
+    long waitNanos = stats.acquirePermits(1, null);
+    if (waitNanos > 0)
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+  }
+
+  @Override
+  public boolean tryAcquirePermit() {
+    return reservePermit(Duration.ZERO) == 0;
+  }
+
+  @Override
+  public boolean tryAcquirePermit(Duration maxWaitTime) throws InterruptedException {
+    long waitNanos = reservePermit(maxWaitTime);
+    if (waitNanos == -1)
+      return false;
+    if (waitNanos > 0)
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+    return true;
+  }
+
+  @Override
+  public void recordSuccess() {
+    increase();
+  }
+
+  @Override
+  public void recordFailure() {
+    decrease();
+  }
+
+  @Override
+  public PolicyExecutor<R> toExecutor(int policyIndex) {
+    return new AdaptiveRateLimiterExecutor<>(this, policyIndex);
+  }
+
+  /**
+   * Reserves a permit, returning the time in nanos that must be waited to use it, else {@code -1} if the wait time
+   * would exceed the {@code maxWaitTime}.
+   */
+  long reservePermit(Duration maxWaitTime) {
+    Assert.notNull(maxWaitTime, "maxWaitTime");
+    return stats.acquirePermits(1, Durations.ofSafeNanos(maxWaitTime));
+  }
+
+  /**
+   * Releases a permit that was reserved but will not be used.
+   */
+  void releasePermit() {
+    stats.releasePermits(1);
+  }
+
+  /**
+   * Records an execution success, which decreases the rate if the {@code context}'s attempt exceeded the latency
+   * threshold, else increases it.
+   */
+  void recordSuccess(ExecutionContext<R> context) {
+    Duration latencyThreshold = config.getLatencyThreshold();
+    if (latencyThreshold != null && context.getElapsedAttemptNanos() > latencyThreshold.toNanos())
+      recordFailure(context);
+    else
+      increase();
+  }
+
+  /**
+   * Records an execution failure, which decreases the rate unless the {@code context}'s attempt started before the rate
+   * was last decreased, in which case the failure may have been caused by the previous rate.
+   */
+  void recordFailure(ExecutionContext<R> context) {
+    if (stopwatch.elapsedNanos() - context.getElapsedAttemptNanos() >= lastDecreaseNanos)
+      decrease();
+  }
+
+  /**
+   * Increases the executions per period by the additive increase divided by the current executions per period, so
+   * that a period's worth of successes increases the executions per period by the additive increase.
+   */
+  private void increase() {
+    while (true) {
+      long intervalNanos = stats.getIntervalNanos();
+      if (intervalNanos <= minIntervalNanos)
+        return;
+
+      double executions = (double) periodNanos / intervalNanos;
+      double newExecutions = executions + config.getAdditiveIncrease() / executions;
+      long newIntervalNanos = Math.max(Math.min((long) (periodNanos / newExecutions), intervalNanos - 1),
+        minIntervalNanos);
+      if (stats.compareAndSetIntervalNanos(intervalNanos, newIntervalNanos))
+        return;
+    }
+  }
+
+  /**
+   * Multiplies the executions per period by the multiplicative decrease.
+   */
+  private void decrease() {
+    while (true) {
+      long intervalNanos = stats.getIntervalNanos();
+      if (intervalNanos >= maxIntervalNanos)
+        return;
+
+      long newIntervalNanos = Math.min((long) (intervalNanos / config.getMultiplicativeDecrease()), maxIntervalNanos);
+      if (stats.compareAndSetIntervalNanos(intervalNanos, newIntervalNanos)) {
+        lastDecreaseNanos = stopwatch.elapsedNanos();
+        return;
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "AdaptiveRateLimiter[rate=" + getRate() + ']';
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.internal.util.Maths;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * A rate limiter implementation that evenly distributes permits over time, based on an interval between permits that
+ * can change at any time. Unlike {@link SmoothRateLimiterStats}, the next free permit time is not aligned to intervals,
+ * since the interval is not fixed. A change to the interval applies to permits acquired after the change.
+ * <p>
+ * Permits are reserved via CAS on the next free permit time, so that concurrent callers never block each other.
+ * </p>
+ */
+class AdaptiveRateLimiterStats extends RateLimiterStats {
+  /* The nanos per interval between permits */
+  private volatile long intervalNanos;
+  private static final AtomicLongFieldUpdater<AdaptiveRateLimiterStats> INTERVAL_NANOS =
+    AtomicLongFieldUpdater.newUpdater(AdaptiveRateLimiterStats.class, "intervalNanos");
+
+  // The amount of time, relative to the start time, that the next permit will be free
+  private volatile long nextFreePermitNanos;
+  private static final AtomicLongFieldUpdater<AdaptiveRateLimiterStats> NEXT_FREE_PERMIT_NANOS =
+    AtomicLongFieldUpdater.newUpdater(AdaptiveRateLimiterStats.class, "nextFreePermitNanos");
+
+  AdaptiveRateLimiterStats(long intervalNanos, Stopwatch stopwatch) {
+    super(stopwatch);
+    this.intervalNanos = intervalNanos;
+  }
+
+  @Override
+  long acquirePermits(long requestedPermits, Duration maxWaitTime) {
+    while (true) {
+      long intervalNanos = this.intervalNanos;
+      long currentNanos = stopwatch.elapsedNanos();
+      long nextFreePermitNanos = this.nextFreePermitNanos;
+
+      // Permits are reserved from the current time if a permit is currently available
+      long freePermitNanos = Math.max(nextFreePermitNanos, currentNanos);
+      long newNextFreePermitNanos = Maths.add(freePermitNanos, requestedPermits * intervalNanos);
+      long waitNanos = Math.max(newNextFreePermitNanos - currentNanos - intervalNanos, 0);
+
+      if (exceedsMaxWaitTime(waitNanos, maxWaitTime))
+        return -1;
+
+      if (NEXT_FREE_PERMIT_NANOS.compareAndSet(this, nextFreePermitNanos, newNextFreePermitNanos))
+        return waitNanos;
+    }
+  }
+
+  @Override
+  void releasePermits(long releasedPermits) {
+    long releasedPermitNanos = releasedPermits * intervalNanos;
+    while (true) {
+      long nextFreePermitNanos = this.nextFreePermitNanos;
+
+      // Do not release time before the current time
+      long currentNanos = stopwatch.elapsedNanos();
+      if (nextFreePermitNanos <= currentNanos)
+        return;
+
+      long newNextFreePermitNanos = Math.max(nextFreePermitNanos - releasedPermitNanos, currentNanos);
+      if (NEXT_FREE_PERMIT_NANOS.compareAndSet(this, nextFreePermitNanos, newNextFreePermitNanos))
+        return;
+    }
+  }
+
+  @Override
+  boolean isFull() {
+    return nextFreePermitNanos <= stopwatch.elapsedNanos();
+  }
+
+  long getIntervalNanos() {
+    return intervalNanos;
+  }
+
+  /**
+   * Sets the interval to {@code newIntervalNanos} if the interval is still {@code expectedIntervalNanos}, returning
+   * whether it was set.
+   */
+  boolean compareAndSetIntervalNanos(long expectedIntervalNanos, long newIntervalNanos) {
+    return INTERVAL_NANOS.compareAndSet(this, expectedIntervalNanos, newIntervalNanos);
+  }
+
+  long getNextFreePermitNanos() {
+    return nextFreePermitNanos;
+  }
+
+  @Override
+  void reset() {
+    stopwatch.reset();
+    nextFreePermitNanos = 0;
+  }
+}
@@ -18,18 +18,24 @@ package dev.failsafe.internal;
 import dev.failsafe.Bulkhead;
 import dev.failsafe.BulkheadFullException;
 import dev.failsafe.ExecutionContext;
-import dev.failsafe.spi.ExecutionResult;
-import dev.failsafe.spi.FailsafeFuture;
-import dev.failsafe.spi.PolicyExecutor;
-import dev.failsafe.spi.Scheduler;
+import dev.failsafe.TimeoutExceededException;
+import dev.failsafe.internal.util.Durations;
+import dev.failsafe.spi.*;
 
 import java.time.Duration;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  * A PolicyExecutor that handles failures according to a {@link Bulkhead}.
+ * <p>
+ * When the bulkhead has a thread pool, inner policies and the execution are performed in the thread pool after a
+ * permit is acquired, and synchronous executions wait for the result in the calling thread. The permit is released once
+ * the execution has been post-executed and its task has stopped running, so that an abandoned execution that is still
+ * running in the thread pool continues to hold its permit.
+ * </p>
  *
  * @param <R> result type
  * @author Jonathan Halterman
@@ -37,11 +43,161 @@ import java.util.concurrent.TimeUnit;
 public class BulkheadExecutor<R> extends PolicyExecutor<R> {
   private final BulkheadImpl<R> bulkhead;
   private final Duration maxWaitTime;
+  private final long maxWaitNanos;
+  private final Ticker ticker;
+  // The thread pool tasks of attempts that have not been post-executed, by attempt, else null if there is no thread pool
+  private final Map<ExecutionContext<R>, PoolTask> poolTasks;
 
   public BulkheadExecutor(BulkheadImpl<R> bulkhead, int policyIndex) {
     super(bulkhead, policyIndex);
     this.bulkhead = bulkhead;
     maxWaitTime = bulkhead.getConfig().getMaxWaitTime();
+    maxWaitNanos = Durations.ofSafeNanos(maxWaitTime).toNanos();
+    ticker = bulkhead.getConfig().getTicker();
+    poolTasks = bulkhead.getThreadPool() == null ? null : new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Performs the {@code innerFn} in the bulkhead's thread pool, if any, waiting for the result. The time spent waiting
+   * for a permit and for a pool thread to start the execution is bounded by the max wait time. If the waiting thread is
+   * interrupted, the execution is abandoned and interrupted.
+   */
+  @Override
+  public Function<SyncExecutionInternal<R>, ExecutionResult<R>> apply(
+    Function<SyncExecutionInternal<R>, ExecutionResult<R>> innerFn, Scheduler scheduler) {
+
+    ExecutorService threadPool = bulkhead.getThreadPool();
+    if (threadPool == null)
+      return super.apply(innerFn, scheduler);
+
+    return execution -> {
+      long startNanos = ticker.nanoTime();
+      ExecutionResult<R> result = preExecute();
+      if (result != null) {
+        // Still need to preExecute when short-circuiting an execution with an alternative result
+        execution.preExecute();
+        return result;
+      }
+
+      long poolWaitNanos = maxWaitNanos == 0 ? 0 : Math.max(maxWaitNanos - (ticker.nanoTime() - startNanos), 0);
+      return postExecute(execution, executeInThreadPool(threadPool, innerFn, execution, poolWaitNanos));
+    };
+  }
+
+  /**
+   * Performs the {@code innerFn} in the {@code threadPool} and waits for the result. The execution is rejected if a pool
+   * thread does not start it within the {@code poolWaitNanos}, unless the bulkhead does not wait, in which case held
+   * permits guarantee a pool thread. Once started, the execution is awaited until it completes, as it would be without
+   * a thread pool, since its duration is bounded by any Timeout rather than by the bulkhead.
+   */
+  private ExecutionResult<R> executeInThreadPool(ExecutorService threadPool,
+    Function<SyncExecutionInternal<R>, ExecutionResult<R>> innerFn, SyncExecutionInternal<R> execution,
+    long poolWaitNanos) {
+
+    PoolTask poolTask = new PoolTask();
+    poolTasks.put(execution, poolTask);
+    FutureTask<ExecutionResult<R>> task = new FutureTask<>(() -> poolTask.run(() -> innerFn.apply(execution)));
+    try {
+      threadPool.execute(task);
+      if (maxWaitNanos > 0) {
+        try {
+          return task.get(poolWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+          // Reject the execution if a pool thread did not start it within the remaining wait time
+          if (poolTask.abandon())
+            return ExecutionResult.exception(new BulkheadFullException(bulkhead));
+        }
+      }
+      return task.get();
+    } catch (ExecutionException e) {
+      return ExecutionResult.exception(e.getCause());
+    } catch (InterruptedException e) {
+      // Abandon the execution, propagating the interrupt to the thread pool
+      poolTask.abandon();
+      task.cancel(true);
+      execution.record(ExecutionResult.exception(e));
+
+      // Guard against race with Timeout interrupting the execution
+      synchronized (execution.getLock()) {
+        execution.setInterruptable(false);
+        if (!execution.isInterrupted())
+          // Set interrupt flag if interruption was not performed by Failsafe
+          Thread.currentThread().interrupt();
+      }
+
+      // A result may have been recorded by a Timeout before interrupting
+      ExecutionResult<R> result = execution.getResult();
+      return result != null ? result : ExecutionResult.exception(e);
+    } catch (RejectedExecutionException e) {
+      poolTask.abandon();
+      return ExecutionResult.exception(new BulkheadFullException(bulkhead));
+    } catch (Throwable t) {
+      // Hard scheduling failure
+      poolTask.abandon();
+      return ExecutionResult.exception(t);
+    }
+  }
+
+  @Override
+  public boolean hasAsyncExecutor() {
+    return bulkhead.getThreadPool() != null;
+  }
+
+  /**
+   * Performs the {@code innerFn} in the bulkhead's thread pool, if any.
+   */
+  @Override
+  public Function<AsyncExecutionInternal<R>, CompletableFuture<ExecutionResult<R>>> applyAsync(
+    Function<AsyncExecutionInternal<R>, CompletableFuture<ExecutionResult<R>>> innerFn, Scheduler scheduler,
+    FailsafeFuture<R> future) {
+
+    ExecutorService threadPool = bulkhead.getThreadPool();
+    if (threadPool == null)
+      return super.applyAsync(innerFn, scheduler, future);
+
+    return super.applyAsync(execution -> {
+      // An async execution that records its result later is applied again, after its pool task already ran
+      if (execution.isRecorded())
+        return innerFn.apply(execution);
+
+      CompletableFuture<ExecutionResult<R>> promise = new CompletableFuture<>();
+      PoolTask poolTask = new PoolTask();
+      poolTasks.put(execution, poolTask);
+      try {
+        // Complete the promise after the task lets go of its hold, so the permit is released when the attempt is done
+        Future<?> task = threadPool.submit(() -> {
+          CompletableFuture<ExecutionResult<R>> innerPromise = poolTask.run(() -> innerFn.apply(execution));
+          if (innerPromise != null)
+            innerPromise.whenComplete((result, error) -> {
+              if (error != null)
+                promise.completeExceptionally(error);
+              else
+                promise.complete(result);
+            });
+          return null;
+        });
+
+        // Propagate outer cancellations to the innerFn and its promise
+        future.setCancelFn(this, (mayInterrupt, cancelResult) -> {
+          poolTask.abandon();
+          task.cancel(mayInterrupt);
+
+          // Cancel a pending promise if the execution attempt has not started
+          if (!execution.isPreExecuted())
+            promise.complete(cancelResult);
+        });
+      } catch (RejectedExecutionException e) {
+        poolTask.abandon();
+        promise.complete(ExecutionResult.exception(new BulkheadFullException(bulkhead)));
+      } catch (Throwable t) {
+        // Hard scheduling failure, which is not post-executed
+        poolTasks.remove(execution);
+        poolTask.abandon();
+        poolTask.release();
+        promise.completeExceptionally(t);
+      }
+      return promise;
+    }, scheduler, future);
   }
 
   @Override
@@ -59,45 +215,101 @@ public class BulkheadExecutor<R> extends PolicyExecutor<R> {
 
   @Override
   protected CompletableFuture<ExecutionResult<R>> preExecuteAsync(Scheduler scheduler, FailsafeFuture<R> future) {
+    CompletableFuture<Void> acquireFuture = bulkhead.tryAcquirePermitAsync(maxWaitNanos, scheduler);
+    if (acquireFuture == null)
+      return CompletableFuture.completedFuture(ExecutionResult.exception(new BulkheadFullException(bulkhead)));
+    if (acquireFuture.isDone())
+      return null;
+
     CompletableFuture<ExecutionResult<R>> promise = new CompletableFuture<>();
-    CompletableFuture<Void> acquireFuture = bulkhead.acquirePermitAsync();
     acquireFuture.whenComplete((result, error) -> {
-      // Signal for execution to proceed
-      promise.complete(ExecutionResult.none());
+      // Signal for execution to proceed once a permit is acquired, else fail if the bulkhead's sweeper expired the wait
+      if (error == null)
+        promise.complete(ExecutionResult.none());
+      else if (error instanceof BulkheadFullException)
+        promise.complete(ExecutionResult.exception(error));
+      else
+        promise.completeExceptionally(error);
     });
 
-    if (!promise.isDone()) {
-      try {
-        // Schedule bulkhead permit timeout
-        Future<?> timeoutFuture = scheduler.schedule(() -> {
-          promise.complete(ExecutionResult.exception(new BulkheadFullException(bulkhead)));
-          acquireFuture.cancel(true);
-          return null;
-        }, maxWaitTime.toNanos(), TimeUnit.NANOSECONDS);
-
-        // Propagate outer cancellations to the promise, bulkhead acquire future, and timeout future
-        future.setCancelFn(this, (mayInterrupt, cancelResult) -> {
-          promise.complete(cancelResult);
-          acquireFuture.cancel(mayInterrupt);
-          timeoutFuture.cancel(mayInterrupt);
-        });
-      } catch (Throwable t) {
-        // Hard scheduling failure
-        promise.completeExceptionally(t);
-      }
-    }
-
+    // Propagate outer cancellations to the promise and bulkhead acquire future, releasing a permit that was handed to
+    // the waiter if the execution will not proceed with it
+    future.setCancelFn(this, (mayInterrupt, cancelResult) -> {
+      if (promise.complete(cancelResult) && !acquireFuture.cancel(mayInterrupt)
+        && !acquireFuture.isCompletedExceptionally())
+        bulkhead.releasePermit();
+    });
     return promise;
   }
 
   @Override
-  public void onSuccess(ExecutionResult<R> result) {
-    bulkhead.releasePermit();
+  protected void onSuccess(ExecutionContext<R> context, ExecutionResult<R> result) {
+    bulkhead.recordExecution(context.getElapsedAttemptNanos(), false);
+    releasePermit(context);
   }
 
   @Override
   protected ExecutionResult<R> onFailure(ExecutionContext<R> context, ExecutionResult<R> result) {
-    bulkhead.releasePermit();
+    bulkhead.recordExecution(context.getElapsedAttemptNanos(),
+      result.getException() instanceof TimeoutExceededException);
+    releasePermit(context);
     return result;
   }
+
+  /**
+   * Releases the permit of the attempt for the {@code context}, else its post-execution's hold on the permit if the
+   * attempt was performed in the thread pool.
+   */
+  private void releasePermit(ExecutionContext<R> context) {
+    PoolTask poolTask = poolTasks == null ? null : poolTasks.remove(context);
+    if (poolTask == null)
+      bulkhead.releasePermit();
+    else
+      poolTask.release();
+  }
+
+  /**
+   * An attempt that is performed in the bulkhead's thread pool. The attempt's permit is held by both the task and the
+   * attempt's post-execution, and is released once both have let go of it, so that an abandoned attempt that is still
+   * running holds its permit, and with it a pool thread, until it stops running.
+   */
+  private final class PoolTask {
+    private static final int PENDING = 0;
+    private static final int RUNNING = 1;
+    private static final int DONE = 2;
+
+    private final AtomicInteger state = new AtomicInteger(PENDING);
+    private final AtomicInteger holders = new AtomicInteger(2);
+
+    /**
+     * Runs the {@code callable}, else returns {@code null} if the task was abandoned before it started running.
+     */
+    <T> T run(Callable<T> callable) throws Exception {
+      if (!state.compareAndSet(PENDING, RUNNING))
+        return null;
+      try {
+        return callable.call();
+      } finally {
+        state.set(DONE);
+        release();
+      }
+    }
+
+    /**
+     * Abandons the task if it has not started running, releasing its hold on the permit, and returns whether it was
+     * abandoned. A task that is already running releases its hold when it stops.
+     */
+    boolean abandon() {
+      if (state.compareAndSet(PENDING, DONE)) {
+        release();
+        return true;
+      }
+      return false;
+    }
+
+    void release() {
+      if (holders.decrementAndGet() == 0)
+        bulkhead.releasePermit();
+    }
+  }
 }
@@ -17,31 +17,105 @@ package dev.failsafe.internal;
 
 import dev.failsafe.Bulkhead;
 import dev.failsafe.BulkheadConfig;
-import dev.failsafe.internal.util.FutureLinkedList;
+import dev.failsafe.BulkheadFullException;
+import dev.failsafe.internal.util.Assert;
+import dev.failsafe.internal.util.Durations;
+import dev.failsafe.internal.util.FutureQueue;
 import dev.failsafe.spi.PolicyExecutor;
+import dev.failsafe.spi.Scheduler;
+import dev.failsafe.spi.Ticker;
 
 import java.time.Duration;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 /**
  * A Bulkhead implementation that supports sync and async waiting.
+ * <p>
+ * Permits are acquired and released via CAS on a permit count, and waiters are queued in a lock-free {@link
+ * FutureQueue}, so that neither acquiring nor releasing a permit blocks. A released permit is handed directly to the
+ * first waiter, if any, rather than being returned to the permit count. Since a waiter may be queued concurrently with
+ * a permit being returned, waiters check for a permit after being queued, and releasers check for waiters after
+ * returning a permit, so that a permit is never left available while a waiter is queued.
+ * </p>
+ * <p>
+ * Waiters that are queued by a {@link BulkheadExecutor} carry their own deadline, and are expired by a single sweep
+ * that is scheduled for the earliest deadline, rather than by a scheduled task per waiter. Since these waiters share the
+ * same max wait time, they are queued in deadline order, and each sweep only visits the waiters that have expired.
+ * </p>
+ * <p>
+ * With adaptive concurrency, the limit is updated by one thread at a time. Decreasing the limit revokes permits by
+ * making the permit count negative, which later releases repay before any permits are handed to waiters, and increasing
+ * the limit releases permits.
+ * </p>
  *
  * @param <R> result type
  * @author Jonathan Halterman
  */
 public class BulkheadImpl<R> implements Bulkhead<R> {
-  private static final CompletableFuture<Void> NULL_FUTURE = CompletableFuture.completedFuture(null);
+  // Returned by the internal acquire methods when a permit is acquired immediately. Never returned publicly, since a
+  // caller could obtrude its value.
+  private static final CompletableFuture<Void> ACQUIRED = CompletableFuture.completedFuture(null);
   private final BulkheadConfig<R> config;
-  private final int maxPermits;
+  private final int maxQueueSize;
+  private final Ticker ticker;
+  // Null if adaptive concurrency is not configured
+  private final VegasLimit adaptiveLimit;
+  // Null if a thread pool is not configured
+  private final ThreadPoolExecutor threadPool;
 
   // Mutable state
-  private int permits;
-  private final FutureLinkedList futures = new FutureLinkedList();
+  private volatile int limit;
+  // Negative when the limit was decreased below the number of acquired permits
+  private volatile int permits;
+  private static final AtomicIntegerFieldUpdater<BulkheadImpl> PERMITS = AtomicIntegerFieldUpdater.newUpdater(
+    BulkheadImpl.class, "permits");
+  private final FutureQueue futures = new FutureQueue();
+  // Whether a sweep of expired waiters is scheduled
+  private volatile int sweepScheduled;
+  private static final AtomicIntegerFieldUpdater<BulkheadImpl> SWEEP_SCHEDULED = AtomicIntegerFieldUpdater.newUpdater(
+    BulkheadImpl.class, "sweepScheduled");
+  // Whether the limit is being updated
+  private volatile int updating;
+  private static final AtomicIntegerFieldUpdater<BulkheadImpl> UPDATING = AtomicIntegerFieldUpdater.newUpdater(
+    BulkheadImpl.class, "updating");
 
   public BulkheadImpl(BulkheadConfig<R> config) {
     this.config = config;
-    maxPermits = config.getMaxConcurrency();
-    permits = maxPermits;
+    maxQueueSize = config.getMaxQueueSize();
+    ticker = config.getTicker();
+    if (config.getMinConcurrency() > 0) {
+      adaptiveLimit = new VegasLimit(config.getMinConcurrency(), config.getMaxConcurrency());
+      limit = config.getInitialConcurrency();
+    } else {
+      adaptiveLimit = null;
+      limit = config.getMaxConcurrency();
+    }
+    permits = limit;
+    threadPool = config.getThreadPoolName() == null ?
+      null :
+      createThreadPool(config.getThreadPoolName(), limit, config.getMaxConcurrency());
+  }
+
+  /**
+   * Returns a thread pool with a core size of the {@code limit} and up to {@code maxThreads} daemon threads, which
+   * terminate when idle. The core size follows the concurrency limit as it's adapted, and the limit never exceeds the
+   * {@code maxThreads}. Since executions are only submitted after acquiring a permit, and permits are only released once
+   * an execution's task stops running, holding a permit guarantees a pool thread, and the pool's queue only holds
+   * executions whose permit was released before their thread became idle. The queue is bounded by the {@code
+   * maxThreads}, and further executions are rejected.
+   */
+  private static ThreadPoolExecutor createThreadPool(String name, int limit, int maxThreads) {
+    AtomicInteger threadNumber = new AtomicInteger();
+    ThreadPoolExecutor threadPool = new ThreadPoolExecutor(limit, maxThreads, 60, TimeUnit.SECONDS,
+      new ArrayBlockingQueue<>(maxThreads), runnable -> {
+      Thread thread = new Thread(runnable, name + "-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    threadPool.allowCoreThreadTimeOut(true);
+    return threadPool;
   }
 
   @Override
@@ -49,34 +123,66 @@ public class BulkheadImpl<R> implements Bulkhead<R> {
     return config;
   }
 
+  @Override
+  public int getConcurrencyLimit() {
+    return limit;
+  }
+
+  /**
+   * Returns the thread pool that executions are performed in, else {@code null} if executions are performed on the
+   * calling thread.
+   */
+  ExecutorService getThreadPool() {
+    return threadPool;
+  }
+
   @Override
   public void acquirePermit() throws InterruptedException {
+    CompletableFuture<Void> future = tryAcquirePermitAsync();
+    if (future == ACQUIRED)
+      return;
+    if (future == null)
+      throw new BulkheadFullException(this);
+
     try {
-      acquirePermitAsync().get();
+      future.get();
+    } catch (InterruptedException e) {
+      cancelWait(future);
+      throw e;
     } catch (CancellationException | ExecutionException ignore) {
       // Not possible since the future will always be completed with null
     }
   }
 
   @Override
-  public synchronized boolean tryAcquirePermit() {
-    if (permits > 0) {
-      permits -= 1;
-      return true;
+  public boolean tryAcquirePermit() {
+    while (true) {
+      int permits = this.permits;
+      if (permits <= 0)
+        return false;
+      if (PERMITS.compareAndSet(this, permits, permits - 1))
+        return true;
     }
-    return false;
   }
 
   @Override
   public boolean tryAcquirePermit(Duration maxWaitTime) throws InterruptedException {
-    CompletableFuture<Void> future = acquirePermitAsync();
-    if (future == NULL_FUTURE)
+    CompletableFuture<Void> future = tryAcquirePermitAsync();
+    if (future == ACQUIRED)
       return true;
+    if (future == null)
+      return false;
 
     try {
       future.get(maxWaitTime.toNanos(), TimeUnit.NANOSECONDS);
       return true;
-    } catch (CancellationException | ExecutionException | TimeoutException e) {
+    } catch (TimeoutException e) {
+      // The permit may have been handed to the waiter after the timeout
+      return !future.cancel(false);
+    } catch (InterruptedException e) {
+      cancelWait(future);
+      throw e;
+    } catch (CancellationException | ExecutionException e) {
       return false;
     }
   }
@@ -85,25 +191,199 @@ public class BulkheadImpl<R> implements Bulkhead<R> {
    * Returns a CompletableFuture that is completed when a permit is acquired. Externally completing this future will
    * remove the waiter from the bulkhead's internal queue.
    */
-  synchronized CompletableFuture<Void> acquirePermitAsync() {
-    if (permits > 0) {
-      permits -= 1;
-      return NULL_FUTURE;
-    } else {
-      return futures.add();
+  @Override
+  public CompletableFuture<Void> acquirePermitAsync() {
+    CompletableFuture<Void> future = tryAcquirePermitAsync();
+    if (future == ACQUIRED)
+      return CompletableFuture.completedFuture(null);
+    if (future == null) {
+      future = new CompletableFuture<>();
+      future.completeExceptionally(new BulkheadFullException(this));
     }
+    return future;
+  }
+
+  /**
+   * Returns a CompletableFuture that is completed when a permit is acquired, else {@code null} if the wait queue is
+   * full, in which case nothing is queued. The future for a permit that is acquired immediately is shared, and must not
+   * be exposed.
+   */
+  CompletableFuture<Void> tryAcquirePermitAsync() {
+    if (tryAcquirePermit())
+      return ACQUIRED;
+    return checkQueued(futures.add(maxQueueSize));
+  }
+
+  /**
+   * Returns a CompletableFuture that is completed when a permit is acquired, else is completed exceptionally with
+   * {@link BulkheadFullException} by the bulkhead's sweeper, which runs on the {@code scheduler}, if a permit is not
+   * acquired within the {@code maxWaitNanos}. Returns {@code null} if a permit is not available and the wait queue is
+   * full or the {@code maxWaitNanos} is {@code 0}, in which case nothing is queued.
+   */
+  CompletableFuture<Void> tryAcquirePermitAsync(long maxWaitNanos, Scheduler scheduler) {
+    if (tryAcquirePermit())
+      return ACQUIRED;
+    if (maxWaitNanos == 0)
+      return null;
+
+    CompletableFuture<Void> future = checkQueued(futures.add(maxQueueSize, ticker.nanoTime() + maxWaitNanos));
+    if (future != null && !future.isDone() && SWEEP_SCHEDULED.compareAndSet(this, 0, 1)) {
+      try {
+        scheduleSweep(scheduler, maxWaitNanos);
+      } catch (Throwable t) {
+        // Hard scheduling failure
+        future.completeExceptionally(t);
+      }
+    }
+    return future;
+  }
+
+  /**
+   * Returns the queued {@code future} after checking for a permit that was returned before it was queued, else tries
+   * once more to acquire a permit if the {@code future} could not be queued.
+   */
+  private CompletableFuture<Void> checkQueued(CompletableFuture<Void> future) {
+    if (future == null)
+      return tryAcquirePermit() ? ACQUIRED : null;
+
+    // Check for a permit that was returned before the waiter was queued
+    if (!future.isDone() && tryAcquirePermit() && !future.complete(null))
+      releasePermit();
+    return future;
   }
 
   @Override
-  public synchronized void releasePermit() {
-    if (permits < maxPermits) {
-      permits += 1;
-      CompletableFuture<Void> future = futures.pollFirst();
-      if (future != null)
-        future.complete(null);
+  public CompletableFuture<Void> acquirePermitAsync(Duration maxWaitTime) {
+    Assert.notNull(maxWaitTime, "maxWaitTime");
+    CompletableFuture<Void> future = acquirePermitAsync();
+    if (future.isDone())
+      return future;
+
+    long maxWaitNanos = Durations.ofSafeNanos(maxWaitTime).toNanos();
+    if (maxWaitNanos == 0)
+      future.completeExceptionally(new BulkheadFullException(this));
+    else {
+      try {
+        // Schedule bulkhead permit timeout
+        Future<?> timeoutFuture = Scheduler.DEFAULT.schedule(() -> {
+          future.completeExceptionally(new BulkheadFullException(this));
+          return null;
+        }, maxWaitNanos, TimeUnit.NANOSECONDS);
+        future.whenComplete((result, error) -> timeoutFuture.cancel(false));
+      } catch (Throwable t) {
+        // Hard scheduling failure
+        future.completeExceptionally(t);
+      }
+    }
+
+    return future;
+  }
+
+  @Override
+  public void releasePermit() {
+    while (true) {
+      // Repay permits that were revoked when the limit was decreased
+      int permits = this.permits;
+      if (permits < 0) {
+        if (PERMITS.compareAndSet(this, permits, permits + 1))
+          return;
+        continue;
+      }
+
+      // Hand the permit to the first waiter that hasn't been cancelled or timed out
+      CompletableFuture<Void> future;
+      while ((future = futures.pollFirst()) != null)
+        if (future.complete(null))
+          return;
+
+      // Else return it to the bulkhead
+      do {
+        permits = this.permits;
+        if (permits >= limit)
+          return;
+      } while (!PERMITS.compareAndSet(this, permits, permits + 1));
+
+      // Reclaim the permit for any waiter that was queued before the permit was returned
+      if (futures.isEmpty() || !tryAcquirePermit())
+        return;
+    }
+  }
+
+  /**
+   * Records the round trip time of an execution that held a permit, which was {@code dropped} if it failed due to
+   * overload, and adjusts the concurrency limit if adaptive concurrency is configured. This should be called before the
+   * execution's permit is released. Samples that are recorded while the limit is being updated by another thread are
+   * ignored.
+   */
+  void recordExecution(long rttNanos, boolean dropped) {
+    if (adaptiveLimit == null || !UPDATING.compareAndSet(this, 0, 1))
+      return;
+
+    try {
+      int limit = this.limit;
+      int newLimit = adaptiveLimit.update(limit, limit - permits, rttNanos, dropped);
+      if (newLimit < limit) {
+        // Revoke permits before lowering the limit, so that releases are not capped by the lower limit first
+        PERMITS.addAndGet(this, newLimit - limit);
+        this.limit = newLimit;
+        if (threadPool != null)
+          threadPool.setCorePoolSize(newLimit);
+      } else if (newLimit > limit) {
+        // Grow the thread pool before releasing the permits that will use it
+        if (threadPool != null)
+          threadPool.setCorePoolSize(newLimit);
+        this.limit = newLimit;
+        for (int i = limit; i < newLimit; i++)
+          releasePermit();
+      }
+    } finally {
+      updating = 0;
     }
   }
 
+  /**
+   * Schedules a sweep of expired waiters after the {@code delayNanos}. Must only be called while holding the sweep
+   * flag, which is released if scheduling fails.
+   */
+  private void scheduleSweep(Scheduler scheduler, long delayNanos) {
+    try {
+      scheduler.schedule(() -> {
+        sweep(scheduler);
+        return null;
+      }, delayNanos, TimeUnit.NANOSECONDS);
+    } catch (Throwable t) {
+      sweepScheduled = 0;
+      throw t;
+    }
+  }
+
+  /**
+   * Expires waiters whose deadline has passed, then schedules another sweep for the next deadline, if any. Since the
+   * sweep flag is held until no waiters with a deadline remain, waiters that are queued while a sweep is scheduled do
+   * not schedule their own sweep.
+   */
+  private void sweep(Scheduler scheduler) {
+    long delayNanos = futures.expire(ticker.nanoTime(), () -> new BulkheadFullException(this));
+    if (delayNanos > 0) {
+      scheduleSweep(scheduler, delayNanos);
+      return;
+    }
+
+    sweepScheduled = 0;
+    // Check for a waiter that was queued after the sweep and did not schedule its own sweep
+    delayNanos = futures.expire(ticker.nanoTime(), () -> new BulkheadFullException(this));
+    if (delayNanos > 0 && SWEEP_SCHEDULED.compareAndSet(this, 0, 1))
+      scheduleSweep(scheduler, delayNanos);
+  }
+
+  /**
+   * Cancels waiting on the {@code future}, releasing its permit if one was already handed to it.
+   */
+  private void cancelWait(CompletableFuture<Void> future) {
+    if (!future.cancel(false))
+      releasePermit();
+  }
+
   @Override
   public PolicyExecutor<R> toExecutor(int policyIndex) {
     return new BulkheadExecutor<>(this, policyIndex);
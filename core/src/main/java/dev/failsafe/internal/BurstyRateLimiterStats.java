@@ -18,78 +18,145 @@ package dev.failsafe.internal;
 import dev.failsafe.RateLimiterConfig;
 
 import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 
 /**
  * A rate limiter implementation that allows bursts of executions, up to the max permits per period. This implementation
  * tracks the current period and available permits, which can go into a deficit. A deficit of available permits will
  * cause wait times for callers that can be several periods long, depending on the size of the deficit and the number of
  * requested permits.
+ * <p>
+ * The current period and available permits are packed into a single {@code long} that is replaced via CAS, so that
+ * callers never block each other and always observe a consistent period and permit count. The upper 32 bits hold the
+ * current period modulo 2<sup>32</sup>, and the lower 32 bits hold the available permits as a signed {@code int}. This
+ * limits the permits per period to {@code Integer.MAX_VALUE}, and acquisitions that would take the deficit below
+ * {@code Integer.MIN_VALUE} are rejected. Periods that elapse are counted exactly as long as the rate limiter is used at
+ * least once every 2<sup>31</sup> periods.
+ * </p>
  */
 class BurstyRateLimiterStats extends RateLimiterStats {
+  private static final long PERMITS_MASK = 0xFFFFFFFFL;
+  /* The max number of periods that a caller's view of the current period may lag behind the state */
+  private static final long MAX_STALE_PERIODS = 1L << 30;
+
   /* The permits per period */
   final long periodPermits;
   /* The nanos per period */
   private final long periodNanos;
 
-  /* Available permits. Can be negative during a deficit. */
-  private long availablePermits;
-  private long currentPeriod;
+  private volatile long state;
+  private static final AtomicLongFieldUpdater<BurstyRateLimiterStats> STATE = AtomicLongFieldUpdater.newUpdater(
+    BurstyRateLimiterStats.class, "state");
 
   BurstyRateLimiterStats(RateLimiterConfig<?> config, Stopwatch stopwatch) {
     super(stopwatch);
-    periodPermits = config.getMaxPermits();
+    periodPermits = Math.min(config.getMaxPermits(), Integer.MAX_VALUE);
     periodNanos = config.getPeriod().toNanos();
-    availablePermits = periodPermits;
+    state = pack(0, periodPermits);
   }
 
   @Override
-  public synchronized long acquirePermits(long requestedPermits, Duration maxWaitTime) {
-    long currentNanos = stopwatch.elapsedNanos();
-    long newCurrentPeriod = currentNanos / periodNanos;
-
-    // Update current period and available permits
-    if (currentPeriod < newCurrentPeriod) {
-      long elapsedPeriods = newCurrentPeriod - currentPeriod;
-      long elapsedPermits = elapsedPeriods * periodPermits;
-      currentPeriod = newCurrentPeriod;
-      availablePermits = availablePermits < 0 ? availablePermits + elapsedPermits : periodPermits;
-    }
+  public long acquirePermits(long requestedPermits, Duration maxWaitTime) {
+    while (true) {
+      long currentNanos = stopwatch.elapsedNanos();
+      long state = this.state;
+
+      // Update current period and available permits
+      long newCurrentPeriod = currentNanos / periodNanos;
+      long current = current(state, newCurrentPeriod);
+      long currentPeriod = periodOf(current, newCurrentPeriod);
+      long availablePermits = permitsOf(current);
+      long newAvailablePermits = availablePermits - requestedPermits;
+      if (newAvailablePermits < Integer.MIN_VALUE)
+        return -1;
 
-    long waitNanos = 0;
-    if (requestedPermits > availablePermits) {
-      long nextPeriodNanos = (currentPeriod + 1) * periodNanos;
-      long nanosToNextPeriod = nextPeriodNanos - currentNanos;
-      long permitDeficit = requestedPermits - availablePermits;
-      long additionalPeriods = permitDeficit / periodPermits;
-      long additionalUnits = permitDeficit % periodPermits;
+      long waitNanos = 0;
+      if (requestedPermits > availablePermits) {
+        long nextPeriodNanos = (currentPeriod + 1) * periodNanos;
+        long nanosToNextPeriod = nextPeriodNanos - currentNanos;
+        long permitDeficit = requestedPermits - availablePermits;
+        long additionalPeriods = permitDeficit / periodPermits;
+        long additionalUnits = permitDeficit % periodPermits;
 
-      // Do not wait for an additional period if we're not using any permits from it
-      if (additionalUnits == 0)
-        additionalPeriods -= 1;
+        // Do not wait for an additional period if we're not using any permits from it
+        if (additionalUnits == 0)
+          additionalPeriods -= 1;
 
-      // The nanos to wait until the beginning of the next period that will have free permits
-      waitNanos = nanosToNextPeriod + (additionalPeriods * periodNanos);
+        // The nanos to wait until the beginning of the next period that will have free permits
+        waitNanos = nanosToNextPeriod + (additionalPeriods * periodNanos);
 
-      if (exceedsMaxWaitTime(waitNanos, maxWaitTime))
-        return -1;
+        if (exceedsMaxWaitTime(waitNanos, maxWaitTime))
+          return -1;
+      }
+
+      if (STATE.compareAndSet(this, state, pack(currentPeriod, newAvailablePermits)))
+        return waitNanos;
+    }
+  }
+
+  @Override
+  void releasePermits(long releasedPermits) {
+    while (true) {
+      long state = this.state;
+      long current = current(state, stopwatch.elapsedNanos() / periodNanos);
+
+      // Do not release more than the permits per period
+      long newAvailablePermits = Math.min(permitsOf(current) + releasedPermits, periodPermits);
+      long newState = (current & ~PERMITS_MASK) | (newAvailablePermits & PERMITS_MASK);
+      if (newState == state || STATE.compareAndSet(this, state, newState))
+        return;
     }
+  }
+
+  @Override
+  boolean isFull() {
+    return permitsOf(current(state, stopwatch.elapsedNanos() / periodNanos)) >= periodPermits;
+  }
+
+  /**
+   * Returns the {@code state} updated for the {@code newCurrentPeriod}. A deficit is repaid by the permits for each
+   * elapsed period, else available permits are reset to the permits per period. The {@code state} is returned as is if
+   * its period is not behind the {@code newCurrentPeriod}, such as when another caller already advanced it.
+   */
+  private long current(long state, long newCurrentPeriod) {
+    long elapsedPeriods = (newCurrentPeriod - (state >>> 32)) & PERMITS_MASK;
+    if (elapsedPeriods == 0 || elapsedPeriods > PERMITS_MASK - MAX_STALE_PERIODS)
+      return state;
+
+    long availablePermits = permitsOf(state);
+    availablePermits = availablePermits < 0 ?
+      Math.min(availablePermits + elapsedPeriods * periodPermits, Integer.MAX_VALUE) :
+      periodPermits;
+    return pack(newCurrentPeriod, availablePermits);
+  }
+
+  /**
+   * Returns the full period of the {@code state}, which is within 2<sup>31</sup> periods of the {@code
+   * newCurrentPeriod}.
+   */
+  private static long periodOf(long state, long newCurrentPeriod) {
+    return newCurrentPeriod - (int) (newCurrentPeriod - (state >>> 32));
+  }
+
+  private static long permitsOf(long state) {
+    return (int) state;
+  }
 
-    availablePermits -= requestedPermits;
-    return waitNanos;
+  private static long pack(long period, long availablePermits) {
+    return (period << 32) | (availablePermits & PERMITS_MASK);
   }
 
-  synchronized long getAvailablePermits() {
-    return availablePermits;
+  long getAvailablePermits() {
+    return permitsOf(state);
   }
 
-  synchronized long getCurrentPeriod() {
-    return currentPeriod;
+  long getCurrentPeriod() {
+    return state >>> 32;
   }
 
   @Override
-  synchronized void reset() {
+  void reset() {
     stopwatch.reset();
-    availablePermits = periodPermits;
-    currentPeriod = 0;
+    state = pack(0, periodPermits);
   }
-}
\ No newline at end of file
+}
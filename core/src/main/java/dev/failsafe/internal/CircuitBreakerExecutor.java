@@ -43,8 +43,8 @@ public class CircuitBreakerExecutor<R> extends PolicyExecutor<R> {
   }
 
   @Override
-  public void onSuccess(ExecutionResult<R> result) {
-    circuitBreaker.recordSuccess();
+  protected void onSuccess(ExecutionContext<R> context, ExecutionResult<R> result) {
+    circuitBreaker.recordExecutionSuccess(context);
   }
 
   @Override
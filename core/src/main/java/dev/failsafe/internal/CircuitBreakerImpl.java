@@ -56,7 +56,7 @@ public class CircuitBreakerImpl<R> implements CircuitBreaker<R>, FailurePolicy<R
 
   @Override
   public void close() {
-    transitionTo(State.CLOSED, config.getCloseListener(), null);
+    transitionTo(State.CLOSED, config.getCloseListener(), null, false);
   }
 
   @Override
@@ -94,9 +94,14 @@ public class CircuitBreakerImpl<R> implements CircuitBreaker<R>, FailurePolicy<R
     return state.get().getStats().getSuccessRate();
   }
 
+  @Override
+  public CircuitBreakerMetrics getMetrics() {
+    return state.get().getMetrics();
+  }
+
   @Override
   public void halfOpen() {
-    transitionTo(State.HALF_OPEN, config.getHalfOpenListener(), null);
+    transitionTo(State.HALF_OPEN, config.getHalfOpenListener(), null, false);
   }
 
   @Override
@@ -116,7 +121,7 @@ public class CircuitBreakerImpl<R> implements CircuitBreaker<R>, FailurePolicy<R
 
   @Override
   public void open() {
-    transitionTo(State.OPEN, config.getOpenListener(), null);
+    transitionTo(State.OPEN, config.getOpenListener(), null, false);
   }
 
   @Override
@@ -153,9 +158,11 @@ public class CircuitBreakerImpl<R> implements CircuitBreaker<R>, FailurePolicy<R
 
   /**
    * Transitions to the {@code newState} if not already in that state and calls any associated event listener.
+   *
+   * @param rampUp whether a transition to CLOSED should ramp up the percentage of permitted executions, if configured
    */
   protected void transitionTo(State newState, EventListener<CircuitBreakerStateChangedEvent> listener,
-    ExecutionContext<R> context) {
+    ExecutionContext<R> context, boolean rampUp) {
     boolean transitioned = false;
     State currentState;
 
@@ -164,7 +171,7 @@ public class CircuitBreakerImpl<R> implements CircuitBreaker<R>, FailurePolicy<R
       if (!getState().equals(newState)) {
         switch (newState) {
           case CLOSED:
-            state.set(new ClosedState<>(this));
+            state.set(new ClosedState<>(this, rampUp));
             break;
           case OPEN:
             Duration computedDelay = computeDelay(context);
@@ -187,10 +194,29 @@ public class CircuitBreakerImpl<R> implements CircuitBreaker<R>, FailurePolicy<R
   }
 
   /**
-   * Records an execution failure.
+   * Records an execution success, which is slow if the {@code context}'s attempt exceeded the slow call duration
+   * threshold.
+   */
+  protected void recordExecutionSuccess(ExecutionContext<R> context) {
+    state.get().recordSuccess(isSlow(context));
+  }
+
+  /**
+   * Records an execution failure, which is slow if the {@code context}'s attempt exceeded the slow call duration
+   * threshold.
    */
   protected void recordExecutionFailure(ExecutionContext<R> context) {
-    state.get().recordFailure(context);
+    state.get().recordFailure(context, isSlow(context));
+  }
+
+  /**
+   * Returns whether the {@code context}'s attempt was slow. Executions that are recorded manually have no {@code
+   * context}, and are never slow.
+   */
+  private boolean isSlow(ExecutionContext<R> context) {
+    Duration slowCallDurationThreshold = config.getSlowCallDurationThreshold();
+    return slowCallDurationThreshold != null && context != null
+      && context.getElapsedAttemptNanos() > slowCallDurationThreshold.toNanos();
   }
 
   /**
@@ -198,7 +224,15 @@ public class CircuitBreakerImpl<R> implements CircuitBreaker<R>, FailurePolicy<R
    * will transition to half open.
    */
   protected void open(ExecutionContext<R> context) {
-    transitionTo(State.OPEN, config.getOpenListener(), context);
+    transitionTo(State.OPEN, config.getOpenListener(), context, false);
+  }
+
+  /**
+   * Closes the circuit breaker after it recovered in the HALF_OPEN state, ramping up the percentage of permitted
+   * executions if configured.
+   */
+  protected void closeRecovered() {
+    transitionTo(State.CLOSED, config.getCloseListener(), null, true);
   }
 
   @Override
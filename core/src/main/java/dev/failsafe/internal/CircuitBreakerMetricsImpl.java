@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.CircuitBreaker.State;
+import dev.failsafe.CircuitBreakerMetrics;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * A {@link CircuitBreakerMetrics} implementation.
+ */
+final class CircuitBreakerMetricsImpl implements CircuitBreakerMetrics {
+  private final State state;
+  private final int successCount;
+  private final int failureCount;
+  private final int slowCallCount;
+  private final Instant windowStartTime;
+  private final Duration remainingDelay;
+
+  CircuitBreakerMetricsImpl(State state, int successCount, int failureCount, int slowCallCount,
+    Instant windowStartTime, Duration remainingDelay) {
+    this.state = state;
+    this.successCount = successCount;
+    this.failureCount = failureCount;
+    this.slowCallCount = slowCallCount;
+    this.windowStartTime = windowStartTime;
+    this.remainingDelay = remainingDelay;
+  }
+
+  @Override
+  public State getState() {
+    return state;
+  }
+
+  @Override
+  public int getExecutionCount() {
+    return successCount + failureCount;
+  }
+
+  @Override
+  public int getSuccessCount() {
+    return successCount;
+  }
+
+  @Override
+  public int getFailureCount() {
+    return failureCount;
+  }
+
+  @Override
+  public int getSuccessRate() {
+    return rateOf(successCount);
+  }
+
+  @Override
+  public int getFailureRate() {
+    return rateOf(failureCount);
+  }
+
+  @Override
+  public int getSlowCallCount() {
+    return slowCallCount;
+  }
+
+  @Override
+  public int getSlowCallRate() {
+    return rateOf(slowCallCount);
+  }
+
+  @Override
+  public Instant getWindowStartTime() {
+    return windowStartTime;
+  }
+
+  @Override
+  public Duration getRemainingDelay() {
+    return remainingDelay;
+  }
+
+  private int rateOf(int count) {
+    int executions = successCount + failureCount;
+    return (int) Math.round(executions == 0 ? 0 : (double) count / (double) executions * 100.0);
+  }
+
+  @Override
+  public String toString() {
+    return "CircuitBreakerMetrics[state=" + state + ", successes=" + successCount + ", failures=" + failureCount
+      + ", slowCalls=" + slowCallCount + ", windowStartTime=" + windowStartTime + ", remainingDelay=" + remainingDelay + ']';
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.CircuitBreaker;
+import dev.failsafe.CircuitBreakerConfig;
+import dev.failsafe.CircuitBreakerRegistry;
+import dev.failsafe.internal.util.Assert;
+import dev.failsafe.internal.util.IdleEvictingMap;
+
+/**
+ * A {@link CircuitBreakerRegistry} implementation that evicts closed circuit breakers, and open circuit breakers whose
+ * delay has elapsed.
+ *
+ * @param <K> key type
+ * @param <R> result type
+ * @see dev.failsafe.CircuitBreakerRegistryBuilder
+ */
+public class CircuitBreakerRegistryImpl<K, R> implements CircuitBreakerRegistry<K, R> {
+  private final CircuitBreakerConfig<R> config;
+  private final IdleEvictingMap<K, CircuitBreaker<R>> breakers;
+
+  public CircuitBreakerRegistryImpl(CircuitBreakerConfig<R> config, int maxSize, long idleTimeoutNanos) {
+    this.config = config;
+    this.breakers = new IdleEvictingMap<>(key -> new CircuitBreakerImpl<>(config),
+      CircuitBreakerRegistryImpl::isEvictable, config.getTicker(), maxSize, idleTimeoutNanos);
+  }
+
+  @Override
+  public CircuitBreakerConfig<R> getConfig() {
+    return config;
+  }
+
+  @Override
+  public CircuitBreaker<R> getOrCreate(K key) {
+    return breakers.getOrCreate(Assert.notNull(key, "key"));
+  }
+
+  @Override
+  public CircuitBreaker<R> get(K key) {
+    return breakers.get(Assert.notNull(key, "key"));
+  }
+
+  @Override
+  public CircuitBreaker<R> remove(K key) {
+    return breakers.remove(Assert.notNull(key, "key"));
+  }
+
+  @Override
+  public int size() {
+    return breakers.size();
+  }
+
+  /**
+   * Returns whether the {@code breaker} can be evicted without losing state that matters. An open breaker whose delay
+   * has elapsed would be half-opened by its next execution, so it is no more useful than a new closed breaker.
+   */
+  private static boolean isEvictable(CircuitBreaker<?> breaker) {
+    return breaker.isClosed() || breaker.isOpen() && breaker.getRemainingDelay().isZero();
+  }
+
+  @Override
+  public String toString() {
+    return "CircuitBreakerRegistry[size=" + breakers.size() + ']';
+  }
+}
@@ -17,10 +17,12 @@ package dev.failsafe.internal;
 
 import dev.failsafe.CircuitBreaker.State;
 import dev.failsafe.CircuitBreakerConfig;
+import dev.failsafe.CircuitBreakerMetrics;
 import dev.failsafe.CircuitBreakerOpenException;
 import dev.failsafe.ExecutionContext;
 
 import java.time.Duration;
+import java.time.Instant;
 
 /**
  * The state of a circuit.
@@ -49,14 +51,33 @@ abstract class CircuitState<R> {
 
   public abstract State getState();
 
-  public synchronized void recordFailure(ExecutionContext<R> context) {
-    stats.recordFailure();
+  /**
+   * Returns a snapshot of the state and stats, reading the stats' counts together.
+   */
+  public CircuitBreakerMetrics getMetrics() {
+    CircuitStats stats = this.stats;
+    long counts = stats.getCounts();
+    long windowStartMillis = stats.getWindowStartMillis();
+    return new CircuitBreakerMetricsImpl(getState(), CircuitStats.successes(counts), CircuitStats.failures(counts),
+      stats.getSlowCount(), windowStartMillis == -1 ? null : Instant.ofEpochMilli(windowStartMillis), getRemainingDelay());
+  }
+
+  public void recordFailure(ExecutionContext<R> context) {
+    recordFailure(context, false);
+  }
+
+  public void recordFailure(ExecutionContext<R> context, boolean slow) {
+    stats.recordFailure(slow);
     checkThreshold(context);
     releasePermit();
   }
 
-  public synchronized void recordSuccess() {
-    stats.recordSuccess();
+  public void recordSuccess() {
+    recordSuccess(false);
+  }
+
+  public void recordSuccess(boolean slow) {
+    stats.recordSuccess(slow);
     checkThreshold(null);
     releasePermit();
   }
@@ -67,6 +88,37 @@ abstract class CircuitState<R> {
   void checkThreshold(ExecutionContext<R> context) {
   }
 
+  /**
+   * Returns the configured failure rate threshold in basis points, where 10000 is 100%, else {@code 0} if failure rate
+   * thresholding is not configured.
+   */
+  long failureRateThresholdBasisPoints() {
+    return Math.round(config.getFailureRateThresholdPercentage() * 100);
+  }
+
+  /**
+   * Returns whether the {@code count} is at least the {@code basisPoints} rate of the {@code executions}, compared
+   * exactly rather than using rounded percentages.
+   */
+  static boolean isRateAtLeast(int count, int executions, long basisPoints) {
+    return count * 10000L >= basisPoints * executions;
+  }
+
+  /**
+   * Returns whether slow call thresholding is configured and the rate of slow executions meets the threshold, once at
+   * least {@code minimumExecutions} have been recorded.
+   */
+  boolean isSlowCallRateExceeded(int minimumExecutions) {
+    int slowCallRateThreshold = config.getSlowCallRateThreshold();
+    if (slowCallRateThreshold == 0)
+      return false;
+
+    CircuitStats stats = this.stats;
+    int executions = stats.getExecutionCount();
+    return executions > 0 && executions >= minimumExecutions
+      && stats.getSlowCount() * 100L >= (long) slowCallRateThreshold * executions;
+  }
+
   abstract boolean tryAcquirePermit();
 
   void releasePermit() {
@@ -16,7 +16,6 @@
 package dev.failsafe.internal;
 
 import dev.failsafe.CircuitBreaker;
-import dev.failsafe.internal.TimedCircuitStats.Clock;
 
 /**
  * Stats for a circuit breaker.
@@ -24,9 +23,12 @@ import dev.failsafe.internal.TimedCircuitStats.Clock;
 interface CircuitStats {
   static CircuitStats create(CircuitBreaker<?> breaker, int capacity, boolean supportsTimeBased,
     CircuitStats oldStats) {
-    if (supportsTimeBased && breaker.getConfig().getFailureThresholdingPeriod() != null)
+    if (supportsTimeBased && breaker.getConfig().getDecayHalfLife() != null)
+      return new DecayingCircuitStats(breaker.getConfig().getDecayHalfLife(), breaker.getConfig().getTicker(),
+        oldStats);
+    else if (supportsTimeBased && breaker.getConfig().getFailureThresholdingPeriod() != null)
       return new TimedCircuitStats(TimedCircuitStats.DEFAULT_BUCKET_COUNT,
-        breaker.getConfig().getFailureThresholdingPeriod(), new Clock(), oldStats);
+        breaker.getConfig().getFailureThresholdingPeriod(), breaker.getConfig().getTicker(), oldStats);
     else if (capacity > 1) {
       return new CountingCircuitStats(capacity, oldStats);
     } else {
@@ -34,11 +36,42 @@ interface CircuitStats {
     }
   }
 
+  /**
+   * Copies the executions from the {@code oldStats} into this. Since which executions were slow is not known, the old
+   * slow count is applied to the first executions that are copied.
+   */
   default void copyExecutions(CircuitStats oldStats) {
+    int slowCount = oldStats.getSlowCount();
     for (int i = 0; i < oldStats.getSuccessCount(); i++)
-      recordSuccess();
+      recordSuccess(slowCount-- > 0);
     for (int i = 0; i < oldStats.getFailureCount(); i++)
-      recordFailure();
+      recordFailure(slowCount-- > 0);
+  }
+
+  /**
+   * Returns the success and failure counts, read together so that they are consistent with each other, with successes
+   * packed into the high 32 bits and failures into the low 32 bits.
+   */
+  long getCounts();
+
+  /**
+   * Returns the start time, in epoch millis, of the window that time based stats are counted within, else {@code -1}
+   * if the stats are not time based or no executions have been recorded.
+   */
+  default long getWindowStartMillis() {
+    return -1;
+  }
+
+  static long countsOf(int successes, int failures) {
+    return ((long) successes << 32) | (failures & 0xFFFFFFFFL);
+  }
+
+  static int successes(long counts) {
+    return (int) (counts >>> 32);
+  }
+
+  static int failures(long counts) {
+    return (int) counts;
   }
 
   int getFailureCount();
@@ -51,9 +84,28 @@ interface CircuitStats {
 
   int getSuccessRate();
 
-  void recordFailure();
+  /**
+   * Returns the number of executions that were recorded as slow.
+   */
+  int getSlowCount();
+
+  default void recordFailure() {
+    recordFailure(false);
+  }
+
+  default void recordSuccess() {
+    recordSuccess(false);
+  }
+
+  /**
+   * Records a failure, which may be {@code slow}.
+   */
+  void recordFailure(boolean slow);
 
-  void recordSuccess();
+  /**
+   * Records a success, which may be {@code slow}.
+   */
+  void recordSuccess(boolean slow);
 
   void reset();
 }
@@ -18,15 +18,58 @@ package dev.failsafe.internal;
 import dev.failsafe.CircuitBreaker;
 import dev.failsafe.CircuitBreaker.State;
 import dev.failsafe.ExecutionContext;
+import dev.failsafe.spi.Ticker;
+
+import java.util.concurrent.ThreadLocalRandom;
 
 class ClosedState<R> extends CircuitState<R> {
+  // Ramp up state
+  private final Ticker ticker;
+  private final long rampUpStartTime;
+  private final long rampUpNanos;
+  private final double initialPercentage;
+  private volatile boolean rampingUp;
+
   public ClosedState(CircuitBreakerImpl<R> breaker) {
+    this(breaker, false);
+  }
+
+  /**
+   * @param rampUp whether to ramp up the percentage of permitted executions, if configured
+   */
+  public ClosedState(CircuitBreakerImpl<R> breaker, boolean rampUp) {
     super(breaker, CircuitStats.create(breaker, capacityFor(breaker), true, null));
+    this.ticker = config.getTicker();
+    this.rampingUp = rampUp && config.getRampUpPeriod() != null;
+    this.rampUpStartTime = rampingUp ? ticker.nanoTime() : 0;
+    this.rampUpNanos = rampingUp ? config.getRampUpPeriod().toNanos() : 0;
+    this.initialPercentage = config.getRampUpInitialPercentage();
   }
 
+  /**
+   * Permits all executions, unless ramping up, in which case executions are randomly permitted at a rate that grows
+   * linearly from the initial percentage to 100 over the ramp up period.
+   */
   @Override
   public boolean tryAcquirePermit() {
-    return true;
+    if (!rampingUp)
+      return true;
+
+    long elapsedNanos = ticker.nanoTime() - rampUpStartTime;
+    if (elapsedNanos >= rampUpNanos) {
+      rampingUp = false;
+      return true;
+    }
+
+    double percentage = initialPercentage + (100 - initialPercentage) * ((double) elapsedNanos / rampUpNanos);
+    return ThreadLocalRandom.current().nextDouble(100) < percentage;
+  }
+
+  /**
+   * Returns whether the circuit is ramping up the percentage of permitted executions.
+   */
+  boolean isRampingUp() {
+    return rampingUp && ticker.nanoTime() - rampUpStartTime < rampUpNanos;
   }
 
   @Override
@@ -40,18 +83,27 @@ class ClosedState<R> extends CircuitState<R> {
   }
 
   /**
-   * Checks to see if the executions and failure thresholds have been exceeded, opening the circuit if so.
+   * Checks to see if the executions and failure or slow call thresholds have been exceeded, opening the circuit if so.
    */
   @Override
-  synchronized void checkThreshold(ExecutionContext<R> context) {
+  void checkThreshold(ExecutionContext<R> context) {
+    long counts = stats.getCounts();
+    int failures = CircuitStats.failures(counts);
+    int executions = CircuitStats.successes(counts) + failures;
+
     // Execution threshold can only be set for time based thresholding
-    if (stats.getExecutionCount() >= config.getFailureExecutionThreshold()) {
+    if (executions >= config.getFailureExecutionThreshold()) {
       // Failure rate threshold can only be set for time based thresholding
-      double failureRateThreshold = config.getFailureRateThreshold();
-      if ((failureRateThreshold != 0 && stats.getFailureRate() >= failureRateThreshold) || (failureRateThreshold == 0
-        && stats.getFailureCount() >= config.getFailureThreshold()))
+      long failureRateThreshold = failureRateThresholdBasisPoints();
+      if ((failureRateThreshold != 0 && isRateAtLeast(failures, executions, failureRateThreshold)) || (
+        failureRateThreshold == 0 && failures >= config.getFailureThreshold())) {
         breaker.open(context);
+        return;
+      }
     }
+
+    if (isSlowCallRateExceeded(capacityFor(breaker)))
+      breaker.open(context);
   }
 
   /**
@@ -15,30 +15,41 @@
  */
 package dev.failsafe.internal;
 
-import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
- * A CircuitStats implementation that counts execution results using a BitSet.
+ * A CircuitStats implementation that counts execution results using a ring of 2 bit entries packed into an
+ * AtomicLongArray. An entry is {@code 00} when empty, {@code 01} for a success, and {@code 10} for a failure.
+ * Whether each entry was slow is tracked in a parallel ring of 1 bit entries.
+ * <p>
+ * Recording threads claim the next entry via CAS on the current index, then swap the entry's bits via CAS on the word
+ * that contains it. Success and failure counts are computed from the entries themselves, so they are always exact with
+ * respect to the ring and can be read without locking.
+ * </p>
  */
 class CountingCircuitStats implements CircuitStats {
-  final BitSet bitSet;
+  private static final int ENTRIES_PER_WORD = 32;
+  private static final long SUCCESS_BITS = 0x5555555555555555L;
+  private static final long FAILURE_BITS = 0xAAAAAAAAAAAAAAAAL;
+  private static final long ENTRY_MASK = 0b11L;
+  private static final long SUCCESS = 0b01L;
+  private static final long FAILURE = 0b10L;
+
+  final AtomicLongArray words;
+  final AtomicLongArray slowWords;
   private final int size;
 
   /** Index to write next entry to */
-  volatile int currentIndex;
-  private volatile int occupiedBits;
-  private volatile int successes;
-  private volatile int failures;
+  final AtomicInteger currentIndex = new AtomicInteger();
 
   public CountingCircuitStats(int size, CircuitStats oldStats) {
-    this.bitSet = new BitSet(size);
+    this.words = new AtomicLongArray((size + ENTRIES_PER_WORD - 1) / ENTRIES_PER_WORD);
+    this.slowWords = new AtomicLongArray((size + Long.SIZE - 1) / Long.SIZE);
     this.size = size;
 
-    if (oldStats != null) {
-      synchronized (oldStats) {
-        copyStats(oldStats);
-      }
-    }
+    if (oldStats != null)
+      copyStats(oldStats);
   }
 
   /**
@@ -47,110 +58,190 @@ class CountingCircuitStats implements CircuitStats {
   void copyStats(CircuitStats oldStats) {
     if (oldStats instanceof CountingCircuitStats) {
       CountingCircuitStats old = (CountingCircuitStats) oldStats;
-      int bitsToCopy = Math.min(old.occupiedBits, size);
-      int oldIndex = old.currentIndex - bitsToCopy;
+      int occupiedEntries = old.getExecutionCount();
+      int entriesToCopy = Math.min(occupiedEntries, size);
+      int oldIndex = old.currentIndex.get() - entriesToCopy;
       if (oldIndex < 0)
-        oldIndex += old.occupiedBits;
-      for (int i = 0; i < bitsToCopy; i++, oldIndex = old.indexAfter(oldIndex))
-        setNext(old.bitSet.get(oldIndex));
+        oldIndex += occupiedEntries;
+      for (int i = 0; i < entriesToCopy; i++, oldIndex = old.indexAfter(oldIndex))
+        setNext(old.get(oldIndex) == 1, old.isSlow(oldIndex));
     } else {
       copyExecutions(oldStats);
     }
   }
 
   @Override
-  public void recordSuccess() {
-    setNext(true);
+  public void recordSuccess(boolean slow) {
+    setNext(true, slow);
   }
 
   @Override
-  public void recordFailure() {
-    setNext(false);
+  public void recordFailure(boolean slow) {
+    setNext(false, slow);
+  }
+
+  @Override
+  public int getSlowCount() {
+    int count = 0;
+    for (int i = 0; i < slowWords.length(); i++)
+      count += Long.bitCount(slowWords.get(i));
+    return count;
+  }
+
+  @Override
+  public long getCounts() {
+    int successes = 0;
+    int failures = 0;
+    for (int i = 0; i < words.length(); i++) {
+      long word = words.get(i);
+      successes += Long.bitCount(word & SUCCESS_BITS);
+      failures += Long.bitCount(word & FAILURE_BITS);
+    }
+    return CircuitStats.countsOf(successes, failures);
   }
 
   @Override
   public int getExecutionCount() {
-    return occupiedBits;
+    int count = 0;
+    for (int i = 0; i < words.length(); i++)
+      count += Long.bitCount(words.get(i));
+    return count;
   }
 
   @Override
   public int getFailureCount() {
-    return failures;
+    return count(FAILURE_BITS);
   }
 
   @Override
-  public synchronized int getFailureRate() {
-    return (int) Math.round(occupiedBits == 0 ? 0 : (double) failures / (double) occupiedBits * 100.0);
+  public int getFailureRate() {
+    int executions = 0;
+    int failures = 0;
+    for (int i = 0; i < words.length(); i++) {
+      long word = words.get(i);
+      executions += Long.bitCount(word);
+      failures += Long.bitCount(word & FAILURE_BITS);
+    }
+    return (int) Math.round(executions == 0 ? 0 : (double) failures / (double) executions * 100.0);
   }
 
   @Override
   public int getSuccessCount() {
-    return successes;
+    return count(SUCCESS_BITS);
   }
 
   @Override
-  public synchronized int getSuccessRate() {
-    return (int) Math.round(occupiedBits == 0 ? 0 : (double) successes / (double) occupiedBits * 100.0);
+  public int getSuccessRate() {
+    int executions = 0;
+    int successes = 0;
+    for (int i = 0; i < words.length(); i++) {
+      long word = words.get(i);
+      executions += Long.bitCount(word);
+      successes += Long.bitCount(word & SUCCESS_BITS);
+    }
+    return (int) Math.round(executions == 0 ? 0 : (double) successes / (double) executions * 100.0);
   }
 
   @Override
-  public synchronized void reset() {
-    bitSet.clear();
-    currentIndex = 0;
-    occupiedBits = 0;
-    successes = 0;
-    failures = 0;
+  public void reset() {
+    for (int i = 0; i < words.length(); i++)
+      words.set(i, 0);
+    for (int i = 0; i < slowWords.length(); i++)
+      slowWords.set(i, 0);
+    currentIndex.set(0);
   }
 
   /**
-   * Sets the value of the next bit in the bitset, returning the previous value, else -1 if no previous value was set
-   * for the bit.
+   * Sets the value of the next entry, returning the previous value, else -1 if no previous value was set for the
+   * entry.
    *
    * @param value true if positive/success, false if negative/failure
    */
-  synchronized int setNext(boolean value) {
-    int previousValue = -1;
-    if (occupiedBits < size)
-      occupiedBits++;
-    else
-      previousValue = bitSet.get(currentIndex) ? 1 : 0;
-
-    bitSet.set(currentIndex, value);
-    currentIndex = indexAfter(currentIndex);
-
-    if (value) {
-      if (previousValue != 1)
-        successes++;
-      if (previousValue == 0)
-        failures--;
-    } else {
-      if (previousValue != 0)
-        failures++;
-      if (previousValue == 1)
-        successes--;
-    }
+  int setNext(boolean value) {
+    return setNext(value, false);
+  }
 
-    return previousValue;
+  /**
+   * Sets the value of the next entry along with whether it was {@code slow}, returning the previous value, else -1 if
+   * no previous value was set for the entry.
+   *
+   * @param value true if positive/success, false if negative/failure
+   */
+  int setNext(boolean value, boolean slow) {
+    int index = currentIndex.getAndUpdate(this::indexAfter);
+    setSlow(index, slow);
+    int wordIndex = index / ENTRIES_PER_WORD;
+    int shift = (index % ENTRIES_PER_WORD) * 2;
+    long entry = (value ? SUCCESS : FAILURE) << shift;
+
+    long word;
+    do {
+      word = words.get(wordIndex);
+    } while (!words.compareAndSet(wordIndex, word, (word & ~(ENTRY_MASK << shift)) | entry));
+
+    return valueOf((word >>> shift) & ENTRY_MASK);
   }
 
   /**
-   * Returns an array representation of the BitSet entries.
+   * Returns the value of the entry at the {@code index}: 1 for a success, 0 for a failure, else -1 if the entry is
+   * empty.
+   */
+  int get(int index) {
+    long word = words.get(index / ENTRIES_PER_WORD);
+    return valueOf((word >>> ((index % ENTRIES_PER_WORD) * 2)) & ENTRY_MASK);
+  }
+
+  /**
+   * Returns whether the entry at the {@code index} was slow.
+   */
+  boolean isSlow(int index) {
+    return (slowWords.get(index / Long.SIZE) & (1L << (index % Long.SIZE))) != 0;
+  }
+
+  private void setSlow(int index, boolean slow) {
+    int wordIndex = index / Long.SIZE;
+    long bit = 1L << (index % Long.SIZE);
+    long word;
+    do {
+      word = slowWords.get(wordIndex);
+      if (((word & bit) != 0) == slow)
+        return;
+    } while (!slowWords.compareAndSet(wordIndex, word, slow ? word | bit : word & ~bit));
+  }
+
+  /**
+   * Returns an array representation of the ring entries.
    */
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder().append('[');
-    for (int i = 0; i < occupiedBits; i++) {
+    int executions = getExecutionCount();
+    for (int i = 0; i < executions; i++) {
       if (i > 0)
         sb.append(", ");
-      sb.append(bitSet.get(i));
+      sb.append(get(i) == 1);
     }
     return sb.append(']').toString();
   }
 
+  /**
+   * Returns the number of entries whose bits match the {@code mask}.
+   */
+  private int count(long mask) {
+    int count = 0;
+    for (int i = 0; i < words.length(); i++)
+      count += Long.bitCount(words.get(i) & mask);
+    return count;
+  }
+
   /**
    * Returns the index after the {@code index}.
    */
   private int indexAfter(int index) {
     return index == size - 1 ? 0 : index + 1;
   }
-}
\ No newline at end of file
+
+  private static int valueOf(long entry) {
+    return entry == SUCCESS ? 1 : entry == FAILURE ? 0 : -1;
+  }
+}
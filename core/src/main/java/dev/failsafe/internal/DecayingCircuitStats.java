@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.spi.Ticker;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A CircuitStats implementation that counts execution results as exponentially weighted moving sums, where each result's
+ * weight halves every half-life. This gives smooth failure rates without bucket rollovers, using constant space.
+ * <p>
+ * Rather than decaying existing sums when a result is recorded, each result is added with a weight that grows
+ * exponentially with the time since an epoch origin, and the sums are decayed relative to the current time when read.
+ * Recording is a single CAS on a double sum. Every {@value #REBASE_HALF_LIVES} half-lives the epoch is rebased to keep
+ * the sums within double range. Results that are recorded concurrently with a rebase may be lost.
+ * </p>
+ */
+class DecayingCircuitStats implements CircuitStats {
+  /** The number of half-lives after which the epoch origin is rebased */
+  static final int REBASE_HALF_LIVES = 64;
+  private static final double LN_2 = Math.log(2);
+
+  private final Ticker ticker;
+  private final long halfLifeNanos;
+  private final long rebaseNanos;
+  final AtomicReference<Epoch> epoch;
+
+  /**
+   * Sums that are scaled relative to an origin time, stored as double bits.
+   */
+  static final class Epoch {
+    final long originNanos;
+    final AtomicLong successSum;
+    final AtomicLong failureSum;
+    final AtomicLong slowSum;
+
+    Epoch(long originNanos, double successSum, double failureSum, double slowSum) {
+      this.originNanos = originNanos;
+      this.successSum = new AtomicLong(Double.doubleToRawLongBits(successSum));
+      this.failureSum = new AtomicLong(Double.doubleToRawLongBits(failureSum));
+      this.slowSum = new AtomicLong(Double.doubleToRawLongBits(slowSum));
+    }
+
+    /**
+     * Returns a new epoch with the {@code originNanos} whose sums are this epoch's sums multiplied by the {@code scale}.
+     */
+    Epoch scaled(long originNanos, double scale) {
+      return new Epoch(originNanos, get(successSum) * scale, get(failureSum) * scale, get(slowSum) * scale);
+    }
+  }
+
+  public DecayingCircuitStats(Duration halfLife, Ticker ticker, CircuitStats oldStats) {
+    this.ticker = ticker;
+    this.halfLifeNanos = halfLife.toNanos();
+    this.rebaseNanos = halfLifeNanos > Long.MAX_VALUE / REBASE_HALF_LIVES ?
+      Long.MAX_VALUE :
+      halfLifeNanos * REBASE_HALF_LIVES;
+    long nowNanos = ticker.nanoTime();
+
+    if (oldStats instanceof DecayingCircuitStats) {
+      // Continue from the decayed sums of the old stats
+      DecayingCircuitStats old = (DecayingCircuitStats) oldStats;
+      Epoch oldEpoch = old.epoch.get();
+      epoch = new AtomicReference<>(oldEpoch.scaled(nowNanos, old.decayFactor(oldEpoch, nowNanos)));
+    } else {
+      epoch = new AtomicReference<>(new Epoch(nowNanos, 0, 0, 0));
+      if (oldStats != null)
+        copyExecutions(oldStats);
+    }
+  }
+
+  @Override
+  public void recordSuccess(boolean slow) {
+    record(true, slow);
+  }
+
+  @Override
+  public void recordFailure(boolean slow) {
+    record(false, slow);
+  }
+
+  private void record(boolean success, boolean slow) {
+    long nowNanos = ticker.nanoTime();
+    Epoch epoch = this.epoch.get();
+    if (nowNanos - epoch.originNanos >= rebaseNanos)
+      epoch = rebase(epoch, nowNanos);
+
+    // Weight the result relative to the epoch origin
+    double weight = 1 / decayFactor(epoch, nowNanos);
+    add(success ? epoch.successSum : epoch.failureSum, weight);
+    if (slow)
+      add(epoch.slowSum, weight);
+  }
+
+  /**
+   * Replaces the {@code epoch} with one whose origin is advanced by a whole number of half-lives, scaling the sums to
+   * the new origin, and returns the current epoch.
+   */
+  private Epoch rebase(Epoch epoch, long nowNanos) {
+    long halfLives = (nowNanos - epoch.originNanos) / halfLifeNanos;
+    Epoch newEpoch = epoch.scaled(epoch.originNanos + halfLives * halfLifeNanos, Math.pow(2, -halfLives));
+    return this.epoch.compareAndSet(epoch, newEpoch) ? newEpoch : this.epoch.get();
+  }
+
+  @Override
+  public long getCounts() {
+    Epoch epoch = this.epoch.get();
+    double decay = decayFactor(epoch, ticker.nanoTime());
+    return CircuitStats.countsOf(round(get(epoch.successSum) * decay), round(get(epoch.failureSum) * decay));
+  }
+
+  @Override
+  public int getExecutionCount() {
+    long counts = getCounts();
+    return CircuitStats.successes(counts) + CircuitStats.failures(counts);
+  }
+
+  @Override
+  public int getFailureCount() {
+    return CircuitStats.failures(getCounts());
+  }
+
+  @Override
+  public int getSuccessCount() {
+    return CircuitStats.successes(getCounts());
+  }
+
+  @Override
+  public int getSlowCount() {
+    Epoch epoch = this.epoch.get();
+    return round(get(epoch.slowSum) * decayFactor(epoch, ticker.nanoTime()));
+  }
+
+  /**
+   * Returns the failure rate computed from the unrounded sums. Since decay applies equally to both sums, it cancels out.
+   */
+  @Override
+  public int getFailureRate() {
+    Epoch epoch = this.epoch.get();
+    return rateOf(get(epoch.failureSum), get(epoch.successSum));
+  }
+
+  /**
+   * Returns the success rate computed from the unrounded sums. Since decay applies equally to both sums, it cancels out.
+   */
+  @Override
+  public int getSuccessRate() {
+    Epoch epoch = this.epoch.get();
+    return rateOf(get(epoch.successSum), get(epoch.failureSum));
+  }
+
+  @Override
+  public void reset() {
+    epoch.set(new Epoch(ticker.nanoTime(), 0, 0, 0));
+  }
+
+  /**
+   * Returns the factor to multiply the {@code epoch}'s sums by to decay them to the {@code nowNanos}.
+   */
+  private double decayFactor(Epoch epoch, long nowNanos) {
+    return Math.exp(-LN_2 * ((double) (nowNanos - epoch.originNanos) / halfLifeNanos));
+  }
+
+  private static int rateOf(double sum, double otherSum) {
+    double total = sum + otherSum;
+    return (int) Math.round(total == 0 ? 0 : sum / total * 100.0);
+  }
+
+  private static int round(double value) {
+    return (int) Math.min(Math.round(value), Integer.MAX_VALUE);
+  }
+
+  private static double get(AtomicLong sum) {
+    return Double.longBitsToDouble(sum.get());
+  }
+
+  private static void add(AtomicLong sum, double value) {
+    long bits;
+    do {
+      bits = sum.get();
+    } while (!sum.compareAndSet(bits, Double.doubleToRawLongBits(Double.longBitsToDouble(bits) + value)));
+  }
+
+  @Override
+  public String toString() {
+    long counts = getCounts();
+    return "DecayingCircuitStats[successes=" + CircuitStats.successes(counts) + ", failures=" + CircuitStats.failures(
+      counts) + ", halfLife=" + Duration.ofNanos(halfLifeNanos) + ']';
+  }
+}
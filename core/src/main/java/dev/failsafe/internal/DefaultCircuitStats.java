@@ -5,6 +5,13 @@ package dev.failsafe.internal;
  */
 class DefaultCircuitStats implements CircuitStats {
   volatile int result = -1;
+  volatile boolean slow;
+
+  @Override
+  public long getCounts() {
+    int result = this.result;
+    return CircuitStats.countsOf(result == 1 ? 1 : 0, result == 0 ? 1 : 0);
+  }
 
   @Override
   public int getFailureCount() {
@@ -32,17 +39,25 @@ class DefaultCircuitStats implements CircuitStats {
   }
 
   @Override
-  public void recordFailure() {
+  public int getSlowCount() {
+    return slow && result != -1 ? 1 : 0;
+  }
+
+  @Override
+  public void recordFailure(boolean slow) {
+    this.slow = slow;
     result = 0;
   }
 
   @Override
-  public void recordSuccess() {
+  public void recordSuccess(boolean slow) {
+    this.slow = slow;
     result = 1;
   }
 
   @Override
   public void reset() {
     result = -1;
+    slow = false;
   }
 }
@@ -56,35 +56,50 @@ class HalfOpenState<R> extends CircuitState<R> {
    * If a success threshold is configured, the circuit is opened or closed based on whether the ratio was exceeded.
    * <p>
    * Else the circuit is opened or closed based on whether the failure threshold was exceeded.
+   * <p>
+   * If the circuit would be closed but the slow call rate threshold is met, it's opened instead.
    */
   @Override
-  synchronized void checkThreshold(ExecutionContext<R> context) {
+  void checkThreshold(ExecutionContext<R> context) {
     boolean successesExceeded;
     boolean failuresExceeded;
 
+    // Read the counts together so that thresholds are checked against a consistent snapshot
+    long counts = stats.getCounts();
+    int successes = CircuitStats.successes(counts);
+    int failures = CircuitStats.failures(counts);
+
     int successThreshold = config.getSuccessThreshold();
     if (successThreshold != 0) {
       int successThresholdingCapacity = config.getSuccessThresholdingCapacity();
-      successesExceeded = stats.getSuccessCount() >= successThreshold;
-      failuresExceeded = stats.getFailureCount() > successThresholdingCapacity - successThreshold;
+      successesExceeded = successes >= successThreshold;
+      failuresExceeded = failures > successThresholdingCapacity - successThreshold;
     } else {
       // Failure rate threshold can only be set for time based thresholding
-      int failureRateThreshold = config.getFailureRateThreshold();
+      long failureRateThreshold = failureRateThresholdBasisPoints();
       if (failureRateThreshold != 0) {
+        int executions = successes + failures;
+
         // Execution threshold can only be set for time based thresholding
-        boolean executionThresholdExceeded = stats.getExecutionCount() >= config.getFailureExecutionThreshold();
-        failuresExceeded = executionThresholdExceeded && stats.getFailureRate() >= failureRateThreshold;
-        successesExceeded = executionThresholdExceeded && stats.getSuccessRate() > 100 - failureRateThreshold;
+        boolean executionThresholdExceeded = executions >= config.getFailureExecutionThreshold();
+        failuresExceeded = executionThresholdExceeded && isRateAtLeast(failures, executions, failureRateThreshold);
+        successesExceeded = executionThresholdExceeded
+          && successes * 10000L > (10000 - failureRateThreshold) * executions;
       } else {
         int failureThresholdingCapacity = config.getFailureThresholdingCapacity();
         int failureThreshold = config.getFailureThreshold();
-        failuresExceeded = stats.getFailureCount() >= failureThreshold;
-        successesExceeded = stats.getSuccessCount() > failureThresholdingCapacity - failureThreshold;
+        failuresExceeded = failures >= failureThreshold;
+        successesExceeded = successes > failureThresholdingCapacity - failureThreshold;
       }
     }
 
-    if (successesExceeded)
-      breaker.close();
+    if (successesExceeded) {
+      // Re-open rather than close if the recovered executions are still too slow
+      if (isSlowCallRateExceeded(1))
+        breaker.open(context);
+      else
+        breaker.closeRecovered();
+    }
     else if (failuresExceeded)
       breaker.open(context);
   }
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.KeyedRateLimiter;
+import dev.failsafe.RateLimitExceededException;
+import dev.failsafe.spi.ExecutionInternal;
+import dev.failsafe.spi.ExecutionResult;
+import dev.failsafe.spi.FailsafeFuture;
+import dev.failsafe.spi.PolicyExecutor;
+import dev.failsafe.spi.Scheduler;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A PolicyExecutor that handles executions according to the {@link dev.failsafe.RateLimiter} for the key that is
+ * resolved from each execution attempt, by acquiring permits from that rate limiter directly.
+ *
+ * @param <K> key type
+ * @param <R> result type
+ * @see KeyedRateLimiter
+ */
+public class KeyedRateLimiterExecutor<K, R> extends PolicyExecutor<R> {
+  private final KeyedRateLimiterImpl<K, R> keyedRateLimiter;
+  private final Duration maxWaitTime;
+
+  public KeyedRateLimiterExecutor(KeyedRateLimiterImpl<K, R> keyedRateLimiter, int policyIndex) {
+    super(keyedRateLimiter, policyIndex);
+    this.keyedRateLimiter = keyedRateLimiter;
+    maxWaitTime = keyedRateLimiter.getConfig().getMaxWaitTime();
+  }
+
+  @Override
+  protected ExecutionResult<R> preExecute(ExecutionInternal<R> execution) {
+    RateLimiterImpl<R> rateLimiter = keyedRateLimiter.getOrCreateFor(execution);
+    try {
+      return rateLimiter.tryAcquirePermit(maxWaitTime) ?
+        null :
+        ExecutionResult.exception(new RateLimitExceededException(rateLimiter));
+    } catch (InterruptedException e) {
+      // Set interrupt flag
+      Thread.currentThread().interrupt();
+      return ExecutionResult.exception(e);
+    }
+  }
+
+  @Override
+  protected CompletableFuture<ExecutionResult<R>> preExecuteAsync(ExecutionInternal<R> execution, Scheduler scheduler,
+    FailsafeFuture<R> future) {
+    RateLimiterImpl<R> rateLimiter = keyedRateLimiter.getOrCreateFor(execution);
+    return RateLimiterExecutor.preExecuteAsync(this, () -> rateLimiter.reservePermits(1, maxWaitTime),
+      () -> rateLimiter.releasePermits(1), () -> new RateLimitExceededException(rateLimiter), scheduler, future);
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.ExecutionContext;
+import dev.failsafe.KeyedRateLimiter;
+import dev.failsafe.RateLimiter;
+import dev.failsafe.RateLimiterConfig;
+import dev.failsafe.internal.RateLimiterStats.Stopwatch;
+import dev.failsafe.internal.util.Assert;
+import dev.failsafe.internal.util.IdleEvictingMap;
+import dev.failsafe.spi.PolicyExecutor;
+
+import java.util.function.Function;
+
+/**
+ * A {@link KeyedRateLimiter} implementation that evicts rate limiters whose permits are all available.
+ * <p>
+ * Rate limiters for each key share the config and a stopwatch, so that each key only holds its rate limiter and stats.
+ * </p>
+ *
+ * @param <K> key type
+ * @param <R> result type
+ * @see dev.failsafe.KeyedRateLimiterBuilder
+ */
+public class KeyedRateLimiterImpl<K, R> implements KeyedRateLimiter<K, R> {
+  private final RateLimiterConfig<R> config;
+  private final Function<? super ExecutionContext<R>, ? extends K> keyResolver;
+  private final IdleEvictingMap<K, RateLimiterImpl<R>> limiters;
+
+  public KeyedRateLimiterImpl(RateLimiterConfig<R> config, Function<? super ExecutionContext<R>, ? extends K> keyResolver,
+    int maxSize, long idleTimeoutNanos) {
+    this.config = config;
+    this.keyResolver = keyResolver;
+    Stopwatch stopwatch = new Stopwatch(config.getTicker());
+    // Rate limiters do not lease permits, so that no thread locals are created per key
+    this.limiters = new IdleEvictingMap<>(key -> new RateLimiterImpl<>(config, stopwatch, false),
+      RateLimiterImpl::isFull, config.getTicker(), maxSize, idleTimeoutNanos);
+  }
+
+  @Override
+  public RateLimiterConfig<R> getConfig() {
+    return config;
+  }
+
+  @Override
+  public RateLimiter<R> getOrCreate(K key) {
+    return limiters.getOrCreate(Assert.notNull(key, "key"));
+  }
+
+  @Override
+  public RateLimiter<R> get(K key) {
+    return limiters.get(Assert.notNull(key, "key"));
+  }
+
+  @Override
+  public RateLimiter<R> remove(K key) {
+    return limiters.remove(Assert.notNull(key, "key"));
+  }
+
+  @Override
+  public int size() {
+    return limiters.size();
+  }
+
+  /**
+   * Returns the rate limiter for the key that is resolved from the {@code context}.
+   *
+   * @throws NullPointerException if the resolved key is null
+   */
+  RateLimiterImpl<R> getOrCreateFor(ExecutionContext<R> context) {
+    return limiters.getOrCreate(Assert.notNull(keyResolver.apply(context), "key"));
+  }
+
+  @Override
+  public PolicyExecutor<R> toExecutor(int policyIndex) {
+    Assert.state(keyResolver != null, "A key resolver is required to use a KeyedRateLimiter as a policy");
+    return new KeyedRateLimiterExecutor<>(this, policyIndex);
+  }
+
+  @Override
+  public String toString() {
+    return "KeyedRateLimiter[size=" + limiters.size() + ']';
+  }
+}
@@ -16,21 +16,25 @@
 package dev.failsafe.internal;
 
 import dev.failsafe.CircuitBreaker.State;
+import dev.failsafe.spi.Ticker;
 
 import java.time.Duration;
 
 class OpenState<R> extends CircuitState<R> {
-  private final long startTime = System.nanoTime();
+  private final Ticker ticker;
+  private final long startTime;
   private final long delayNanos;
 
   public OpenState(CircuitBreakerImpl<R> breaker, CircuitState<R> previousState, Duration delay) {
     super(breaker, previousState.stats);
+    this.ticker = config.getTicker();
+    this.startTime = ticker.nanoTime();
     this.delayNanos = delay.toNanos();
   }
 
   @Override
   public boolean tryAcquirePermit() {
-    if (System.nanoTime() - startTime >= delayNanos) {
+    if (ticker.nanoTime() - startTime >= delayNanos) {
       breaker.halfOpen();
       return breaker.tryAcquirePermit();
     }
@@ -40,7 +44,7 @@ class OpenState<R> extends CircuitState<R> {
 
   @Override
   public Duration getRemainingDelay() {
-    long elapsedTime = System.nanoTime() - startTime;
+    long elapsedTime = ticker.nanoTime() - startTime;
     long remainingDelay = delayNanos - elapsedTime;
     return Duration.ofNanos(Math.max(remainingDelay, 0));
   }
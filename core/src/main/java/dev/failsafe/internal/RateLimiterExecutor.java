@@ -26,6 +26,9 @@ import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 /**
  * A PolicyExecutor that handles failures according to a {@link RateLimiter}.
@@ -58,26 +61,50 @@ public class RateLimiterExecutor<R> extends PolicyExecutor<R> {
 
   @Override
   protected CompletableFuture<ExecutionResult<R>> preExecuteAsync(Scheduler scheduler, FailsafeFuture<R> future) {
+    return preExecuteAsync(this, () -> rateLimiter.reservePermits(1, maxWaitTime), () -> rateLimiter.releasePermits(1),
+      () -> new RateLimitExceededException(rateLimiter), scheduler, future);
+  }
+
+  /**
+   * Reserves a permit via the {@code acquireFn}, which returns the nanos to wait for the permit, else {@code -1} if the
+   * permit could not be reserved, and returns a promise that is completed once the wait is over, else {@code null} if
+   * no wait is needed. The reserved permit is released via the {@code releaseFn} if the wait is cancelled or cannot be
+   * scheduled.
+   */
+  static <R> CompletableFuture<ExecutionResult<R>> preExecuteAsync(PolicyExecutor<R> executor, LongSupplier acquireFn,
+    Runnable releaseFn, Supplier<RateLimitExceededException> exceededFn, Scheduler scheduler, FailsafeFuture<R> future) {
+
+    long waitNanos = acquireFn.getAsLong();
+    if (waitNanos == 0) {
+      // Proceed with the execution immediately since no wait is needed
+      return null;
+    }
+
     CompletableFuture<ExecutionResult<R>> promise = new CompletableFuture<>();
-    long waitNanos = rateLimiter.reservePermits(1, maxWaitTime);
     if (waitNanos == -1)
-      promise.complete(ExecutionResult.exception(new RateLimitExceededException(rateLimiter)));
+      promise.complete(ExecutionResult.exception(exceededFn.get()));
     else {
+      AtomicBoolean waitComplete = new AtomicBoolean();
       try {
         // Wait for the permit
         Future<?> permitWaitFuture = scheduler.schedule(() -> {
           // Signal for execution to proceed
-          promise.complete(ExecutionResult.none());
+          if (waitComplete.compareAndSet(false, true))
+            promise.complete(ExecutionResult.none());
           return null;
         }, waitNanos, TimeUnit.NANOSECONDS);
 
-        // Propagate outer cancellations to the promise and permit wait future
-        future.setCancelFn(this, (mayInterrupt, cancelResult) -> {
+        // Propagate outer cancellations to the promise and permit wait future, releasing the unused permit first
+        future.setCancelFn(executor, (mayInterrupt, cancelResult) -> {
+          if (waitComplete.compareAndSet(false, true)) {
+            permitWaitFuture.cancel(mayInterrupt);
+            releaseFn.run();
+          }
           promise.complete(cancelResult);
-          permitWaitFuture.cancel(mayInterrupt);
         });
       } catch (Throwable t) {
         // Hard scheduling failure
+        releaseFn.run();
         promise.completeExceptionally(t);
       }
     }
@@ -15,34 +15,63 @@
  */
 package dev.failsafe.internal;
 
+import dev.failsafe.RateLimitExceededException;
 import dev.failsafe.RateLimiter;
 import dev.failsafe.RateLimiterConfig;
 import dev.failsafe.internal.RateLimiterStats.Stopwatch;
 import dev.failsafe.internal.util.Assert;
 import dev.failsafe.internal.util.Durations;
 import dev.failsafe.spi.PolicyExecutor;
+import dev.failsafe.spi.Scheduler;
 
 import java.time.Duration;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * A RateLimiter implementation that supports smooth and bursty rate limiting.
+ * A RateLimiter implementation that supports smooth, bursty, and token bucket rate limiting.
  *
  * @param <R> result type
  */
 public class RateLimiterImpl<R> implements RateLimiter<R> {
   private final RateLimiterConfig<R> config;
   private final RateLimiterStats stats;
+  private final RateLimiterImpl<?> parent;
+  private final Stopwatch stopwatch;
+
+  // Null if permit leasing is not used
+  private final Leasing leasing;
 
   public RateLimiterImpl(RateLimiterConfig<R> config) {
-    this(config, new Stopwatch());
+    this(config, new Stopwatch(config.getTicker()), true);
   }
 
   RateLimiterImpl(RateLimiterConfig<R> config, Stopwatch stopwatch) {
+    this(config, stopwatch, true);
+  }
+
+  /**
+   * Creates a rate limiter that uses the {@code stopwatch}, and that leases permits to threads if {@code leasing} is
+   * {@code true} and a lease size is configured.
+   */
+  RateLimiterImpl(RateLimiterConfig<R> config, Stopwatch stopwatch, boolean leasing) {
     this.config = config;
-    stats = config.getMaxRate() != null ?
-      new SmoothRateLimiterStats(config, stopwatch) :
-      new BurstyRateLimiterStats(config, stopwatch);
+    this.parent = (RateLimiterImpl<?>) config.getParent();
+    this.stopwatch = stopwatch;
+    this.leasing = leasing && config.getLeaseSize() != 0 ? new Leasing(config) : null;
+    if (config.getMaxRate() != null)
+      stats = new SmoothRateLimiterStats(config, stopwatch);
+    else if (config.getRefillRate() != null)
+      stats = new TokenBucketRateLimiterStats(config, stopwatch);
+    else
+      stats = new BurstyRateLimiterStats(config, stopwatch);
   }
 
   @Override
@@ -60,7 +89,7 @@ public class RateLimiterImpl<R> implements RateLimiter<R> {
   @Override
   public Duration reservePermits(int permits) {
     Assert.isTrue(permits > 0, "permits must be > 0");
-    return Duration.ofNanos(stats.acquirePermits(permits, null));
+    return Duration.ofNanos(acquire(permits, null));
   }
 
   @Override
@@ -83,6 +112,16 @@ public class RateLimiterImpl<R> implements RateLimiter<R> {
     return Duration.ofNanos(reservePermits(permits, maxWaitTime));
   }
 
+  @Override
+  public CompletableFuture<Void> acquirePermitsAsync(int permits) {
+    return acquireAsync(permits, reservePermits(permits).toNanos());
+  }
+
+  @Override
+  public CompletableFuture<Void> acquirePermitsAsync(int permits, Duration maxWaitTime) {
+    return acquireAsync(permits, reservePermits(permits, maxWaitTime));
+  }
+
   @Override
   public PolicyExecutor<R> toExecutor(int policyIndex) {
     return new RateLimiterExecutor<>(this, policyIndex);
@@ -91,6 +130,203 @@ public class RateLimiterImpl<R> implements RateLimiter<R> {
   long reservePermits(int permits, Duration maxWaitTime) {
     Assert.isTrue(permits > 0, "permits must be > 0");
     Assert.notNull(maxWaitTime, "maxWaitTime");
-    return stats.acquirePermits(permits, Durations.ofSafeNanos(maxWaitTime));
+    return acquire(permits, Durations.ofSafeNanos(maxWaitTime));
+  }
+
+  /**
+   * Permits that were leased by a thread. Permits are taken by the owning thread, but may be reclaimed by any thread once
+   * the lease expires, so they are updated atomically. A lease does not reference its rate limiter, so a lease that is
+   * left in a thread's locals does not keep a discarded rate limiter reachable.
+   */
+  private static final class Lease {
+    private static final AtomicIntegerFieldUpdater<Lease> PERMITS = AtomicIntegerFieldUpdater.newUpdater(Lease.class,
+      "permits");
+    private static final AtomicIntegerFieldUpdater<Lease> ACTIVE = AtomicIntegerFieldUpdater.newUpdater(Lease.class,
+      "active");
+
+    volatile int permits;
+    volatile long expirationNanos;
+    // 1 if the lease is in the active leases queue, else 0
+    volatile int active;
+
+    /**
+     * Takes {@code permits} from the lease, returning whether it was successful.
+     */
+    boolean take(int permits, long currentNanos) {
+      while (true) {
+        int leased = this.permits;
+        if (currentNanos >= expirationNanos || leased < permits)
+          return false;
+        if (PERMITS.compareAndSet(this, leased, leased - permits))
+          return true;
+      }
+    }
+
+    /**
+     * Takes and returns all remaining permits from the lease.
+     */
+    int takeAll() {
+      return permits == 0 ? 0 : PERMITS.getAndSet(this, 0);
+    }
+  }
+
+  /**
+   * The permit leasing state of a rate limiter.
+   */
+  private static final class Leasing {
+    final int leaseSize;
+    final Duration leaseDuration;
+    final ThreadLocal<Lease> leases = ThreadLocal.withInitial(Lease::new);
+    // Leases that may hold permits, which are reclaimed by any acquiring thread once expired
+    final Queue<Lease> activeLeases = new ConcurrentLinkedQueue<>();
+    final AtomicLong nextReclaimNanos;
+
+    Leasing(RateLimiterConfig<?> config) {
+      leaseSize = config.getLeaseSize();
+      leaseDuration = config.getLeaseDuration();
+      nextReclaimNanos = new AtomicLong(leaseDuration.toNanos());
+    }
+  }
+
+  /**
+   * Acquires {@code permits} from the current thread's lease if leasing is configured, renewing the lease if needed,
+   * else from this rate limiter and any parents.
+   */
+  private long acquire(int permits, Duration maxWaitTime) {
+    if (leasing != null) {
+      Lease lease = leasing.leases.get();
+      long currentNanos = stopwatch.elapsedNanos();
+      int leaseSize = leasing.leaseSize;
+      if (permits < leaseSize) {
+        if (lease.take(permits, currentNanos))
+          return 0;
+
+        // Release the unused permits from an expired or insufficient lease, then lease a new batch
+        int unused = lease.takeAll();
+        if (unused > 0)
+          releasePermits(unused);
+        reclaimExpiredLeases(currentNanos);
+        if (acquireFromAll(leaseSize, leasing.leaseDuration) != -1) {
+          lease.expirationNanos = currentNanos + leasing.leaseDuration.toNanos();
+          Lease.PERMITS.set(lease, leaseSize - permits);
+          if (Lease.ACTIVE.compareAndSet(lease, 0, 1))
+            leasing.activeLeases.add(lease);
+          return 0;
+        }
+
+        // Drop the thread's lease while it cannot be renewed, rather than leaving it in the thread's locals
+        leasing.leases.remove();
+      } else
+        reclaimExpiredLeases(currentNanos);
+    }
+
+    return acquireFromAll(permits, maxWaitTime);
+  }
+
+  /**
+   * Releases the unused permits of expired leases, including those of threads that stopped acquiring permits, and
+   * removes them from the active leases. Performed by at most one thread per lease duration.
+   */
+  private void reclaimExpiredLeases(long currentNanos) {
+    long reclaimNanos = leasing.nextReclaimNanos.get();
+    if (currentNanos < reclaimNanos || !leasing.nextReclaimNanos.compareAndSet(reclaimNanos,
+      currentNanos + leasing.leaseDuration.toNanos()))
+      return;
+
+    for (Iterator<Lease> it = leasing.activeLeases.iterator(); it.hasNext(); ) {
+      Lease lease = it.next();
+      if (currentNanos < lease.expirationNanos)
+        continue;
+
+      int unused = lease.takeAll();
+      if (currentNanos < lease.expirationNanos) {
+        // The owner renewed the lease concurrently, so the permits belong to the new lease
+        if (unused > 0)
+          Lease.PERMITS.addAndGet(lease, unused);
+        continue;
+      }
+      if (unused > 0)
+        releasePermits(unused);
+      it.remove();
+      Lease.ACTIVE.set(lease, 0);
+
+      // Re-add a lease that its owner renewed while it was being removed
+      if (lease.permits > 0 && Lease.ACTIVE.compareAndSet(lease, 0, 1))
+        leasing.activeLeases.add(lease);
+    }
+  }
+
+  /**
+   * Acquires {@code permits} from this rate limiter and any parents, returning the wait time in nanos, else {@code -1}
+   * if the permits cannot be acquired from all of them within the {@code maxWaitTime}, in which case no permits are
+   * acquired. Permits are acquired from this rate limiter first, so that a rejection here does not consume the
+   * parent's permits, and are released if the parent then rejects.
+   */
+  private long acquireFromAll(int permits, Duration maxWaitTime) {
+    long waitNanos = stats.acquirePermits(permits, maxWaitTime);
+    if (parent == null || waitNanos == -1)
+      return waitNanos;
+
+    long parentWaitNanos = parent.acquireFromAll(permits, maxWaitTime);
+    if (parentWaitNanos == -1) {
+      stats.releasePermits(permits);
+      return -1;
+    }
+    return Math.max(waitNanos, parentWaitNanos);
+  }
+
+  /**
+   * Returns whether all permits are currently available.
+   */
+  boolean isFull() {
+    return stats.isFull();
+  }
+
+  /**
+   * Releases {@code permits} that were reserved but will not be used, making them available to subsequent callers of
+   * this rate limiter and any parents.
+   */
+  void releasePermits(int permits) {
+    stats.releasePermits(permits);
+    if (parent != null)
+      parent.releasePermits(permits);
+  }
+
+  /**
+   * Returns a future that is completed after the {@code waitNanos} via the default scheduler, else that is completed
+   * exceptionally if the {@code waitNanos} is {@code -1}. If the future is cancelled or otherwise completed before the
+   * wait is over, the reserved {@code permits} are released.
+   */
+  private CompletableFuture<Void> acquireAsync(int permits, long waitNanos) {
+    CompletableFuture<Void> promise = new CompletableFuture<>();
+    if (waitNanos == -1)
+      promise.completeExceptionally(new RateLimitExceededException(this));
+    else if (waitNanos == 0)
+      promise.complete(null);
+    else {
+      AtomicBoolean waitComplete = new AtomicBoolean();
+      try {
+        // Wait for the permits
+        Future<?> permitWaitFuture = Scheduler.DEFAULT.schedule(() -> {
+          if (waitComplete.compareAndSet(false, true))
+            promise.complete(null);
+          return null;
+        }, waitNanos, TimeUnit.NANOSECONDS);
+
+        // Propagate early completions to the permit wait future and release the reserved permits
+        promise.whenComplete((result, error) -> {
+          if (waitComplete.compareAndSet(false, true)) {
+            permitWaitFuture.cancel(false);
+            releasePermits(permits);
+          }
+        });
+      } catch (Throwable t) {
+        // Hard scheduling failure
+        releasePermits(permits);
+        promise.completeExceptionally(t);
+      }
+    }
+
+    return promise;
   }
 }
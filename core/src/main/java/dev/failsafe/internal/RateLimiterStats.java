@@ -15,6 +15,8 @@
  */
 package dev.failsafe.internal;
 
+import dev.failsafe.spi.Ticker;
+
 import java.time.Duration;
 
 abstract class RateLimiterStats {
@@ -25,14 +27,20 @@ abstract class RateLimiterStats {
   }
 
   static class Stopwatch {
-    private long startTime = System.nanoTime();
+    private final Ticker ticker;
+    private volatile long startTime;
+
+    Stopwatch(Ticker ticker) {
+      this.ticker = ticker;
+      startTime = ticker.nanoTime();
+    }
 
     long elapsedNanos() {
-      return System.nanoTime() - startTime;
+      return ticker.nanoTime() - startTime;
     }
 
     void reset() {
-      startTime = System.nanoTime();
+      startTime = ticker.nanoTime();
     }
   }
 
@@ -45,6 +53,21 @@ abstract class RateLimiterStats {
    */
   abstract long acquirePermits(long permits, Duration maxWaitTime);
 
+  /**
+   * Releases {@code permits} that were previously acquired but will not be used, such as when a caller that was waiting
+   * for them is cancelled, making them available to subsequent callers. Released permits are capped so that no more permits
+   * become available than if the released permits had never been acquired.
+   *
+   * @param permits the number of permits to release
+   */
+  abstract void releasePermits(long permits);
+
+  /**
+   * Returns whether all permits are currently available, in which case the stats behave the same as newly created
+   * stats would.
+   */
+  abstract boolean isFull();
+
   /**
    * Returns whether the {@code waitNanos} would exceed the {@code maxWaitTime}, else {@code false} if {@code
    * maxWaitTime} is null.
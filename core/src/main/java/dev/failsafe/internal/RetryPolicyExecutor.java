@@ -235,7 +235,7 @@ public class RetryPolicyExecutor<R> extends PolicyExecutor<R> {
 
     if (delayNanos != 0)
       delayNanos = adjustForJitter(delayNanos);
-    long elapsedNanos = context.getElapsedTime().toNanos();
+    long elapsedNanos = context.getElapsedNanos();
     delayNanos = adjustForMaxDuration(delayNanos, elapsedNanos);
 
     // Calculate result
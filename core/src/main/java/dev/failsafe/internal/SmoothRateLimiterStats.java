@@ -19,10 +19,14 @@ import dev.failsafe.RateLimiterConfig;
 import dev.failsafe.internal.util.Maths;
 
 import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 
 /**
  * A rate limiter implementation that evenly distributes permits over time, based on the max permits per period. This
  * implementation focuses on the interval between permits, and tracks the next interval in which a permit is free.
+ * <p>
+ * Permits are reserved via CAS on the next free permit time, so that concurrent callers never block each other.
+ * </p>
  */
 class SmoothRateLimiterStats extends RateLimiterStats {
   /* The nanos per interval between permits */
@@ -30,7 +34,9 @@ class SmoothRateLimiterStats extends RateLimiterStats {
 
   // The amount of time, relative to the start time, that the next permit will be free.
   // Will be a multiple of intervalNanos.
-  private long nextFreePermitNanos;
+  private volatile long nextFreePermitNanos;
+  private static final AtomicLongFieldUpdater<SmoothRateLimiterStats> NEXT_FREE_PERMIT_NANOS =
+    AtomicLongFieldUpdater.newUpdater(SmoothRateLimiterStats.class, "nextFreePermitNanos");
 
   SmoothRateLimiterStats(RateLimiterConfig<?> config, Stopwatch stopwatch) {
     super(stopwatch);
@@ -38,37 +44,61 @@ class SmoothRateLimiterStats extends RateLimiterStats {
   }
 
   @Override
-  public synchronized long acquirePermits(long requestedPermits, Duration maxWaitTime) {
-    long currentNanos = stopwatch.elapsedNanos();
+  public long acquirePermits(long requestedPermits, Duration maxWaitTime) {
     long requestedPermitNanos = requestedPermits * intervalNanos;
-    long waitNanos;
-    long newNextFreePermitNanos;
-
-    // If a permit is currently available
-    if (currentNanos >= nextFreePermitNanos) {
-      // Nanos at the start of the current interval
-      long currentIntervalNanos = Maths.roundDown(currentNanos, intervalNanos);
-      newNextFreePermitNanos = Maths.add(currentIntervalNanos, requestedPermitNanos);
-    } else {
-      newNextFreePermitNanos = Maths.add(nextFreePermitNanos, requestedPermitNanos);
+    while (true) {
+      long currentNanos = stopwatch.elapsedNanos();
+      long nextFreePermitNanos = this.nextFreePermitNanos;
+      long newNextFreePermitNanos;
+
+      // If a permit is currently available
+      if (currentNanos >= nextFreePermitNanos) {
+        // Nanos at the start of the current interval
+        long currentIntervalNanos = Maths.roundDown(currentNanos, intervalNanos);
+        newNextFreePermitNanos = Maths.add(currentIntervalNanos, requestedPermitNanos);
+      } else {
+        newNextFreePermitNanos = Maths.add(nextFreePermitNanos, requestedPermitNanos);
+      }
+
+      long waitNanos = Math.max(newNextFreePermitNanos - currentNanos - intervalNanos, 0);
+
+      if (exceedsMaxWaitTime(waitNanos, maxWaitTime))
+        return -1;
+
+      if (NEXT_FREE_PERMIT_NANOS.compareAndSet(this, nextFreePermitNanos, newNextFreePermitNanos))
+        return waitNanos;
     }
+  }
 
-    waitNanos = Math.max(newNextFreePermitNanos - currentNanos - intervalNanos, 0);
+  @Override
+  void releasePermits(long releasedPermits) {
+    long releasedPermitNanos = releasedPermits * intervalNanos;
+    while (true) {
+      long nextFreePermitNanos = this.nextFreePermitNanos;
 
-    if (exceedsMaxWaitTime(waitNanos, maxWaitTime))
-      return -1;
+      // Do not release time before the start of the current interval
+      long currentIntervalNanos = Maths.roundDown(stopwatch.elapsedNanos(), intervalNanos);
+      if (nextFreePermitNanos <= currentIntervalNanos)
+        return;
 
-    nextFreePermitNanos = newNextFreePermitNanos;
-    return waitNanos;
+      long newNextFreePermitNanos = Math.max(nextFreePermitNanos - releasedPermitNanos, currentIntervalNanos);
+      if (NEXT_FREE_PERMIT_NANOS.compareAndSet(this, nextFreePermitNanos, newNextFreePermitNanos))
+        return;
+    }
+  }
+
+  @Override
+  boolean isFull() {
+    return nextFreePermitNanos <= stopwatch.elapsedNanos();
   }
 
-  synchronized long getNextFreePermitNanos() {
+  long getNextFreePermitNanos() {
     return nextFreePermitNanos;
   }
 
   @Override
-  synchronized void reset() {
+  void reset() {
     stopwatch.reset();
     nextFreePermitNanos = 0;
   }
-}
\ No newline at end of file
+}
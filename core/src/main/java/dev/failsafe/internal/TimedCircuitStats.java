@@ -15,227 +15,268 @@
  */
 package dev.failsafe.internal;
 
+import dev.failsafe.spi.Ticker;
+
 import java.time.Duration;
-import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * A CircuitStats implementation that counts execution results within a time period, and buckets results to
  * minimize overhead.
+ * <p>
+ * Buckets are aligned to the time the stats were created, so that the bucket for any point in time, and its index in
+ * the ring, can be computed without coordination. Recording threads rotate expired buckets out of the ring via CAS
+ * and record into a bucket's packed success and failure counts via a single atomic add, so recording never blocks.
+ * The summary of all buckets within the window is computed when read.
+ * </p>
  */
 class TimedCircuitStats implements CircuitStats {
   static final int DEFAULT_BUCKET_COUNT = 10;
 
-  private final Clock clock;
+  private final Ticker ticker;
   private final long bucketSizeMillis;
   private final long windowSizeMillis;
-
-  // Mutable state
-  final Bucket[] buckets;
-  private final Stat summary;
-  volatile int currentIndex;
-
-  public TimedCircuitStats(int bucketCount, Duration thresholdingPeriod, Clock clock, CircuitStats oldStats) {
-    this.clock = clock;
-    this.buckets = new Bucket[bucketCount];
-    bucketSizeMillis = thresholdingPeriod.toMillis() / buckets.length;
-    windowSizeMillis = bucketSizeMillis * buckets.length;
-    for (int i = 0; i < buckets.length; i++)
-      buckets[i] = new Bucket();
-    this.summary = new Stat();
-
-    if (oldStats == null) {
-      buckets[0].startTimeMillis = clock.currentTimeMillis();
-    } else {
-      synchronized (oldStats) {
-        copyStats(oldStats);
-      }
-    }
+  /** The start time of bucket 0, which all other buckets are aligned to */
+  private final long originMillis;
+
+  // Mutable state. Null entries are uninitialized.
+  final AtomicReferenceArray<Bucket> buckets;
+
+  public TimedCircuitStats(int bucketCount, Duration thresholdingPeriod, Ticker ticker, CircuitStats oldStats) {
+    this.ticker = ticker;
+    this.buckets = new AtomicReferenceArray<>(bucketCount);
+    bucketSizeMillis = thresholdingPeriod.toMillis() / bucketCount;
+    windowSizeMillis = bucketSizeMillis * bucketCount;
+
+    // Continue from the most recent bucket of old timed stats
+    Bucket newest = oldStats instanceof TimedCircuitStats ? ((TimedCircuitStats) oldStats).newestBucket() : null;
+    originMillis = newest == null ? ticker.currentTimeMillis() : newest.startTimeMillis;
+    if (oldStats != null)
+      copyStats(oldStats);
   }
 
-  static class Clock {
-    long currentTimeMillis() {
-      return System.currentTimeMillis();
-    }
-  }
-
-  static class Stat {
-    int successes;
-    int failures;
+  /**
+   * Success and failure counts packed into a single long, with successes in the high 32 bits and failures in the low 32
+   * bits, so that both can be updated and read together atomically.
+   */
+  static final class Stat {
+    static final long SUCCESS = 1L << 32;
+    static final long FAILURE = 1L;
 
-    void reset() {
-      successes = 0;
-      failures = 0;
+    private Stat() {
     }
 
-    void add(Bucket bucket) {
-      successes += bucket.successes;
-      failures += bucket.failures;
+    static int successes(long stat) {
+      return CircuitStats.successes(stat);
     }
 
-    void remove(Bucket bucket) {
-      successes -= bucket.successes;
-      failures -= bucket.failures;
+    static int failures(long stat) {
+      return CircuitStats.failures(stat);
     }
 
-    @Override
-    public String toString() {
-      return "[s=" + successes + ", f=" + failures + ']';
+    static String toString(long stat) {
+      return "[s=" + successes(stat) + ", f=" + failures(stat) + ']';
     }
   }
 
-  static class Bucket extends Stat {
-    long startTimeMillis = -1;
+  static class Bucket {
+    final long startTimeMillis;
+    final AtomicLong stat = new AtomicLong();
+    final AtomicInteger slow = new AtomicInteger();
 
-    void reset(long startTimeMillis) {
+    Bucket(long startTimeMillis) {
       this.startTimeMillis = startTimeMillis;
-      reset();
     }
 
-    void copyFrom(Bucket other) {
-      startTimeMillis = other.startTimeMillis;
-      successes = other.successes;
-      failures = other.failures;
+    Bucket(long startTimeMillis, long stat, int slow) {
+      this.startTimeMillis = startTimeMillis;
+      this.stat.set(stat);
+      this.slow.set(slow);
+    }
+
+    int successes() {
+      return Stat.successes(stat.get());
+    }
+
+    int failures() {
+      return Stat.failures(stat.get());
     }
 
     @Override
     public String toString() {
-      return "[startTime=" + startTimeMillis + ", s=" + successes + ", f=" + failures + ']';
+      long stat = this.stat.get();
+      return "[startTime=" + startTimeMillis + ", s=" + Stat.successes(stat) + ", f=" + Stat.failures(stat) + ", slow="
+        + slow.get() + ']';
     }
   }
 
   /**
-   * Copies the most recent stats from the {@code oldStats} into this in order from oldest to newest and orders buckets
-   * from oldest to newest, with uninitialized buckets counting as oldest.
+   * Copies the most recent stats from the {@code oldStats} into this. Buckets from older TimedCircuitStats are copied
+   * from newest to oldest, preserving their distance from the newest bucket, until this window is full.
    */
   void copyStats(CircuitStats oldStats) {
     if (oldStats instanceof TimedCircuitStats) {
       TimedCircuitStats old = (TimedCircuitStats) oldStats;
-      int bucketsToCopy = Math.min(old.buckets.length, buckets.length);
-
-      // Get oldest index to start copying from
-      int oldIndex = old.indexAfter(old.currentIndex);
-      for (int i = 0; i < bucketsToCopy; i++)
-        oldIndex = old.indexBefore(oldIndex);
-
-      for (int i = 0; i < bucketsToCopy; i++) {
-        if (i != 0) {
-          oldIndex = old.indexAfter(oldIndex);
-          currentIndex = nextIndex();
+      Bucket newest = old.newestBucket();
+      if (newest == null)
+        return;
+
+      for (int i = 0; i < old.buckets.length(); i++) {
+        Bucket oldBucket = old.buckets.get(i);
+        if (oldBucket == null)
+          continue;
+        long bucketsBeforeNewest = (newest.startTimeMillis - oldBucket.startTimeMillis) / old.bucketSizeMillis;
+        if (bucketsBeforeNewest < old.buckets.length() && bucketsBeforeNewest < buckets.length()) {
+          long bucketNumber = -bucketsBeforeNewest;
+          buckets.set(indexFor(bucketNumber),
+            new Bucket(originMillis + bucketNumber * bucketSizeMillis, oldBucket.stat.get(), oldBucket.slow.get()));
         }
-        buckets[currentIndex].copyFrom(old.buckets[oldIndex]);
-        summary.add(buckets[currentIndex]);
       }
     } else {
-      buckets[0].startTimeMillis = clock.currentTimeMillis();
       copyExecutions(oldStats);
     }
   }
 
   @Override
-  public synchronized void recordSuccess() {
-    getCurrentBucket().successes++;
-    summary.successes++;
+  public void recordSuccess(boolean slow) {
+    record(Stat.SUCCESS, slow);
+  }
+
+  @Override
+  public void recordFailure(boolean slow) {
+    record(Stat.FAILURE, slow);
+  }
+
+  private void record(long stat, boolean slow) {
+    Bucket bucket = getCurrentBucket();
+    bucket.stat.addAndGet(stat);
+    if (slow)
+      bucket.slow.incrementAndGet();
+  }
+
+  @Override
+  public int getSlowCount() {
+    Bucket newest = newestBucket();
+    if (newest == null)
+      return 0;
+
+    int slow = 0;
+    for (int i = 0; i < buckets.length(); i++) {
+      Bucket bucket = buckets.get(i);
+      if (bucket != null && newest.startTimeMillis - bucket.startTimeMillis < windowSizeMillis)
+        slow += bucket.slow.get();
+    }
+    return slow;
+  }
+
+  @Override
+  public long getCounts() {
+    return summary();
   }
 
   @Override
-  public synchronized void recordFailure() {
-    getCurrentBucket().failures++;
-    summary.failures++;
+  public long getWindowStartMillis() {
+    Bucket newest = newestBucket();
+    return newest == null ? -1 : newest.startTimeMillis + bucketSizeMillis - windowSizeMillis;
   }
 
   @Override
   public int getExecutionCount() {
-    return summary.successes + summary.failures;
+    long summary = summary();
+    return Stat.successes(summary) + Stat.failures(summary);
   }
 
   @Override
   public int getFailureCount() {
-    return summary.failures;
+    return Stat.failures(summary());
   }
 
   @Override
-  public synchronized int getFailureRate() {
-    int executions = getExecutionCount();
-    return (int) Math.round(executions == 0 ? 0 : (double) summary.failures / (double) executions * 100.0);
+  public int getFailureRate() {
+    long summary = summary();
+    int executions = Stat.successes(summary) + Stat.failures(summary);
+    return (int) Math.round(executions == 0 ? 0 : (double) Stat.failures(summary) / (double) executions * 100.0);
   }
 
   @Override
   public int getSuccessCount() {
-    return summary.successes;
+    return Stat.successes(summary());
   }
 
   @Override
-  public synchronized int getSuccessRate() {
-    int executions = getExecutionCount();
-    return (int) Math.round(executions == 0 ? 0 : (double) summary.successes / (double) executions * 100.0);
+  public int getSuccessRate() {
+    long summary = summary();
+    int executions = Stat.successes(summary) + Stat.failures(summary);
+    return (int) Math.round(executions == 0 ? 0 : (double) Stat.successes(summary) / (double) executions * 100.0);
   }
 
   @Override
-  public synchronized void reset() {
-    long startTimeMillis = clock.currentTimeMillis();
-    for (Bucket bucket : buckets) {
-      bucket.reset(startTimeMillis);
-      startTimeMillis += bucketSizeMillis;
-    }
-    summary.reset();
-    currentIndex = 0;
+  public void reset() {
+    for (int i = 0; i < buckets.length(); i++)
+      buckets.set(i, null);
   }
 
   /**
-   * Returns the current bucket based on the current time, moving the internal storage to the current bucket if
-   * necessary, resetting bucket stats along the way.
+   * Returns the current bucket based on the current time, replacing the expired bucket that occupies its index via CAS
+   * if necessary. Threads that lose a CAS race will use the winning thread's bucket.
    */
-  synchronized Bucket getCurrentBucket() {
-    Bucket previousBucket, currentBucket = buckets[currentIndex];
-    long currentTime = clock.currentTimeMillis();
-    long timeDiff = currentTime - currentBucket.startTimeMillis;
-    if (timeDiff >= bucketSizeMillis) {
-      int bucketsToMove = (int) (timeDiff / bucketSizeMillis);
-      if (bucketsToMove <= buckets.length) {
-        // Reset some buckets
-        do {
-          currentIndex = nextIndex();
-          previousBucket = currentBucket;
-          currentBucket = buckets[currentIndex];
-          long bucketStartTime = currentBucket.startTimeMillis == -1 ?
-            previousBucket.startTimeMillis + bucketSizeMillis :
-            currentBucket.startTimeMillis + windowSizeMillis;
-          summary.remove(currentBucket);
-          currentBucket.reset(bucketStartTime);
-          bucketsToMove--;
-        } while (bucketsToMove > 0);
-      } else {
-        // Reset all buckets
-        reset();
-      }
+  Bucket getCurrentBucket() {
+    long bucketNumber = Math.floorDiv(ticker.currentTimeMillis() - originMillis, bucketSizeMillis);
+    long startTimeMillis = originMillis + bucketNumber * bucketSizeMillis;
+    int index = indexFor(bucketNumber);
+    Bucket newBucket = null;
+    while (true) {
+      Bucket bucket = buckets.get(index);
+      if (bucket != null && bucket.startTimeMillis >= startTimeMillis)
+        return bucket;
+      if (newBucket == null)
+        newBucket = new Bucket(startTimeMillis);
+      if (buckets.compareAndSet(index, bucket, newBucket))
+        return newBucket;
     }
-
-    return currentBucket;
   }
 
   /**
-   * Returns the next index.
+   * Returns the packed successes and failures for all buckets within the window that ends with the newest bucket.
    */
-  private int nextIndex() {
-    return (currentIndex + 1) % buckets.length;
+  private long summary() {
+    Bucket newest = newestBucket();
+    if (newest == null)
+      return 0;
+
+    long summary = 0;
+    for (int i = 0; i < buckets.length(); i++) {
+      Bucket bucket = buckets.get(i);
+      if (bucket != null && newest.startTimeMillis - bucket.startTimeMillis < windowSizeMillis)
+        summary += bucket.stat.get();
+    }
+    return summary;
   }
 
   /**
-   * Returns the index after the {@code index}.
+   * Returns the most recently started bucket, else {@code null} if no buckets have been initialized.
    */
-  private int indexAfter(int index) {
-    return index == buckets.length - 1 ? 0 : index + 1;
+  Bucket newestBucket() {
+    Bucket newest = null;
+    for (int i = 0; i < buckets.length(); i++) {
+      Bucket bucket = buckets.get(i);
+      if (bucket != null && (newest == null || bucket.startTimeMillis > newest.startTimeMillis))
+        newest = bucket;
+    }
+    return newest;
   }
 
   /**
-   * Returns the index before the {@code index}.
+   * Returns the index of the bucket with the {@code bucketNumber}, relative to the origin.
    */
-  private int indexBefore(int index) {
-    return index == 0 ? buckets.length - 1 : index - 1;
+  private int indexFor(long bucketNumber) {
+    return (int) Math.floorMod(bucketNumber, (long) buckets.length());
   }
 
   @Override
   public String toString() {
-    return "TimedCircuitStats[summary=" + summary + ", buckets=" + Arrays.toString(buckets) + ']';
+    return "TimedCircuitStats[summary=" + Stat.toString(summary()) + ", buckets=" + buckets + ']';
   }
 }
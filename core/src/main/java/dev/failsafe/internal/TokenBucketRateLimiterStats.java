@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.RateLimiterConfig;
+import dev.failsafe.internal.util.Maths;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * A rate limiter implementation that continuously refills permits into a bucket, at the refill rate, up to the bucket's
+ * capacity. Rather than counting permits, this implementation tracks the time at which the bucket will be full again,
+ * from which the available permits can be computed: each refill interval before that time is a permit that is missing
+ * from the bucket.
+ * <p>
+ * When a warm up period is configured, a rate limiter whose bucket has been full for at least the warm up period is
+ * considered cold, and will begin warming up when permits are next acquired. While warming up, the bucket holds at most
+ * one permit, so that permits are not available in bursts, and the refill interval shrinks linearly from {@link
+ * #COLD_FACTOR} times the refill interval to the refill interval. Once warm up ends, the bucket refills normally, up to
+ * its capacity.
+ * </p>
+ * <p>
+ * The state is held in an immutable object that is replaced via CAS, so that callers never block each other.
+ * </p>
+ */
+class TokenBucketRateLimiterStats extends RateLimiterStats {
+  /* The factor by which the refill interval is multiplied when warm up begins */
+  static final int COLD_FACTOR = 3;
+
+  /* The nanos per interval between permits being refilled */
+  final long intervalNanos;
+  /* The max number of permits that the bucket can hold */
+  final long capacity;
+  /* The warm up nanos, else 0 if warm up is not configured */
+  private final long warmUpNanos;
+
+  private volatile State state;
+  private static final AtomicReferenceFieldUpdater<TokenBucketRateLimiterStats, State> STATE =
+    AtomicReferenceFieldUpdater.newUpdater(TokenBucketRateLimiterStats.class, State.class, "state");
+
+  private static final class State {
+    /* The time, relative to the start time, at which the bucket will be full */
+    final long fullNanos;
+    /* The time, relative to the start time, at which warm up started */
+    final long warmUpStartNanos;
+
+    State(long fullNanos, long warmUpStartNanos) {
+      this.fullNanos = fullNanos;
+      this.warmUpStartNanos = warmUpStartNanos;
+    }
+  }
+
+  TokenBucketRateLimiterStats(RateLimiterConfig<?> config, Stopwatch stopwatch) {
+    super(stopwatch);
+    intervalNanos = config.getRefillRate().toNanos();
+    capacity = config.getCapacity();
+    warmUpNanos = config.getWarmUpPeriod() == null ? 0 : config.getWarmUpPeriod().toNanos();
+    state = initialState();
+  }
+
+  /**
+   * Returns a full bucket, which is cold if warm up is configured.
+   */
+  private State initialState() {
+    return new State(-warmUpNanos, -warmUpNanos);
+  }
+
+  @Override
+  public long acquirePermits(long requestedPermits, Duration maxWaitTime) {
+    while (true) {
+      long currentNanos = stopwatch.elapsedNanos();
+      State state = this.state;
+      long warmUpStartNanos = state.warmUpStartNanos;
+
+      // Begin warming up if the bucket has been full for the warm up period
+      if (warmUpNanos > 0 && currentNanos - state.fullNanos >= warmUpNanos)
+        warmUpStartNanos = currentNanos;
+
+      long newFullNanos;
+      long waitNanos;
+      long warmUpElapsedNanos = currentNanos - warmUpStartNanos;
+      if (warmUpNanos > 0 && warmUpElapsedNanos < warmUpNanos) {
+        // While warming up, use a longer interval and hold at most 1 permit in the bucket
+        double coldness = 1 - (double) warmUpElapsedNanos / warmUpNanos;
+        long warmUpIntervalNanos = intervalNanos + (long) (intervalNanos * (COLD_FACTOR - 1) * coldness);
+        long oneFreePermitNanos = currentNanos + (capacity - 1) * intervalNanos;
+        newFullNanos = Maths.add(Math.max(state.fullNanos, oneFreePermitNanos),
+          requestedPermits * warmUpIntervalNanos);
+        waitNanos = Math.max(newFullNanos - oneFreePermitNanos - warmUpIntervalNanos, 0);
+      } else {
+        newFullNanos = Maths.add(Math.max(state.fullNanos, currentNanos), requestedPermits * intervalNanos);
+        waitNanos = Math.max(newFullNanos - currentNanos - capacity * intervalNanos, 0);
+      }
+
+      if (exceedsMaxWaitTime(waitNanos, maxWaitTime))
+        return -1;
+
+      if (STATE.compareAndSet(this, state, new State(newFullNanos, warmUpStartNanos)))
+        return waitNanos;
+    }
+  }
+
+  @Override
+  void releasePermits(long releasedPermits) {
+    long releasedPermitNanos = releasedPermits * intervalNanos;
+    while (true) {
+      long currentNanos = stopwatch.elapsedNanos();
+      State state = this.state;
+
+      // Do not release more permits than the bucket can hold, or more than 1 permit while warming up
+      long minFullNanos = isWarmingUp(state, currentNanos) ?
+        currentNanos + (capacity - 1) * intervalNanos :
+        currentNanos;
+      if (state.fullNanos <= minFullNanos)
+        return;
+
+      long newFullNanos = Math.max(state.fullNanos - releasedPermitNanos, minFullNanos);
+      if (STATE.compareAndSet(this, state, new State(newFullNanos, state.warmUpStartNanos)))
+        return;
+    }
+  }
+
+  @Override
+  boolean isFull() {
+    // A full bucket is only equivalent to a new bucket once it has gone cold
+    long fullForNanos = stopwatch.elapsedNanos() - state.fullNanos;
+    return fullForNanos >= 0 && (warmUpNanos == 0 || fullForNanos >= warmUpNanos);
+  }
+
+  /**
+   * Returns the number of whole permits that are currently available in the bucket, ignoring any warm up. Can be
+   * negative when permits have been reserved ahead of time.
+   */
+  long getAvailablePermits() {
+    long missingNanos = Math.max(state.fullNanos - stopwatch.elapsedNanos(), 0);
+    long missingPermits = (missingNanos + intervalNanos - 1) / intervalNanos;
+    return capacity - missingPermits;
+  }
+
+  /**
+   * Returns whether the rate limiter is currently warming up.
+   */
+  boolean isWarmingUp() {
+    return isWarmingUp(state, stopwatch.elapsedNanos());
+  }
+
+  private boolean isWarmingUp(State state, long currentNanos) {
+    return warmUpNanos > 0 && currentNanos - state.warmUpStartNanos < warmUpNanos
+      && currentNanos - state.fullNanos < warmUpNanos;
+  }
+
+  @Override
+  void reset() {
+    stopwatch.reset();
+    state = initialState();
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+/**
+ * Computes a concurrency limit using a variant of the TCP Vegas congestion avoidance algorithm. The number of executions
+ * that are queued within a protected resource is estimated from the ratio of the min observed round trip time, which
+ * approximates the round trip time without load, to the round trip time of each execution. The limit increases while
+ * the estimated queue is small, and decreases when the queue grows or when executions are dropped.
+ * <p>
+ * The min round trip time is periodically reset so that the limit can adapt when the latency of the resource without
+ * load changes.
+ * </p>
+ * <p>
+ * This class is not threadsafe. Updates must be serialized by the caller.
+ * </p>
+ */
+final class VegasLimit {
+  // The number of samples, per unit of the limit, after which the min round trip time is reset
+  private static final int PROBE_MULTIPLIER = 30;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private long minRttNanos;
+  private long samples;
+
+  VegasLimit(int minLimit, int maxLimit) {
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+  }
+
+  /**
+   * Returns a new limit based on the current {@code limit}, the number of {@code inflight} executions, and the {@code
+   * rttNanos} of an execution, which was {@code dropped} if it failed due to overload.
+   */
+  int update(int limit, int inflight, long rttNanos, boolean dropped) {
+    rttNanos = Math.max(1, rttNanos);
+    if (++samples >= (long) PROBE_MULTIPLIER * limit) {
+      samples = 0;
+      minRttNanos = 0;
+    }
+
+    if (minRttNanos == 0 || rttNanos < minRttNanos) {
+      minRttNanos = rttNanos;
+      if (!dropped)
+        return limit;
+    }
+
+    int step = Math.max(1, (int) Math.log10(limit));
+    int newLimit;
+    if (dropped)
+      newLimit = limit - step;
+    else if (inflight * 2 < limit) {
+      // The limit is not being tested
+      return limit;
+    } else {
+      int queueSize = (int) Math.ceil(limit * (1 - (double) minRttNanos / rttNanos));
+      if (queueSize <= step)
+        newLimit = limit + 6 * step;
+      else if (queueSize < 3 * step)
+        newLimit = limit + step;
+      else if (queueSize > 6 * step)
+        newLimit = limit - step;
+      else
+        return limit;
+    }
+
+    return Math.max(minLimit, Math.min(maxLimit, newLimit));
+  }
+}
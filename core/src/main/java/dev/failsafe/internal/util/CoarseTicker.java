@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal.util;
+
+import dev.failsafe.spi.Ticker;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A Ticker that caches the system time, which is refreshed roughly once per millisecond by a single daemon thread.
+ */
+public final class CoarseTicker implements Ticker {
+  public static final CoarseTicker INSTANCE = new CoarseTicker();
+  private static final long RESOLUTION_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private volatile long nanoTime = System.nanoTime();
+  private volatile long currentTimeMillis = System.currentTimeMillis();
+  private volatile Thread updater;
+
+  private CoarseTicker() {
+  }
+
+  @Override
+  public long nanoTime() {
+    if (updater == null)
+      startUpdater();
+    return nanoTime;
+  }
+
+  @Override
+  public long currentTimeMillis() {
+    if (updater == null)
+      startUpdater();
+    return currentTimeMillis;
+  }
+
+  private synchronized void startUpdater() {
+    if (updater == null) {
+      nanoTime = System.nanoTime();
+      currentTimeMillis = System.currentTimeMillis();
+      Thread thread = new Thread(() -> {
+        while (true) {
+          nanoTime = System.nanoTime();
+          currentTimeMillis = System.currentTimeMillis();
+          LockSupport.parkNanos(RESOLUTION_NANOS);
+        }
+      });
+      thread.setDaemon(true);
+      thread.setName("FailsafeCoarseTicker");
+      thread.start();
+      updater = thread;
+    }
+  }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Supplier;
+
+/**
+ * A lock-free FIFO queue of CompletableFutures that skips futures once they're completed. The queue is intrusive, so
+ * each future is its own queue node, and is based on the Michael-Scott queue, where the head is a completed sentinel
+ * node and the first queued future is the one after it.
+ * <p>
+ * Futures that are completed while queued are removed lazily: pollers advance the head past them, and futures that are
+ * cancelled or completed exceptionally unlink themselves from their predecessor and advance the head past any
+ * completed futures at the front of the queue, so that futures that are cancelled or time out are unlinked without
+ * registering a completion callback for each future, even when an incomplete future precedes them. Since unlinking is
+ * not coordinated between neighbouring futures, a concurrently unlinked future may remain linked, in which case it is
+ * unlinked by the next {@link #isEmpty()} or {@link #expire(long, Supplier) expire} call that passes it. The last
+ * future in the queue is not unlinked until a future is added after it.
+ * </p>
+ * <p>
+ * Futures may be added with a deadline, after which they can be {@link #expire(long, Supplier) expired}. Futures with a
+ * deadline are expected to be added in approximately deadline order, such as when they're added with the same wait
+ * time, so that expiring futures only visits the futures that are expired, along with any futures without a deadline
+ * that precede them.
+ * </p>
+ * <p>
+ * This class is threadsafe.
+ * </p>
+ */
+public final class FutureQueue {
+  private static final AtomicReferenceFieldUpdater<FutureQueue, Node> HEAD = AtomicReferenceFieldUpdater.newUpdater(
+    FutureQueue.class, Node.class, "head");
+  private static final AtomicReferenceFieldUpdater<FutureQueue, Node> TAIL = AtomicReferenceFieldUpdater.newUpdater(
+    FutureQueue.class, Node.class, "tail");
+  private static final AtomicReferenceFieldUpdater<Node, Node> NEXT = AtomicReferenceFieldUpdater.newUpdater(
+    Node.class, Node.class, "next");
+  private static final AtomicIntegerFieldUpdater<FutureQueue> SIZE = AtomicIntegerFieldUpdater.newUpdater(
+    FutureQueue.class, "size");
+
+  volatile Node head;
+  volatile Node tail;
+  // The number of incomplete futures that were added to the queue
+  volatile int size;
+
+  public FutureQueue() {
+    Node sentinel = new Node(false, 0);
+    sentinel.complete(null);
+    head = tail = sentinel;
+    // Completing the sentinel decremented the size
+    size = 0;
+  }
+
+  final class Node extends CompletableFuture<Void> {
+    final boolean timed;
+    final long deadlineNanos;
+    volatile Node next;
+    // The predecessor when the node was linked or its predecessor was unlinked, else null once the node is completed
+    volatile Node prev;
+
+    Node(boolean timed, long deadlineNanos) {
+      this.timed = timed;
+      this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    public boolean complete(Void value) {
+      boolean completed = super.complete(value);
+      if (completed) {
+        SIZE.decrementAndGet(FutureQueue.this);
+        prev = null;
+      }
+      return completed;
+    }
+
+    @Override
+    public boolean completeExceptionally(Throwable ex) {
+      boolean completed = super.completeExceptionally(ex);
+      if (completed) {
+        SIZE.decrementAndGet(FutureQueue.this);
+        unlink();
+      }
+      return completed;
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      boolean cancelled = super.cancel(mayInterruptIfRunning);
+      if (cancelled) {
+        SIZE.decrementAndGet(FutureQueue.this);
+        unlink();
+      }
+      return cancelled;
+    }
+
+    /**
+     * Unlinks this completed node from its predecessor if it's still linked after it and is not the last node, then
+     * advances the head past completed futures. The predecessor reference is cleared so that completed nodes do not
+     * retain the nodes before them.
+     */
+    private void unlink() {
+      Node prev = this.prev;
+      this.prev = null;
+      Node next = this.next;
+      if (prev != null && next != null && NEXT.compareAndSet(prev, this, next) && !next.isDone())
+        next.prev = prev;
+      trimHead();
+    }
+  }
+
+  /**
+   * Adds a new CompletableFuture to the end of the queue and returns it. The returned future will be skipped by the
+   * queue once it's completed.
+   */
+  public CompletableFuture<Void> add() {
+    SIZE.incrementAndGet(this);
+    return link(new Node(false, 0));
+  }
+
+  /**
+   * Adds a new CompletableFuture to the end of the queue and returns it, else returns {@code null} without allocating
+   * a future if the queue already contains {@code maxSize} incomplete futures. The returned future will be skipped by
+   * the queue once it's completed.
+   */
+  public CompletableFuture<Void> add(int maxSize) {
+    return add(maxSize, false, 0);
+  }
+
+  /**
+   * Adds a new CompletableFuture that expires at the {@code deadlineNanos} to the end of the queue and returns it, else
+   * returns {@code null} without allocating a future if the queue already contains {@code maxSize} incomplete futures.
+   * The returned future will be skipped by the queue once it's completed. Deadlines are compared with the times passed
+   * to {@link #expire(long, Supplier)}, so they must be read from the same ticker.
+   *
+   * @see #expire(long, Supplier)
+   */
+  public CompletableFuture<Void> add(int maxSize, long deadlineNanos) {
+    return add(maxSize, true, deadlineNanos);
+  }
+
+  private CompletableFuture<Void> add(int maxSize, boolean timed, long deadlineNanos) {
+    int size;
+    do {
+      size = this.size;
+      if (size >= maxSize)
+        return null;
+    } while (!SIZE.compareAndSet(this, size, size + 1));
+    return link(new Node(timed, deadlineNanos));
+  }
+
+  private Node link(Node node) {
+    while (true) {
+      Node tail = this.tail;
+      Node next = tail.next;
+      if (next != null)
+        // Help advance a lagging tail
+        TAIL.compareAndSet(this, tail, next);
+      else {
+        node.prev = tail;
+        if (NEXT.compareAndSet(tail, null, node)) {
+          TAIL.compareAndSet(this, tail, node);
+          return node;
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns and removes the first incomplete future in the queue, else returns {@code null} if there are none. The
+   * returned future may be concurrently completed by another thread, so callers should check the result of completing
+   * it.
+   */
+  public CompletableFuture<Void> pollFirst() {
+    while (true) {
+      Node head = this.head;
+      Node next = head.next;
+      if (next == null)
+        return null;
+
+      // The removed node becomes the new sentinel
+      if (HEAD.compareAndSet(this, head, next) && !next.isDone())
+        return next;
+    }
+  }
+
+  /**
+   * Returns the number of incomplete futures in the queue.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns whether the queue contains no incomplete futures.
+   */
+  public boolean isEmpty() {
+    Node pred = head;
+    Node node;
+    while ((node = pred.next) != null) {
+      if (!node.isDone())
+        return false;
+      if (!unlinkNext(pred, node))
+        pred = node;
+    }
+    return true;
+  }
+
+  /**
+   * Completes futures whose deadline is at or before the {@code nowNanos} exceptionally with an exception from the
+   * {@code exceptionSupplier}, stopping at the first incomplete future whose deadline is later.
+   *
+   * @return the nanos until the deadline of the first unexpired future, else {@code -1} if no incomplete futures have a
+   * deadline
+   */
+  public long expire(long nowNanos, Supplier<? extends Throwable> exceptionSupplier) {
+    Node pred = head;
+    Node node;
+    while ((node = pred.next) != null) {
+      if (node.timed && !node.isDone()) {
+        long remainingNanos = node.deadlineNanos - nowNanos;
+        if (remainingNanos > 0)
+          return remainingNanos;
+        node.completeExceptionally(exceptionSupplier.get());
+      }
+      if (!node.isDone() || !unlinkNext(pred, node))
+        pred = node;
+    }
+    return -1;
+  }
+
+  /**
+   * Unlinks the completed {@code node} from its {@code pred}, returning whether the {@code pred} may now be followed by
+   * a different node. The last node is not unlinked, since futures are added after it.
+   */
+  private static boolean unlinkNext(Node pred, Node node) {
+    Node next = node.next;
+    if (next == null)
+      return false;
+    NEXT.compareAndSet(pred, node, next);
+    return true;
+  }
+
+  /**
+   * Returns the number of nodes that are linked after the head, including completed nodes that are not yet unlinked.
+   */
+  int linkedSize() {
+    int size = 0;
+    for (Node node = head.next; node != null; node = node.next)
+      size++;
+    return size;
+  }
+
+  /**
+   * Advances the head past completed futures at the front of the queue.
+   */
+  private void trimHead() {
+    Node head;
+    Node next;
+    while ((next = (head = this.head).next) != null && next.isDone())
+      HEAD.compareAndSet(this, head, next);
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal.util;
+
+import dev.failsafe.spi.Ticker;
+
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A map of lazily created values that evicts values which have not been accessed within an idle timeout, or which
+ * were least recently accessed when the map grows beyond a max size. Only values that are {@code evictable} are
+ * evicted, so the max size is a soft bound.
+ * <p>
+ * Lookups of existing values do not lock. Eviction is performed by whichever thread creates a value or notices that
+ * a sweep is due, and threads that find eviction already in progress skip it rather than wait. Idle values are swept
+ * every quarter of the idle timeout, so an idle value is evicted within 1.25 times the idle timeout of its last
+ * access, provided the map is being accessed. When the max size is exceeded, the least recently accessed values are
+ * evicted until the map is at 90% of its max size, so that the cost of eviction is amortized across creations. These
+ * are selected in a single pass that only retains as many candidates as need to be evicted. If too few values are
+ * evictable to reach 90% of the max size, eviction is not attempted again until the map grows by another 10% of its
+ * max size, rather than on every creation.
+ * </p>
+ * <p>
+ * This class is threadsafe.
+ * </p>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public final class IdleEvictingMap<K, V> {
+  private final Function<? super K, ? extends V> factory;
+  private final Predicate<? super V> evictable;
+  private final Ticker ticker;
+  private final int maxSize;
+  /** -1 if idle values are not evicted */
+  private final long idleTimeoutNanos;
+  private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+  private final AtomicLong nextSweepNanos;
+  private final AtomicBoolean evicting = new AtomicBoolean();
+  /** The size beyond which least recently accessed values are evicted, which exceeds the max size after a shortfall */
+  private volatile int evictionSize;
+
+  static final class Entry<V> {
+    final V value;
+    volatile long lastAccessNanos;
+
+    Entry(V value, long lastAccessNanos) {
+      this.value = value;
+      this.lastAccessNanos = lastAccessNanos;
+    }
+
+    void access(long nowNanos) {
+      // Avoid writing to the shared entry when the time has not changed, such as with a coarse ticker
+      if (lastAccessNanos != nowNanos)
+        lastAccessNanos = nowNanos;
+    }
+  }
+
+  /**
+   * @param factory creates the value for a key
+   * @param evictable whether a value may be evicted
+   * @param ticker the ticker to read access times from
+   * @param maxSize the max size beyond which least recently accessed values are evicted
+   * @param idleTimeoutNanos the time after which values that have not been accessed are evicted, else -1
+   */
+  public IdleEvictingMap(Function<? super K, ? extends V> factory, Predicate<? super V> evictable, Ticker ticker,
+    int maxSize, long idleTimeoutNanos) {
+    this.factory = factory;
+    this.evictable = evictable;
+    this.ticker = ticker;
+    this.maxSize = maxSize;
+    this.idleTimeoutNanos = idleTimeoutNanos;
+    this.evictionSize = maxSize;
+    this.nextSweepNanos = new AtomicLong(ticker.nanoTime() + sweepIntervalNanos());
+  }
+
+  /**
+   * Returns the value for the {@code key}, creating it if needed.
+   */
+  public V getOrCreate(K key) {
+    long nowNanos = ticker.nanoTime();
+    Entry<V> entry = entries.get(key);
+    if (entry != null)
+      entry.access(nowNanos);
+    else
+      entry = entries.computeIfAbsent(key, k -> new Entry<>(factory.apply(k), nowNanos));
+    evictIfNeeded(nowNanos);
+    return entry.value;
+  }
+
+  /**
+   * Returns the value for the {@code key}, else {@code null} if there is none. Does not count as an access.
+   */
+  public V get(K key) {
+    Entry<V> entry = entries.get(key);
+    return entry == null ? null : entry.value;
+  }
+
+  /**
+   * Removes and returns the value for the {@code key}, else returns {@code null} if there is none.
+   */
+  public V remove(K key) {
+    Entry<V> entry = entries.remove(key);
+    return entry == null ? null : entry.value;
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Evicts idle values if a sweep is due, and least recently accessed values if the map is beyond its max size.
+   */
+  void evictIfNeeded(long nowNanos) {
+    boolean sweepDue = idleTimeoutNanos != -1 && nowNanos - nextSweepNanos.get() >= 0;
+    if ((sweepDue || entries.size() > evictionSize) && evicting.compareAndSet(false, true)) {
+      try {
+        if (sweepDue) {
+          nextSweepNanos.set(nowNanos + sweepIntervalNanos());
+          evictIdle(nowNanos);
+          if (entries.size() <= maxSize)
+            evictionSize = maxSize;
+        }
+        if (entries.size() > evictionSize)
+          evictLeastRecentlyAccessed();
+      } finally {
+        evicting.set(false);
+      }
+    }
+  }
+
+  private void evictIdle(long nowNanos) {
+    for (Map.Entry<K, Entry<V>> e : entries.entrySet()) {
+      Entry<V> entry = e.getValue();
+      if (nowNanos - entry.lastAccessNanos >= idleTimeoutNanos && evictable.test(entry.value))
+        entries.remove(e.getKey(), entry);
+    }
+  }
+
+  private void evictLeastRecentlyAccessed() {
+    int step = Math.max(maxSize / 10, 1);
+    int targetSize = maxSize - maxSize / 10;
+    int excess = entries.size() - targetSize;
+
+    // Retain the excess least recently accessed candidates, with the most recently accessed of them at the head.
+    // Access times are snapshotted so that the order is stable while entries continue to be accessed.
+    PriorityQueue<Candidate<K, V>> candidates = new PriorityQueue<>(excess,
+      (a, b) -> Long.compare(b.lastAccessNanos - a.lastAccessNanos, 0));
+    for (Map.Entry<K, Entry<V>> e : entries.entrySet()) {
+      Entry<V> entry = e.getValue();
+      if (candidates.size() == excess && entry.lastAccessNanos - candidates.peek().lastAccessNanos >= 0)
+        continue;
+      if (evictable.test(entry.value)) {
+        if (candidates.size() == excess)
+          candidates.poll();
+        candidates.add(new Candidate<>(e.getKey(), entry));
+      }
+    }
+
+    for (Candidate<K, V> candidate : candidates)
+      entries.remove(candidate.key, candidate.entry);
+
+    // Back off when too few values were evictable, so that the next scan waits for the map to grow
+    int size = entries.size();
+    evictionSize = size > targetSize ? Math.max(size, maxSize) + step : maxSize;
+  }
+
+  private static final class Candidate<K, V> {
+    final K key;
+    final Entry<V> entry;
+    final long lastAccessNanos;
+
+    Candidate(K key, Entry<V> entry) {
+      this.key = key;
+      this.entry = entry;
+      this.lastAccessNanos = entry.lastAccessNanos;
+    }
+  }
+
+  private long sweepIntervalNanos() {
+    return idleTimeoutNanos == -1 ? 0 : Math.max(idleTimeoutNanos / 4, 1);
+  }
+}
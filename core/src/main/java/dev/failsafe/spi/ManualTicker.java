@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.spi;
+
+import dev.failsafe.internal.util.Assert;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link Ticker} whose time only changes when it is explicitly advanced. Useful for deterministic tests of time based
+ * policies. The ticker's {@link #nanoTime() nanoTime} starts at {@code 0}, and its {@link #currentTimeMillis() wall
+ * clock time} starts at the configured epoch millis, and both advance together.
+ * <p>
+ * This class is threadsafe.
+ * </p>
+ */
+public class ManualTicker implements Ticker {
+  private final long startTimeMillis;
+  private final AtomicLong nanos = new AtomicLong();
+
+  /**
+   * Creates a ManualTicker whose wall clock time starts at {@code 0}.
+   */
+  public ManualTicker() {
+    this(0);
+  }
+
+  /**
+   * Creates a ManualTicker whose wall clock time starts at the {@code startTimeMillis}.
+   */
+  public ManualTicker(long startTimeMillis) {
+    this.startTimeMillis = startTimeMillis;
+  }
+
+  @Override
+  public long nanoTime() {
+    return nanos.get();
+  }
+
+  @Override
+  public long currentTimeMillis() {
+    return startTimeMillis + TimeUnit.NANOSECONDS.toMillis(nanos.get());
+  }
+
+  /**
+   * Advances the ticker by the {@code duration}, which may be negative in order to simulate clock adjustments.
+   *
+   * @throws NullPointerException if {@code duration} is null
+   */
+  public ManualTicker advance(Duration duration) {
+    Assert.notNull(duration, "duration");
+    return advance(duration.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Advances the ticker by the {@code amount} of {@code unit}, which may be negative in order to simulate clock
+   * adjustments.
+   *
+   * @throws NullPointerException if {@code unit} is null
+   */
+  public ManualTicker advance(long amount, TimeUnit unit) {
+    Assert.notNull(unit, "unit");
+    nanos.addAndGet(unit.toNanos(amount));
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "ManualTicker[nanoTime=" + nanos.get() + ']';
+  }
+}
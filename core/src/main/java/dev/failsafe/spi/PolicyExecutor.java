@@ -54,6 +54,15 @@ public abstract class PolicyExecutor<R> {
     return policyIndex;
   }
 
+  /**
+   * Returns whether the PolicyExecutor performs async executions in its own executor via {@link #applyAsync(Function,
+   * Scheduler, FailsafeFuture) applyAsync}, in which case they are not also scheduled on the execution's {@link
+   * Scheduler}. Defaults to {@code false}.
+   */
+  public boolean hasAsyncExecutor() {
+    return false;
+  }
+
   /**
    * Called before execution to return an alternative result or exception such as if execution is not allowed or needed.
    */
@@ -61,6 +70,14 @@ public abstract class PolicyExecutor<R> {
     return null;
   }
 
+  /**
+   * Called before an {@code execution} to return an alternative result or exception such as if execution is not allowed
+   * or needed. Defaults to calling {@link #preExecute()}.
+   */
+  protected ExecutionResult<R> preExecute(ExecutionInternal<R> execution) {
+    return preExecute();
+  }
+
   /**
    * Called before an async execution to return an alternative result or exception such as if execution is not allowed or
    * needed. Returns {@code null} if pre execution is not performed. If the resulting future is completed with a {@link
@@ -72,13 +89,22 @@ public abstract class PolicyExecutor<R> {
     return result == null ? null : CompletableFuture.completedFuture(result);
   }
 
+  /**
+   * Called before an async {@code execution} to return an alternative result or exception such as if execution is not
+   * allowed or needed. Defaults to calling {@link #preExecuteAsync(Scheduler, FailsafeFuture)}.
+   */
+  protected CompletableFuture<ExecutionResult<R>> preExecuteAsync(ExecutionInternal<R> execution, Scheduler scheduler,
+    FailsafeFuture<R> future) {
+    return preExecuteAsync(scheduler, future);
+  }
+
   /**
    * Performs an execution by calling pre-execute else calling the supplier and doing a post-execute.
    */
   public Function<SyncExecutionInternal<R>, ExecutionResult<R>> apply(
     Function<SyncExecutionInternal<R>, ExecutionResult<R>> innerFn, Scheduler scheduler) {
     return execution -> {
-      ExecutionResult<R> result = preExecute();
+      ExecutionResult<R> result = preExecute(execution);
       if (result != null) {
         // Still need to preExecute when short-circuiting an execution with an alternative result
         execution.preExecute();
@@ -110,7 +136,7 @@ public abstract class PolicyExecutor<R> {
         });
 
       if (!execution.isRecorded()) {
-        CompletableFuture<ExecutionResult<R>> preResult = preExecuteAsync(scheduler, future);
+        CompletableFuture<ExecutionResult<R>> preResult = preExecuteAsync(execution, scheduler, future);
         if (preResult != null) {
           preResult.whenComplete((result, error) -> {
             if (error != null)
@@ -151,7 +177,7 @@ public abstract class PolicyExecutor<R> {
       handleFailure(result, execution);
     } else {
       result = result.withSuccess();
-      onSuccess(result);
+      onSuccess(execution, result);
       handleSuccess(result, execution);
     }
 
@@ -174,7 +200,7 @@ public abstract class PolicyExecutor<R> {
           (postResult, error) -> handleFailure(postResult, execution));
       } else {
         result = result.withSuccess();
-        onSuccess(result);
+        onSuccess(execution, result);
         handleSuccess(result, execution);
         postFuture = CompletableFuture.completedFuture(result);
       }
@@ -205,6 +231,15 @@ public abstract class PolicyExecutor<R> {
   protected void onSuccess(ExecutionResult<R> result) {
   }
 
+  /**
+   * Performs post-execution handling for a {@code result} that is considered a success according to {@link
+   * #isFailure(ExecutionResult)}, with access to the execution {@code context}. Delegates to {@link
+   * #onSuccess(ExecutionResult)} by default.
+   */
+  protected void onSuccess(ExecutionContext<R> context, ExecutionResult<R> result) {
+    onSuccess(result);
+  }
+
   /**
    * Performs post-execution handling for a {@code result} that is considered a failure according to {@link
    * #isFailure(ExecutionResult)}, possibly creating a new result, else returning the original {@code result}.
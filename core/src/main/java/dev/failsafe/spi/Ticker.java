@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.spi;
+
+import dev.failsafe.internal.util.CoarseTicker;
+
+/**
+ * Reads the current time for executions and policies. A Ticker provides both a monotonic time source, for measuring
+ * elapsed time, and a wall clock time source, for reporting when something happened.
+ *
+ * @see ManualTicker
+ */
+public interface Ticker {
+  /**
+   * A Ticker that reads {@link System#nanoTime()} and {@link System#currentTimeMillis()} on every call. This is the
+   * ticker used by Failsafe if no other ticker is configured.
+   */
+  Ticker SYSTEM = new Ticker() {
+    @Override
+    public long nanoTime() {
+      return System.nanoTime();
+    }
+
+    @Override
+    public long currentTimeMillis() {
+      return System.currentTimeMillis();
+    }
+  };
+
+  /**
+   * Returns the current value of a monotonic time source, in nanoseconds. Like {@link System#nanoTime()}, the value is
+   * only meaningful when compared to other values from the same Ticker.
+   */
+  long nanoTime();
+
+  /**
+   * Returns the current wall clock time, in milliseconds since the epoch.
+   */
+  long currentTimeMillis();
+
+  /**
+   * Returns a shared Ticker that caches the system time, which is refreshed roughly once per millisecond by a single
+   * background daemon thread. Reading the coarse ticker costs a volatile read rather than a system clock read, in
+   * exchange for millisecond resolution. The background thread is started when the coarse ticker is first read.
+   */
+  static Ticker coarse() {
+    return CoarseTicker.INSTANCE;
+  }
+}
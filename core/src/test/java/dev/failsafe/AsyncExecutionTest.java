@@ -51,7 +51,8 @@ public class AsyncExecutionTest extends Testing {
 
   public void testCompleteForNoResult() {
     // Given
-    exec = new AsyncExecutionImpl<>(Arrays.asList(RetryPolicy.ofDefaults()), scheduler, future, true, innerFn);
+    exec = new AsyncExecutionImpl<>(Arrays.asList(RetryPolicy.ofDefaults()), scheduler, Ticker.SYSTEM, future, true,
+      innerFn);
 
     // When
     exec.preExecute();
@@ -68,8 +69,8 @@ public class AsyncExecutionTest extends Testing {
 
   public void testRetryForResult() {
     // Given retry for null
-    exec = new AsyncExecutionImpl<>(Arrays.asList(RetryPolicy.builder().handleResult(null).build()), scheduler, future,
-      true, innerFn);
+    exec = new AsyncExecutionImpl<>(Arrays.asList(RetryPolicy.builder().handleResult(null).build()), scheduler,
+      Ticker.SYSTEM, future, true, innerFn);
 
     // When / Then
     exec.preExecute();
@@ -97,7 +98,7 @@ public class AsyncExecutionTest extends Testing {
   public void testRetryForThrowable() {
     // Given retry on IllegalArgumentException
     exec = new AsyncExecutionImpl<>(Arrays.asList(RetryPolicy.builder().handle(IllegalArgumentException.class).build()),
-      scheduler, future, true, innerFn);
+      scheduler, Ticker.SYSTEM, future, true, innerFn);
 
     // When / Then
     exec.preExecute();
@@ -121,7 +122,7 @@ public class AsyncExecutionTest extends Testing {
   public void testRetryForResultAndThrowable() {
     // Given retry for null
     exec = new AsyncExecutionImpl<>(Arrays.asList(RetryPolicy.builder().withMaxAttempts(10).handleResult(null).build()),
-      scheduler, future, true, innerFn);
+      scheduler, Ticker.SYSTEM, future, true, innerFn);
 
     // When / Then
     exec.preExecute();
@@ -152,7 +153,8 @@ public class AsyncExecutionTest extends Testing {
 
   public void testGetAttemptCount() {
     // Given
-    exec = new AsyncExecutionImpl<>(Arrays.asList(RetryPolicy.ofDefaults()), scheduler, future, true, innerFn);
+    exec = new AsyncExecutionImpl<>(Arrays.asList(RetryPolicy.ofDefaults()), scheduler, Ticker.SYSTEM, future, true,
+      innerFn);
 
     // When
     exec.preExecute();
@@ -168,7 +170,8 @@ public class AsyncExecutionTest extends Testing {
 
   @Test(expectedExceptions = IllegalStateException.class)
   public void shouldThrowOnRetryWhenAlreadyComplete() {
-    exec = new AsyncExecutionImpl<>(Arrays.asList(RetryPolicy.ofDefaults()), scheduler, future, true, innerFn);
+    exec = new AsyncExecutionImpl<>(Arrays.asList(RetryPolicy.ofDefaults()), scheduler, Ticker.SYSTEM, future, true,
+      innerFn);
     exec.complete();
     exec.preExecute();
     exec.recordException(e);
@@ -176,7 +179,8 @@ public class AsyncExecutionTest extends Testing {
 
   public void testCompleteOrRetry() {
     // Given retry on IllegalArgumentException
-    exec = new AsyncExecutionImpl<>(Arrays.asList(RetryPolicy.ofDefaults()), scheduler, future, true, innerFn);
+    exec = new AsyncExecutionImpl<>(Arrays.asList(RetryPolicy.ofDefaults()), scheduler, Ticker.SYSTEM, future, true,
+      innerFn);
 
     // When / Then
     exec.preExecute();
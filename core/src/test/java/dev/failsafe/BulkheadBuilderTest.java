@@ -19,6 +19,7 @@ import org.testng.annotations.Test;
 
 import java.time.Duration;
 
+import static dev.failsafe.testing.Asserts.assertThrows;
 import static org.testng.Assert.*;
 
 @Test
@@ -26,11 +27,31 @@ public class BulkheadBuilderTest {
   public void shouldCreateBuilderFromExistingConfig() {
     BulkheadConfig<Object> initialConfig = Bulkhead.builder(5)
       .withMaxWaitTime(Duration.ofSeconds(10))
+      .withMaxQueueSize(100)
       .onSuccess(e -> {
       }).config;
     BulkheadConfig<Object> newConfig = Bulkhead.builder(initialConfig).config;
     assertEquals(newConfig.maxConcurrency, 5);
     assertEquals(newConfig.maxWaitTime, Duration.ofSeconds(10));
+    assertEquals(newConfig.maxQueueSize, 100);
     assertNotNull(newConfig.successListener);
   }
+
+  public void shouldRequireValidMaxQueueSize() {
+    assertEquals(Bulkhead.builder(5).config.getMaxQueueSize(), Integer.MAX_VALUE);
+    assertEquals(Bulkhead.builder(5).withMaxQueueSize(0).config.getMaxQueueSize(), 0);
+    assertThrows(() -> Bulkhead.builder(5).withMaxQueueSize(-1), IllegalArgumentException.class);
+  }
+
+  public void shouldRequireValidAdaptiveConcurrency() {
+    BulkheadConfig<Object> config = Bulkhead.builder(10).withAdaptiveConcurrency(2, 5).config;
+    assertEquals(config.getMinConcurrency(), 2);
+    assertEquals(config.getInitialConcurrency(), 5);
+    assertEquals(Bulkhead.builder(config).build().getConcurrencyLimit(), 5);
+    assertEquals(Bulkhead.of(10).getConcurrencyLimit(), 10);
+
+    assertThrows(() -> Bulkhead.builder(10).withAdaptiveConcurrency(0, 5), IllegalArgumentException.class);
+    assertThrows(() -> Bulkhead.builder(10).withAdaptiveConcurrency(6, 5), IllegalArgumentException.class);
+    assertThrows(() -> Bulkhead.builder(10).withAdaptiveConcurrency(2, 11), IllegalArgumentException.class);
+  }
 }
@@ -55,6 +55,35 @@ public class CircuitBreakerBuilderTest {
     assertThrows(() -> CircuitBreaker.builder().withFailureThreshold(2, 1), IllegalArgumentException.class);
   }
 
+  public void shouldRequireValidFractionalFailureRateThreshold() {
+    assertThrows(() -> CircuitBreaker.builder().withFailureRateThreshold(0.001, 10, Duration.ofSeconds(1)),
+      IllegalArgumentException.class);
+    assertThrows(() -> CircuitBreaker.builder().withFailureRateThreshold(100.5, 10, Duration.ofSeconds(1)),
+      IllegalArgumentException.class);
+  }
+
+  public void shouldRequireValidExponentialDecay() {
+    assertThrows(() -> CircuitBreaker.builder().withExponentialDecay(null), NullPointerException.class);
+    assertThrows(() -> CircuitBreaker.builder().withExponentialDecay(Duration.ZERO), IllegalArgumentException.class);
+  }
+
+  public void shouldRequireValidSlowCallThreshold() {
+    assertThrows(() -> CircuitBreaker.builder().withSlowCallThreshold(null, 50), NullPointerException.class);
+    assertThrows(() -> CircuitBreaker.builder().withSlowCallThreshold(Duration.ZERO, 50),
+      IllegalArgumentException.class);
+    assertThrows(() -> CircuitBreaker.builder().withSlowCallThreshold(Duration.ofSeconds(1), 0),
+      IllegalArgumentException.class);
+    assertThrows(() -> CircuitBreaker.builder().withSlowCallThreshold(Duration.ofSeconds(1), 101),
+      IllegalArgumentException.class);
+  }
+
+  public void shouldRequireValidRampUp() {
+    assertThrows(() -> CircuitBreaker.builder().withRampUp(0, Duration.ofSeconds(1)), IllegalArgumentException.class);
+    assertThrows(() -> CircuitBreaker.builder().withRampUp(100, Duration.ofSeconds(1)), IllegalArgumentException.class);
+    assertThrows(() -> CircuitBreaker.builder().withRampUp(5, null), NullPointerException.class);
+    assertThrows(() -> CircuitBreaker.builder().withRampUp(5, Duration.ZERO), IllegalArgumentException.class);
+  }
+
   public void shouldRequireValidSuccessThreshold() {
     assertThrows(() -> CircuitBreaker.builder().withSuccessThreshold(0).build(), IllegalArgumentException.class);
   }
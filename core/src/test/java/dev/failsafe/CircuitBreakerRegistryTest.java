@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+import dev.failsafe.spi.ManualTicker;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+
+import static dev.failsafe.testing.Asserts.assertThrows;
+import static org.testng.Assert.*;
+
+@Test
+public class CircuitBreakerRegistryTest {
+  public void shouldGetOrCreate() {
+    CircuitBreakerRegistry<String, Object> registry = CircuitBreakerRegistry.builder(
+      CircuitBreaker.builder().withFailureThreshold(2).build().getConfig()).build();
+
+    CircuitBreaker<Object> breaker = registry.getOrCreate("a");
+    assertSame(registry.getOrCreate("a"), breaker);
+    assertSame(registry.get("a"), breaker);
+    assertNotSame(registry.getOrCreate("b"), breaker);
+    assertNull(registry.get("c"));
+    assertEquals(breaker.getConfig().getFailureThreshold(), 2);
+    assertEquals(registry.size(), 2);
+
+    assertSame(registry.remove("a"), breaker);
+    assertEquals(registry.size(), 1);
+    assertNotSame(registry.getOrCreate("a"), breaker);
+  }
+
+  public void shouldEvictIdleClosedBreakers() {
+    // Given
+    ManualTicker ticker = new ManualTicker();
+    CircuitBreakerRegistry<String, Object> registry = CircuitBreakerRegistry.builder(
+      CircuitBreaker.builder().withTicker(ticker).build().getConfig()).withIdleTimeout(Duration.ofSeconds(10)).build();
+    registry.getOrCreate("closed");
+    registry.getOrCreate("open").open();
+    registry.getOrCreate("active");
+
+    // When
+    ticker.advance(Duration.ofSeconds(6));
+    registry.getOrCreate("active");
+    ticker.advance(Duration.ofSeconds(6));
+    registry.getOrCreate("active");
+
+    // Then
+    assertNull(registry.get("closed"));
+    assertNotNull(registry.get("open"));
+    assertNotNull(registry.get("active"));
+    assertEquals(registry.size(), 2);
+  }
+
+  public void shouldEvictIdleOpenBreakersWhoseDelayElapsed() {
+    // Given
+    ManualTicker ticker = new ManualTicker();
+    CircuitBreakerConfig<Object> config = CircuitBreaker.builder()
+      .withTicker(ticker)
+      .withDelay(Duration.ofSeconds(5))
+      .build()
+      .getConfig();
+    CircuitBreakerRegistry<String, Object> registry = CircuitBreakerRegistry.builder(config)
+      .withIdleTimeout(Duration.ofSeconds(10))
+      .build();
+    registry.getOrCreate("open").open();
+    registry.getOrCreate("active");
+
+    // When
+    ticker.advance(Duration.ofSeconds(6));
+    registry.getOrCreate("active");
+    ticker.advance(Duration.ofSeconds(6));
+    registry.getOrCreate("active");
+
+    // Then
+    assertNull(registry.get("open"));
+    assertEquals(registry.size(), 1);
+  }
+
+  public void shouldEvictLeastRecentlyUsedClosedBreakers() {
+    // Given
+    ManualTicker ticker = new ManualTicker();
+    CircuitBreakerRegistry<Integer, Object> registry = CircuitBreakerRegistry.builder(
+      CircuitBreaker.builder().withTicker(ticker).build().getConfig()).withMaxSize(10).build();
+    registry.getOrCreate(0).open();
+
+    // When
+    for (int i = 1; i <= 10; i++) {
+      ticker.advance(Duration.ofMillis(1));
+      registry.getOrCreate(i);
+    }
+
+    // Then
+    assertEquals(registry.size(), 9);
+    assertNotNull(registry.get(0));
+    assertNull(registry.get(1));
+    assertNull(registry.get(2));
+    assertNotNull(registry.get(3));
+    assertNotNull(registry.get(10));
+  }
+
+  public void shouldBackOffEvictionWhenTooFewBreakersAreEvictable() {
+    // Given
+    CircuitBreakerRegistry<Integer, Object> registry = CircuitBreakerRegistry.builder(
+      CircuitBreaker.ofDefaults().getConfig()).withMaxSize(10).build();
+    for (int i = 0; i < 10; i++)
+      registry.getOrCreate(i).open();
+
+    // When / Then
+    registry.getOrCreate(10);
+    assertNull(registry.get(10));
+    assertEquals(registry.size(), 10);
+
+    // Eviction is not attempted again until the registry grows further
+    registry.getOrCreate(11);
+    assertNotNull(registry.get(11));
+    assertEquals(registry.size(), 11);
+
+    registry.getOrCreate(12);
+    assertNull(registry.get(11));
+    assertNull(registry.get(12));
+    assertEquals(registry.size(), 10);
+  }
+
+  public void shouldRequireValidBounds() {
+    CircuitBreakerConfig<Object> config = CircuitBreaker.ofDefaults().getConfig();
+    assertThrows(() -> CircuitBreakerRegistry.builder(null), NullPointerException.class);
+    assertThrows(() -> CircuitBreakerRegistry.builder(config).withMaxSize(0), IllegalArgumentException.class);
+    assertThrows(() -> CircuitBreakerRegistry.builder(config).withIdleTimeout(null), NullPointerException.class);
+    assertThrows(() -> CircuitBreakerRegistry.builder(config).withIdleTimeout(Duration.ZERO),
+      IllegalArgumentException.class);
+  }
+}
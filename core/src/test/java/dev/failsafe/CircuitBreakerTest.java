@@ -15,9 +15,15 @@
  */
 package dev.failsafe;
 
+import dev.failsafe.CircuitBreaker.State;
+import dev.failsafe.spi.ManualTicker;
 import org.testng.annotations.Test;
 
+import java.time.Duration;
+import java.time.Instant;
+
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
 @Test
@@ -76,4 +82,78 @@ public class CircuitBreakerTest {
     assertEquals(breaker.getSuccessCount(), 10);
     assertEquals(breaker.getSuccessRate(), 67);
   }
+
+  public void shouldGetMetrics() {
+    // Given
+    CircuitBreaker<Object> breaker = CircuitBreaker.builder()
+      .withFailureThreshold(3, 4)
+      .withDelay(Duration.ofSeconds(10))
+      .build();
+
+    // When
+    breaker.recordSuccess();
+    breaker.recordFailure();
+    breaker.recordSuccess();
+    CircuitBreakerMetrics metrics = breaker.getMetrics();
+
+    // Then
+    assertEquals(metrics.getState(), State.CLOSED);
+    assertEquals(metrics.getExecutionCount(), 3);
+    assertEquals(metrics.getSuccessCount(), 2);
+    assertEquals(metrics.getFailureCount(), 1);
+    assertEquals(metrics.getSuccessRate(), 67);
+    assertEquals(metrics.getFailureRate(), 33);
+    assertNull(metrics.getWindowStartTime());
+    assertEquals(metrics.getRemainingDelay(), Duration.ZERO);
+
+    // When
+    breaker.open();
+    metrics = breaker.getMetrics();
+
+    // Then
+    assertEquals(metrics.getState(), State.OPEN);
+    assertEquals(metrics.getExecutionCount(), 3);
+    assertTrue(metrics.getRemainingDelay().compareTo(Duration.ZERO) > 0);
+  }
+
+  public void shouldRecordManualExecutionsAsNotSlow() {
+    // Given
+    CircuitBreaker<Object> breaker = CircuitBreaker.builder()
+      .withFailureThreshold(3, 10)
+      .withSlowCallThreshold(Duration.ofMillis(10), 2)
+      .build();
+
+    // When
+    breaker.recordSuccess();
+    breaker.recordFailure();
+    breaker.recordResult("foo");
+    breaker.recordException(new IllegalStateException());
+    CircuitBreakerMetrics metrics = breaker.getMetrics();
+
+    // Then
+    assertEquals(metrics.getState(), State.CLOSED);
+    assertEquals(metrics.getExecutionCount(), 4);
+    assertEquals(metrics.getSlowCallCount(), 0);
+  }
+
+  public void shouldGetTimeBasedMetrics() {
+    // Given
+    ManualTicker ticker = new ManualTicker(1000);
+    CircuitBreaker<Object> breaker = CircuitBreaker.builder()
+      .withFailureThreshold(5, 10, Duration.ofSeconds(10))
+      .withTicker(ticker)
+      .build();
+
+    // When
+    breaker.recordFailure();
+    ticker.advance(Duration.ofMillis(2500));
+    breaker.recordSuccess();
+    CircuitBreakerMetrics metrics = breaker.getMetrics();
+
+    // Then
+    assertEquals(metrics.getSuccessCount(), 1);
+    assertEquals(metrics.getFailureCount(), 1);
+    assertEquals(metrics.getFailureRate(), 50);
+    assertEquals(metrics.getWindowStartTime(), Instant.ofEpochMilli(3000 + 1000 - 10000));
+  }
 }
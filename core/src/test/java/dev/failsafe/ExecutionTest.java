@@ -159,6 +159,15 @@ public class ExecutionTest {
     assertTrue(exec.getElapsedTime().toMillis() > 100);
   }
 
+  public void testGetElapsedNanos() throws Throwable {
+    Execution<Object> exec = Execution.of(RetryPolicy.ofDefaults());
+    assertTrue(exec.getElapsedNanos() < TimeUnit.MILLISECONDS.toNanos(100));
+    assertTrue(exec.getElapsedAttemptNanos() < TimeUnit.MILLISECONDS.toNanos(100));
+    Thread.sleep(150);
+    assertTrue(exec.getElapsedNanos() > TimeUnit.MILLISECONDS.toNanos(100));
+    assertTrue(exec.getElapsedAttemptNanos() > TimeUnit.MILLISECONDS.toNanos(100));
+  }
+
   @SuppressWarnings("unchecked")
   public void testIsComplete() {
     List<Object> list = mock(List.class);
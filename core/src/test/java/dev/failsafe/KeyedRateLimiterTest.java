@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe;
+
+import dev.failsafe.spi.ManualTicker;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static dev.failsafe.testing.Asserts.assertThrows;
+import static org.testng.Assert.*;
+
+@Test
+public class KeyedRateLimiterTest {
+  public void shouldGetOrCreate() {
+    KeyedRateLimiter<String, Object> keyedLimiter = KeyedRateLimiter.builder(
+      RateLimiter.smoothBuilder(Duration.ofSeconds(1)).build().getConfig()).build();
+
+    RateLimiter<Object> limiter = keyedLimiter.getOrCreate("a");
+    assertSame(keyedLimiter.getOrCreate("a"), limiter);
+    assertSame(keyedLimiter.get("a"), limiter);
+    assertNull(keyedLimiter.get("c"));
+    assertEquals(limiter.getConfig().getMaxRate(), Duration.ofSeconds(1));
+
+    // Limiters for each key are independent
+    assertTrue(limiter.tryAcquirePermit());
+    assertFalse(limiter.tryAcquirePermit());
+    assertTrue(keyedLimiter.getOrCreate("b").tryAcquirePermit());
+    assertEquals(keyedLimiter.size(), 2);
+
+    assertSame(keyedLimiter.remove("a"), limiter);
+    assertEquals(keyedLimiter.size(), 1);
+    assertNotSame(keyedLimiter.getOrCreate("a"), limiter);
+  }
+
+  public void shouldEvictIdleFullLimiters() {
+    // Given
+    ManualTicker ticker = new ManualTicker();
+    KeyedRateLimiter<String, Object> keyedLimiter = KeyedRateLimiter.builder(
+        RateLimiter.smoothBuilder(Duration.ofSeconds(1)).withTicker(ticker).build().getConfig())
+      .withIdleTimeout(Duration.ofSeconds(10))
+      .build();
+    keyedLimiter.getOrCreate("full");
+    keyedLimiter.getOrCreate("reserved").reservePermits(30);
+    keyedLimiter.getOrCreate("active");
+
+    // When
+    ticker.advance(Duration.ofSeconds(6));
+    keyedLimiter.getOrCreate("active");
+    ticker.advance(Duration.ofSeconds(6));
+    keyedLimiter.getOrCreate("active");
+
+    // Then
+    assertNull(keyedLimiter.get("full"));
+    assertNotNull(keyedLimiter.get("reserved"));
+    assertNotNull(keyedLimiter.get("active"));
+    assertEquals(keyedLimiter.size(), 2);
+  }
+
+  public void shouldLimitExecutionsByResolvedKey() throws Throwable {
+    // Given
+    AtomicReference<String> tenant = new AtomicReference<>("a");
+    KeyedRateLimiter<String, Object> keyedLimiter = KeyedRateLimiter.builder(
+      RateLimiter.smoothBuilder(Duration.ofSeconds(1)).build().getConfig()).build(ctx -> tenant.get());
+    FailsafeExecutor<Object> executor = Failsafe.with(keyedLimiter);
+
+    // When / Then
+    executor.run(() -> {
+    });
+    assertThrows(() -> executor.run(() -> {
+    }), RateLimitExceededException.class);
+    assertThrows(() -> executor.runAsync(() -> {
+    }).get(), ExecutionException.class, RateLimitExceededException.class);
+
+    // When / Then
+    tenant.set("b");
+    executor.runAsync(() -> {
+    }).get();
+    assertFalse(keyedLimiter.getOrCreate("b").tryAcquirePermit());
+  }
+
+  /**
+   * Asserts that rate limiters for each key acquire permits without leasing them, even when leasing is configured.
+   */
+  public void shouldNotLeasePermits() {
+    RateLimiterConfig<Object> config = RateLimiter.burstyBuilder(10, Duration.ofSeconds(1))
+      .withPermitLeasing(5, Duration.ofSeconds(1))
+      .build()
+      .getConfig();
+    KeyedRateLimiter<String, Object> keyedLimiter = KeyedRateLimiter.builder(config).build();
+    RateLimiter<Object> limiter = keyedLimiter.getOrCreate("a");
+
+    assertTrue(limiter.tryAcquirePermit());
+    assertTrue(limiter.tryAcquirePermits(9));
+    assertFalse(limiter.tryAcquirePermit());
+  }
+
+  public void shouldRequireKeyResolverWhenUsedAsPolicy() {
+    KeyedRateLimiter<String, Object> keyedLimiter = KeyedRateLimiter.builder(
+      RateLimiter.smoothBuilder(Duration.ofSeconds(1)).build().getConfig()).build();
+
+    assertThrows(() -> Failsafe.with(keyedLimiter).run(() -> {
+    }), IllegalStateException.class);
+  }
+
+  public void shouldRequireValidBounds() {
+    RateLimiterConfig<Object> config = RateLimiter.smoothBuilder(Duration.ofSeconds(1)).build().getConfig();
+    assertThrows(() -> KeyedRateLimiter.builder(null), NullPointerException.class);
+    assertThrows(() -> KeyedRateLimiter.builder(config).withMaxSize(0), IllegalArgumentException.class);
+    assertThrows(() -> KeyedRateLimiter.builder(config).withIdleTimeout(Duration.ZERO),
+      IllegalArgumentException.class);
+    assertThrows(() -> KeyedRateLimiter.builder(config).build(null), NullPointerException.class);
+  }
+}
@@ -19,8 +19,12 @@ import org.testng.annotations.Test;
 
 import java.time.Duration;
 
+import static dev.failsafe.testing.Asserts.assertThrows;
+import static org.mockito.Mockito.mock;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
 
 @Test
 public class RateLimiterBuilderTest {
@@ -47,4 +51,45 @@ public class RateLimiterBuilderTest {
     maxRate2 = RateLimiter.smoothBuilder(Duration.ofMillis(15)).config.getMaxRate();
     assertEquals(maxRate1, maxRate2);
   }
+
+  /**
+   * Asserts that the token bucket rate limiter factory methods are equal.
+   */
+  public void shouldBuildEqualTokenBucketLimiters() {
+    RateLimiterConfig<Object> config1 = RateLimiter.tokenBucketBuilder(100, Duration.ofSeconds(1), 20).config;
+    RateLimiterConfig<Object> config2 = RateLimiter.tokenBucketBuilder(Duration.ofMillis(10), 20).config;
+    assertEquals(config1.getRefillRate(), config2.getRefillRate());
+    assertEquals(config1.getCapacity(), config2.getCapacity());
+    assertTrue(RateLimiter.tokenBucketBuilder(Duration.ofMillis(10), 20).build().isTokenBucket());
+  }
+
+  public void shouldRequireValidTokenBucketConfig() {
+    assertThrows(() -> RateLimiter.tokenBucketBuilder(Duration.ZERO, 20), IllegalArgumentException.class);
+    assertThrows(() -> RateLimiter.tokenBucketBuilder(Duration.ofMillis(10), 0), IllegalArgumentException.class);
+    assertThrows(() -> RateLimiter.tokenBucketBuilder(Duration.ofMillis(10), 20).withWarmUp(Duration.ZERO),
+      IllegalArgumentException.class);
+    assertThrows(() -> RateLimiter.smoothBuilder(Duration.ofMillis(10)).withWarmUp(Duration.ofSeconds(1)),
+      IllegalStateException.class);
+  }
+
+  public void shouldRequireBuiltParent() {
+    RateLimiterBuilder<Object> builder = RateLimiter.smoothBuilder(Duration.ofMillis(10));
+    assertThrows(() -> builder.withParent(null), NullPointerException.class);
+    assertThrows(() -> builder.withParent(mock(RateLimiter.class)), IllegalArgumentException.class);
+
+    RateLimiter<Object> parent = RateLimiter.burstyBuilder(10, Duration.ofSeconds(1)).build();
+    assertSame(RateLimiter.builder(builder.withParent(parent).config).config.getParent(), parent);
+  }
+
+  public void shouldRequireValidPermitLeasing() {
+    RateLimiterBuilder<Object> builder = RateLimiter.smoothBuilder(Duration.ofMillis(10));
+    assertThrows(() -> builder.withPermitLeasing(1, Duration.ofMillis(100)), IllegalArgumentException.class);
+    assertThrows(() -> builder.withPermitLeasing(16, null), NullPointerException.class);
+    assertThrows(() -> builder.withPermitLeasing(16, Duration.ZERO), IllegalArgumentException.class);
+
+    RateLimiterConfig<Object> config = RateLimiter.builder(
+      builder.withPermitLeasing(16, Duration.ofMillis(100)).config).config;
+    assertEquals(config.getLeaseSize(), 16);
+    assertEquals(config.getLeaseDuration(), Duration.ofMillis(100));
+  }
 }
@@ -18,10 +18,22 @@ package dev.failsafe.functional;
 import dev.failsafe.Bulkhead;
 import dev.failsafe.BulkheadFullException;
 import dev.failsafe.Failsafe;
+import dev.failsafe.Timeout;
+import dev.failsafe.TimeoutExceededException;
 import dev.failsafe.testing.Testing;
 import org.testng.annotations.Test;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
 
 /**
  * Tests various Bulkhead scenarios.
@@ -70,4 +82,211 @@ public class BulkheadTest extends Testing {
     testRunFailure(Failsafe.with(bulkhead), ctx -> {
     }, BulkheadFullException.class);
   }
+
+  /**
+   * Asserts that async waits expire with BulkheadFullException, and that expired waiters do not receive permits.
+   */
+  public void testAsyncWaitsExpire() throws Throwable {
+    // Given
+    Bulkhead<Object> bulkhead = Bulkhead.builder(1).withMaxWaitTime(Duration.ofMillis(100)).build();
+    bulkhead.tryAcquirePermit(); // bulkhead should be full
+
+    // When
+    List<CompletableFuture<Object>> futures = new ArrayList<>();
+    for (int i = 0; i < 3; i++)
+      futures.add(Failsafe.with(bulkhead).getAsync(() -> "test"));
+
+    // Then
+    for (CompletableFuture<Object> future : futures)
+      assertThrows(future::get, ExecutionException.class, BulkheadFullException.class);
+    bulkhead.releasePermit();
+    assertTrue(bulkhead.tryAcquirePermit());
+    assertFalse(bulkhead.tryAcquirePermit());
+  }
+
+  /**
+   * Asserts that executions are rejected without waiting when the max queue size is exceeded.
+   */
+  public void testMaxQueueSizeExceeded() {
+    // Given
+    Bulkhead<Object> bulkhead = Bulkhead.builder(1)
+      .withMaxWaitTime(Duration.ofSeconds(10))
+      .withMaxQueueSize(1)
+      .build();
+    bulkhead.tryAcquirePermit(); // bulkhead should be full
+    CompletableFuture<Void> waiting = bulkhead.acquirePermitAsync(); // queue should be full
+
+    // When / Then
+    long elapsed = timed(() -> testRunFailure(Failsafe.with(bulkhead), ctx -> {
+    }, BulkheadFullException.class));
+    assertTrue(elapsed < 1000);
+    assertTrue(bulkhead.acquirePermitAsync().isCompletedExceptionally());
+
+    // When / Then
+    bulkhead.releasePermit();
+    assertTrue(waiting.isDone());
+    assertFalse(waiting.isCompletedExceptionally());
+  }
+
+  /**
+   * Asserts that permits can be acquired asynchronously, and that async acquisition fails when the maxWaitTime is
+   * exceeded.
+   */
+  public void testAcquirePermitAsync() throws Throwable {
+    // Given
+    Bulkhead<Object> bulkhead = Bulkhead.of(1);
+
+    // When / Then
+    assertTrue(bulkhead.acquirePermitAsync().isDone());
+    CompletableFuture<Void> future = bulkhead.acquirePermitAsync();
+    assertFalse(future.isDone());
+    bulkhead.releasePermit();
+    assertTrue(future.isDone());
+    assertThrows(() -> bulkhead.acquirePermitAsync(Duration.ofMillis(20)).get(), ExecutionException.class,
+      BulkheadFullException.class);
+  }
+
+  /**
+   * Asserts that a cancelled async waiter does not receive a released permit.
+   */
+  public void testAcquirePermitAsyncCancelled() {
+    // Given
+    Bulkhead<Object> bulkhead = Bulkhead.of(1);
+    bulkhead.tryAcquirePermit();
+    CompletableFuture<Void> cancelled = bulkhead.acquirePermitAsync();
+    CompletableFuture<Void> waiting = bulkhead.acquirePermitAsync(Duration.ofSeconds(10));
+
+    // When
+    cancelled.cancel(false);
+    bulkhead.releasePermit();
+
+    // Then
+    assertTrue(waiting.isDone());
+    assertFalse(waiting.isCompletedExceptionally());
+  }
+
+  /**
+   * Asserts that a permit released after a sync waiter times out is returned to the bulkhead rather than to the waiter.
+   */
+  public void testPermitReturnedAfterSyncWaitTimeout() throws Throwable {
+    // Given
+    Bulkhead<Object> bulkhead = Bulkhead.of(1);
+    bulkhead.tryAcquirePermit();
+    assertFalse(bulkhead.tryAcquirePermit(Duration.ofMillis(20)));
+
+    // When
+    bulkhead.releasePermit();
+
+    // Then
+    assertTrue(bulkhead.tryAcquirePermit());
+  }
+
+  /**
+   * Asserts that concurrent waiters never exceed the max concurrency, and that all permits are returned.
+   */
+  public void shouldNotExceedMaxConcurrencyWhenContended() throws Throwable {
+    // Given
+    Bulkhead<Object> bulkhead = Bulkhead.of(3);
+    AtomicInteger concurrency = new AtomicInteger();
+    AtomicInteger maxConcurrency = new AtomicInteger();
+    CountDownLatch startLatch = new CountDownLatch(1);
+    List<Thread> threads = new ArrayList<>();
+
+    // When
+    for (int i = 0; i < 8; i++) {
+      Thread thread = new Thread(() -> {
+        try {
+          startLatch.await();
+          for (int j = 0; j < 1000; j++) {
+            bulkhead.acquirePermitAsync().get();
+            maxConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+            concurrency.decrementAndGet();
+            bulkhead.releasePermit();
+          }
+        } catch (Exception ignore) {
+        }
+      });
+      thread.start();
+      threads.add(thread);
+    }
+    startLatch.countDown();
+    for (Thread thread : threads)
+      thread.join();
+
+    // Then
+    assertTrue(maxConcurrency.get() <= 3);
+    for (int i = 0; i < 3; i++)
+      assertTrue(bulkhead.tryAcquirePermit());
+    assertFalse(bulkhead.tryAcquirePermit());
+  }
+
+  /**
+   * Asserts that sync and async executions are performed in a bulkhead's thread pool.
+   */
+  public void testThreadPool() throws Throwable {
+    // Given
+    Bulkhead<String> bulkhead = Bulkhead.<String>builder(2).withThreadPool("bulkhead").build();
+
+    // When / Then
+    assertTrue(Failsafe.with(bulkhead).get(() -> Thread.currentThread().getName()).startsWith("bulkhead-"));
+    assertTrue(Failsafe.with(bulkhead).getAsync(() -> Thread.currentThread().getName()).get().startsWith("bulkhead-"));
+    assertTrue(bulkhead.tryAcquirePermit());
+    assertTrue(bulkhead.tryAcquirePermit());
+  }
+
+  /**
+   * Asserts that an outer Timeout abandons a thread pool execution that does not respond to interrupts.
+   */
+  public void testTimeoutAbandonsThreadPoolExecution() throws Throwable {
+    // Given
+    Bulkhead<String> bulkhead = Bulkhead.<String>builder(1).withThreadPool("bulkhead").build();
+    Timeout<String> timeout = Timeout.<String>builder(Duration.ofMillis(100)).withInterrupt().build();
+    CountDownLatch latch = new CountDownLatch(1);
+
+    // When
+    long elapsed = timed(() -> assertThrows(() -> Failsafe.with(timeout, bulkhead).get(() -> {
+      while (true) {
+        try {
+          latch.await();
+          return "test";
+        } catch (InterruptedException ignore) {
+        }
+      }
+    }), TimeoutExceededException.class));
+
+    // Then the abandoned execution holds its permit until it stops running
+    assertTrue(elapsed < 1000);
+    assertFalse(Thread.currentThread().isInterrupted());
+    assertFalse(bulkhead.tryAcquirePermit());
+    latch.countDown();
+    assertTrue(bulkhead.tryAcquirePermit(Duration.ofSeconds(1)));
+    bulkhead.releasePermit();
+    assertEquals(Failsafe.with(bulkhead).get(() -> "test"), "test");
+  }
+
+  /**
+   * Asserts that an async thread pool execution that is timed out by an outer Timeout holds its permit until it stops
+   * running.
+   */
+  public void testTimeoutAbandonsAsyncThreadPoolExecution() throws Throwable {
+    // Given
+    Bulkhead<String> bulkhead = Bulkhead.<String>builder(1).withThreadPool("bulkhead").build();
+    Timeout<String> timeout = Timeout.of(Duration.ofMillis(100));
+    CountDownLatch latch = new CountDownLatch(1);
+
+    // When
+    CompletableFuture<String> future = Failsafe.with(timeout, bulkhead).getAsync(() -> {
+      latch.await();
+      return "test";
+    });
+    Thread.sleep(300);
+
+    // Then
+    assertFalse(bulkhead.tryAcquirePermit());
+    latch.countDown();
+    assertThrows(future::get, ExecutionException.class, TimeoutExceededException.class);
+    assertTrue(bulkhead.tryAcquirePermit(Duration.ofSeconds(1)));
+    bulkhead.releasePermit();
+    assertEquals(Failsafe.with(bulkhead).getAsync(() -> "test").get(), "test");
+  }
 }
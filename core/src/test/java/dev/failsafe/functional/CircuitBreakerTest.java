@@ -16,6 +16,8 @@
 package dev.failsafe.functional;
 
 import dev.failsafe.*;
+import dev.failsafe.function.CheckedSupplier;
+import dev.failsafe.spi.ManualTicker;
 import dev.failsafe.testing.Testing;
 import net.jodah.concurrentunit.Waiter;
 import org.testng.annotations.Test;
@@ -218,4 +220,101 @@ public class CircuitBreakerTest extends Testing {
     executor.get(() -> true);
     assertTrue(circuitBreaker.isClosed());
   }
+
+  /**
+   * Tests circuit breaker time based failure thresholding and delays using a manually advanced ticker.
+   */
+  public void shouldSupportTimeBasedFailureThresholdingWithTicker() {
+    // Given
+    ManualTicker ticker = new ManualTicker();
+    CircuitBreaker<Boolean> circuitBreaker = CircuitBreaker.<Boolean>builder()
+      .withFailureThreshold(2, 3, Duration.ofSeconds(10))
+      .withDelay(Duration.ofMinutes(1))
+      .withTicker(ticker)
+      .handleResult(false)
+      .build();
+    FailsafeExecutor<Boolean> executor = Failsafe.with(circuitBreaker);
+
+    // When / Then
+    executor.get(() -> false);
+    executor.get(() -> true);
+    // Force results to roll off
+    ticker.advance(Duration.ofSeconds(11));
+    executor.get(() -> false);
+    executor.get(() -> true);
+    assertTrue(circuitBreaker.isClosed());
+    executor.get(() -> false);
+    assertTrue(circuitBreaker.isOpen());
+    assertEquals(circuitBreaker.getRemainingDelay(), Duration.ofMinutes(1));
+    ticker.advance(Duration.ofSeconds(45));
+    assertEquals(circuitBreaker.getRemainingDelay(), Duration.ofSeconds(15));
+    ticker.advance(Duration.ofSeconds(15));
+    // Half-open -> close
+    executor.get(() -> true);
+    assertTrue(circuitBreaker.isClosed());
+  }
+
+  /**
+   * Asserts that slow executions open the circuit once the slow call rate threshold is met, and that slow executions
+   * re-open a half-open circuit.
+   */
+  public void shouldOpenOnSlowCallRateThreshold() {
+    // Given
+    ManualTicker ticker = new ManualTicker();
+    CircuitBreaker<Boolean> circuitBreaker = CircuitBreaker.<Boolean>builder()
+      .withFailureThreshold(3, 4)
+      .withSlowCallThreshold(Duration.ofMillis(100), 50)
+      .withSuccessThreshold(1)
+      .withDelay(Duration.ofMinutes(1))
+      .withTicker(ticker)
+      .build();
+    FailsafeExecutor<Boolean> executor = Failsafe.with(circuitBreaker).with(ticker);
+    CheckedSupplier<Boolean> fast = () -> true;
+    CheckedSupplier<Boolean> slow = () -> {
+      ticker.advance(Duration.ofMillis(200));
+      return true;
+    };
+
+    // When / Then
+    executor.get(fast);
+    executor.get(slow);
+    executor.get(slow);
+    assertTrue(circuitBreaker.isClosed());
+    assertEquals(circuitBreaker.getMetrics().getSlowCallCount(), 2);
+    executor.get(fast);
+    assertTrue(circuitBreaker.isOpen());
+
+    // When / Then
+    ticker.advance(Duration.ofMinutes(1));
+    executor.get(slow);
+    assertTrue(circuitBreaker.isOpen());
+    ticker.advance(Duration.ofMinutes(1));
+    executor.get(fast);
+    assertTrue(circuitBreaker.isClosed());
+  }
+
+  /**
+   * Asserts that failures decay smoothly with exponential decay configured.
+   */
+  public void shouldSupportExponentialDecay() {
+    // Given
+    ManualTicker ticker = new ManualTicker();
+    CircuitBreaker<Boolean> circuitBreaker = CircuitBreaker.<Boolean>builder()
+      .withFailureThreshold(3)
+      .withExponentialDecay(Duration.ofSeconds(1))
+      .withTicker(ticker)
+      .handleResult(false)
+      .build();
+    FailsafeExecutor<Boolean> executor = Failsafe.with(circuitBreaker);
+
+    // When / Then
+    executor.get(() -> false);
+    executor.get(() -> false);
+    ticker.advance(Duration.ofSeconds(1));
+    executor.get(() -> false);
+    assertTrue(circuitBreaker.isClosed());
+    assertEquals(circuitBreaker.getFailureCount(), 2);
+    executor.get(() -> false);
+    assertTrue(circuitBreaker.isOpen());
+  }
 }
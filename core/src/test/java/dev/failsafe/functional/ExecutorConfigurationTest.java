@@ -18,14 +18,18 @@ package dev.failsafe.functional;
 import dev.failsafe.testing.Testing;
 import dev.failsafe.Failsafe;
 import dev.failsafe.RetryPolicy;
+import dev.failsafe.spi.ManualTicker;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
@@ -122,4 +126,16 @@ public class ExecutorConfigurationTest extends Testing {
     assertTrue(executorCalled.get());
     assertTrue(executionCalled.get());
   }
+
+  public void testTicker() {
+    ManualTicker ticker = new ManualTicker(1000);
+    Failsafe.with(retryPolicy).with(ticker).run(ctx -> {
+      ticker.advance(Duration.ofMillis(250));
+      assertEquals(ctx.getStartTime(), Instant.ofEpochMilli(1000));
+      assertEquals(ctx.getElapsedTime(), Duration.ofMillis(250));
+      assertEquals(ctx.getElapsedAttemptTime(), Duration.ofMillis(250));
+      assertEquals(ctx.getElapsedNanos(), Duration.ofMillis(250).toNanos());
+      assertEquals(ctx.getElapsedAttemptNanos(), Duration.ofMillis(250).toNanos());
+    });
+  }
 }
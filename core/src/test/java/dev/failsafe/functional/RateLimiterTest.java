@@ -18,13 +18,18 @@ package dev.failsafe.functional;
 import dev.failsafe.Failsafe;
 import dev.failsafe.RateLimitExceededException;
 import dev.failsafe.RateLimiter;
+import dev.failsafe.Timeout;
+import dev.failsafe.TimeoutExceededException;
 import dev.failsafe.testing.Testing;
 import org.testng.annotations.Test;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import static dev.failsafe.internal.InternalTesting.resetLimiter;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
 /**
@@ -98,4 +103,57 @@ public class RateLimiterTest extends Testing {
     }, Failsafe.with(limiter), ctx -> {
     }, RateLimitExceededException.class);
   }
+
+  /**
+   * Asserts that permits can be acquired asynchronously, and that async acquisition fails when the maxWaitTime would be
+   * exceeded.
+   */
+  public void testAcquirePermitsAsync() throws Throwable {
+    // Given
+    RateLimiter<Object> limiter = RateLimiter.smoothBuilder(Duration.ofMillis(100)).build();
+
+    // When / Then
+    assertTrue(limiter.acquirePermitAsync().isDone());
+    CompletableFuture<Void> future = limiter.acquirePermitAsync();
+    assertFalse(future.isDone());
+    long elapsed = timed(future::get);
+    assertTrue(elapsed > 0 && elapsed <= 150);
+    assertThrows(() -> limiter.acquirePermitsAsync(2, Duration.ofMillis(10)).get(), ExecutionException.class,
+      RateLimitExceededException.class);
+  }
+
+  /**
+   * Asserts that a permit reserved by an async execution is released when the execution times out while waiting.
+   */
+  public void testPermitReleasedAfterTimeout() {
+    // Given
+    RateLimiter<Object> limiter = RateLimiter.smoothBuilder(Duration.ofSeconds(1))
+      .withMaxWaitTime(Duration.ofSeconds(10))
+      .build();
+    Timeout<Object> timeout = Timeout.of(Duration.ofMillis(100));
+    limiter.tryAcquirePermit(); // limiter should now be out of permits
+
+    // When
+    assertThrows(() -> Failsafe.with(timeout, limiter).getAsync(() -> "test").get(), ExecutionException.class,
+      TimeoutExceededException.class);
+
+    // Then the timed out reservation is no longer counted
+    assertTrue(limiter.reservePermit().toMillis() < 1000);
+  }
+
+  /**
+   * Asserts that cancelling an async acquisition releases the reserved permits.
+   */
+  public void testPermitsReleasedAfterAsyncAcquireCancelled() {
+    // Given
+    RateLimiter<Object> limiter = RateLimiter.smoothBuilder(Duration.ofSeconds(1)).build();
+    limiter.tryAcquirePermit(); // limiter should now be out of permits
+    CompletableFuture<Void> future = limiter.acquirePermitsAsync(5);
+
+    // When
+    future.cancel(false);
+
+    // Then
+    assertTrue(limiter.reservePermit().toMillis() < 1000);
+  }
 }
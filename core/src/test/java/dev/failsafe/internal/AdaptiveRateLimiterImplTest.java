@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.AdaptiveRateLimiter;
+import dev.failsafe.AdaptiveRateLimiterBuilder;
+import dev.failsafe.AdaptiveRateLimiterConfig;
+import dev.failsafe.ExecutionContext;
+import dev.failsafe.Failsafe;
+import dev.failsafe.RateLimitExceededException;
+import dev.failsafe.internal.RateLimiterStatsTest.TestStopwatch;
+import dev.failsafe.testing.Testing;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.*;
+
+@Test
+public class AdaptiveRateLimiterImplTest extends Testing {
+  TestStopwatch stopwatch;
+
+  @BeforeMethod
+  protected void beforeMethod() {
+    stopwatch = new TestStopwatch();
+  }
+
+  /**
+   * Asserts that failures multiplicatively decrease the rate down to the min, and that successes additively increase it
+   * back up to the max.
+   */
+  public void testDecreaseAndIncrease() {
+    // Given 10 executions per second
+    AdaptiveRateLimiterImpl<Object> limiter = create(
+      AdaptiveRateLimiter.builder(10, Duration.ofSeconds(1)).withMinExecutions(2));
+    assertEquals(limiter.getRate(), Duration.ofMillis(100));
+
+    // When / Then
+    limiter.recordFailure();
+    assertEquals(limiter.getRate(), Duration.ofMillis(200));
+    limiter.recordFailure();
+    assertEquals(limiter.getExecutionsPerPeriod(), 2.5);
+    limiter.recordFailure();
+    assertEquals(limiter.getExecutionsPerPeriod(), 2.0);
+
+    // When / Then
+    limiter.recordSuccess();
+    assertEquals(limiter.getExecutionsPerPeriod(), 2.5);
+    limiter.recordSuccess();
+    assertEquals(limiter.getExecutionsPerPeriod(), 2.9, .001);
+
+    // When / Then
+    for (int i = 0; i < 100; i++)
+      limiter.recordSuccess();
+    assertEquals(limiter.getRate(), Duration.ofMillis(100));
+  }
+
+  /**
+   * Asserts that permits are acquired at the current rate.
+   */
+  public void testAcquirePermitsAtCurrentRate() {
+    // Given 10 executions per second
+    AdaptiveRateLimiterImpl<Object> limiter = create(AdaptiveRateLimiter.builder(10, Duration.ofSeconds(1)));
+
+    // When / Then
+    assertTrue(limiter.tryAcquirePermit());
+    assertFalse(limiter.tryAcquirePermit());
+    stopwatch.set(100);
+    assertTrue(limiter.tryAcquirePermit());
+
+    // When / Then
+    limiter.recordFailure();
+    stopwatch.set(200);
+    assertTrue(limiter.tryAcquirePermit());
+    stopwatch.set(300);
+    assertFalse(limiter.tryAcquirePermit());
+    stopwatch.set(400);
+    assertTrue(limiter.tryAcquirePermit());
+  }
+
+  /**
+   * Asserts that failures of attempts that started before the rate was last decreased do not decrease it again.
+   */
+  public void testDecreaseOncePerAttempt() {
+    // Given 10 executions per second
+    AdaptiveRateLimiterImpl<Object> limiter = create(AdaptiveRateLimiter.builder(10, Duration.ofSeconds(1)));
+
+    // When / Then
+    stopwatch.set(1000);
+    limiter.recordFailure(contextWithAttempt(Duration.ofMillis(500)));
+    assertEquals(limiter.getExecutionsPerPeriod(), 5.0);
+    limiter.recordFailure(contextWithAttempt(Duration.ofMillis(200)));
+    assertEquals(limiter.getExecutionsPerPeriod(), 5.0);
+
+    // When / Then
+    stopwatch.set(1500);
+    limiter.recordFailure(contextWithAttempt(Duration.ofMillis(100)));
+    assertEquals(limiter.getExecutionsPerPeriod(), 2.5);
+  }
+
+  /**
+   * Asserts that successes that exceed the latency threshold decrease the rate.
+   */
+  public void testLatencyThreshold() {
+    // Given
+    AdaptiveRateLimiterImpl<Object> limiter = create(
+      AdaptiveRateLimiter.builder(10, Duration.ofSeconds(1)).withLatencyThreshold(Duration.ofMillis(100)));
+    stopwatch.set(1000);
+
+    // When / Then
+    limiter.recordSuccess(contextWithAttempt(Duration.ofMillis(50)));
+    assertEquals(limiter.getExecutionsPerPeriod(), 10.0);
+    limiter.recordSuccess(contextWithAttempt(Duration.ofMillis(150)));
+    assertEquals(limiter.getExecutionsPerPeriod(), 5.0);
+  }
+
+  /**
+   * Asserts that results handled as failures via Failsafe decrease the rate, and that executions exceeding the rate are
+   * rejected.
+   */
+  public void testRateLimitedExecutions() {
+    // Given
+    AdaptiveRateLimiter<Integer> limiter = AdaptiveRateLimiter.<Integer>builder(10, Duration.ofSeconds(10))
+      .handleResult(429)
+      .build();
+
+    // When / Then
+    assertEquals(Failsafe.with(limiter).get(() -> 429), Integer.valueOf(429));
+    assertEquals(limiter.getRate(), Duration.ofSeconds(2));
+    try {
+      Failsafe.with(limiter).get(() -> 200);
+      fail("Expected RateLimitExceededException");
+    } catch (RateLimitExceededException e) {
+      assertSame(e.getPolicy(), limiter);
+      assertNull(e.getRateLimiter());
+    }
+  }
+
+  public void shouldRequireValidConfig() {
+    assertThrows(() -> AdaptiveRateLimiter.builder(0, Duration.ofSeconds(1)), IllegalArgumentException.class);
+    assertThrows(() -> AdaptiveRateLimiter.builder(1, null), NullPointerException.class);
+    assertThrows(() -> AdaptiveRateLimiter.builder(10, Duration.ofNanos(5)), IllegalArgumentException.class);
+    assertThrows(() -> AdaptiveRateLimiter.builder(10, Duration.ofSeconds(1)).withMinExecutions(11),
+      IllegalArgumentException.class);
+    assertThrows(() -> AdaptiveRateLimiter.builder(10, Duration.ofSeconds(1)).withMultiplicativeDecrease(1),
+      IllegalArgumentException.class);
+    assertThrows(() -> AdaptiveRateLimiter.builder(10, Duration.ofSeconds(1)).withAdditiveIncrease(0),
+      IllegalArgumentException.class);
+    assertThrows(() -> AdaptiveRateLimiter.builder(10, Duration.ofSeconds(1)).withLatencyThreshold(Duration.ZERO),
+      IllegalArgumentException.class);
+  }
+
+  private AdaptiveRateLimiterImpl<Object> create(AdaptiveRateLimiterBuilder<Object> builder) {
+    AdaptiveRateLimiterConfig<Object> config = builder.build().getConfig();
+    return new AdaptiveRateLimiterImpl<>(config, stopwatch);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ExecutionContext<Object> contextWithAttempt(Duration elapsedAttempt) {
+    ExecutionContext<Object> context = mock(ExecutionContext.class);
+    when(context.getElapsedAttemptNanos()).thenReturn(elapsedAttempt.toNanos());
+    return context;
+  }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.Bulkhead;
+import dev.failsafe.BulkheadFullException;
+import dev.failsafe.spi.ManualTicker;
+import dev.failsafe.spi.Scheduler;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static dev.failsafe.testing.Asserts.assertThrows;
+import static org.testng.Assert.*;
+
+@Test
+public class BulkheadImplTest {
+  static final long RTT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  /**
+   * Asserts that the limit increases, releasing permits to waiters, while latency stays near the min latency.
+   */
+  public void testAdaptiveLimitIncrease() {
+    // Given
+    BulkheadImpl<Object> bulkhead = create(1, 10, 100);
+    for (int i = 0; i < 10; i++)
+      assertTrue(bulkhead.tryAcquirePermit());
+    CompletableFuture<Void> waiter = bulkhead.acquirePermitAsync();
+
+    // When
+    bulkhead.recordExecution(RTT_NANOS, false);
+    bulkhead.recordExecution(RTT_NANOS, false);
+
+    // Then
+    assertEquals(bulkhead.getConcurrencyLimit(), 16);
+    assertTrue(waiter.isDone());
+    for (int i = 0; i < 5; i++)
+      assertTrue(bulkhead.tryAcquirePermit());
+    assertFalse(bulkhead.tryAcquirePermit());
+  }
+
+  /**
+   * Asserts that the limit decreases when latency grows, and that released permits repay revoked permits before they
+   * can be acquired again.
+   */
+  public void testAdaptiveLimitDecrease() {
+    // Given
+    BulkheadImpl<Object> bulkhead = create(1, 10, 100);
+    for (int i = 0; i < 10; i++)
+      assertTrue(bulkhead.tryAcquirePermit());
+    bulkhead.recordExecution(RTT_NANOS, false);
+
+    // When
+    bulkhead.recordExecution(RTT_NANOS * 10, false);
+
+    // Then
+    assertEquals(bulkhead.getConcurrencyLimit(), 9);
+    bulkhead.releasePermit();
+    assertFalse(bulkhead.tryAcquirePermit());
+    bulkhead.releasePermit();
+    assertTrue(bulkhead.tryAcquirePermit());
+  }
+
+  /**
+   * Asserts that dropped executions decrease the limit down to the min, and that the limit is not increased when it's
+   * not being tested.
+   */
+  public void testAdaptiveLimitWithDropsAndLowUtilization() {
+    // Given
+    BulkheadImpl<Object> bulkhead = create(2, 3, 10);
+
+    // When / Then
+    bulkhead.recordExecution(RTT_NANOS, true);
+    bulkhead.recordExecution(RTT_NANOS, true);
+    assertEquals(bulkhead.getConcurrencyLimit(), 2);
+
+    // When / Then
+    bulkhead.recordExecution(RTT_NANOS, false);
+    assertEquals(bulkhead.getConcurrencyLimit(), 2);
+  }
+
+  /**
+   * Asserts that the thread pool's core size follows the adaptive concurrency limit.
+   */
+  public void testThreadPoolFollowsAdaptiveLimit() {
+    // Given
+    BulkheadImpl<Object> bulkhead = (BulkheadImpl<Object>) Bulkhead.builder(100)
+      .withAdaptiveConcurrency(1, 10)
+      .withThreadPool("bulkhead")
+      .build();
+    ThreadPoolExecutor threadPool = (ThreadPoolExecutor) bulkhead.getThreadPool();
+    assertEquals(threadPool.getCorePoolSize(), 10);
+    assertEquals(threadPool.getMaximumPoolSize(), 100);
+    for (int i = 0; i < 10; i++)
+      assertTrue(bulkhead.tryAcquirePermit());
+
+    // When / Then
+    bulkhead.recordExecution(RTT_NANOS, false);
+    bulkhead.recordExecution(RTT_NANOS, false);
+    assertEquals(threadPool.getCorePoolSize(), 16);
+
+    // When / Then
+    bulkhead.recordExecution(RTT_NANOS * 10, false);
+    assertEquals(threadPool.getCorePoolSize(), bulkhead.getConcurrencyLimit());
+    assertTrue(bulkhead.getConcurrencyLimit() < 16);
+  }
+
+  public void testStaticLimit() {
+    // Given
+    BulkheadImpl<Object> bulkhead = (BulkheadImpl<Object>) Bulkhead.of(5);
+
+    // When
+    bulkhead.recordExecution(RTT_NANOS, false);
+    bulkhead.recordExecution(RTT_NANOS * 10, true);
+
+    // Then
+    assertEquals(bulkhead.getConcurrencyLimit(), 5);
+  }
+
+  /**
+   * Asserts that futures for immediately acquired permits are not shared, so that completing one does not affect others.
+   */
+  public void testAcquirePermitAsyncReturnsDistinctFutures() {
+    // Given
+    Bulkhead<Object> bulkhead = Bulkhead.of(2);
+    CompletableFuture<Void> future1 = bulkhead.acquirePermitAsync();
+
+    // When
+    future1.obtrudeException(new IllegalStateException());
+    CompletableFuture<Void> future2 = bulkhead.acquirePermitAsync();
+
+    // Then
+    assertNotSame(future1, future2);
+    assertFalse(future2.isCompletedExceptionally());
+    bulkhead.releasePermit();
+    assertFalse(bulkhead.acquirePermitAsync(Duration.ofMillis(10)).isCompletedExceptionally());
+  }
+
+  /**
+   * Asserts that waiters are expired according to the bulkhead's ticker.
+   */
+  public void testWaitersExpireByTicker() throws Throwable {
+    // Given
+    ManualTicker ticker = new ManualTicker();
+    BulkheadImpl<Object> bulkhead = (BulkheadImpl<Object>) Bulkhead.builder(1).withTicker(ticker).build();
+    assertTrue(bulkhead.tryAcquirePermit());
+    CompletableFuture<Void> waiter = bulkhead.tryAcquirePermitAsync(TimeUnit.MILLISECONDS.toNanos(10),
+      Scheduler.DEFAULT);
+
+    // When / Then the waiter is not expired until the ticker advances
+    Thread.sleep(50);
+    assertFalse(waiter.isDone());
+    ticker.advance(Duration.ofMillis(10));
+    assertThrows(() -> waiter.get(1, TimeUnit.SECONDS), ExecutionException.class, BulkheadFullException.class);
+  }
+
+  private static BulkheadImpl<Object> create(int minConcurrency, int initialConcurrency, int maxConcurrency) {
+    return (BulkheadImpl<Object>) Bulkhead.builder(maxConcurrency)
+      .withAdaptiveConcurrency(minConcurrency, initialConcurrency)
+      .build();
+  }
+}
@@ -20,8 +20,11 @@ import dev.failsafe.RateLimiterConfig;
 import org.testng.annotations.Test;
 
 import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
 
 @Test
 public class BurstyRateLimiterStatsTest extends RateLimiterStatsTest<BurstyRateLimiterStats> {
@@ -36,6 +39,33 @@ public class BurstyRateLimiterStatsTest extends RateLimiterStatsTest<BurstyRateL
     return new BurstyRateLimiterStats(config, stopwatch);
   }
 
+  /**
+   * Asserts that concurrent acquisitions consistently update the period and permits, and honor the max wait time.
+   */
+  public void shouldAcquirePermitsConcurrently() throws Throwable {
+    // Given 10 max permits per second
+    BurstyRateLimiterStats stats = createStats(10, Duration.ofSeconds(1));
+    AtomicInteger acquired = new AtomicInteger();
+
+    // When
+    runConcurrently(8, () -> {
+      for (int i = 0; i < 100; i++)
+        if (stats.acquirePermits(1, Duration.ofSeconds(2)) != -1)
+          acquired.incrementAndGet();
+    });
+
+    // Then permits from the current and next 2 periods are acquired
+    assertEquals(acquired.get(), 30);
+    assertEquals(stats.getAvailablePermits(), -20);
+
+    // When
+    stats.reset();
+
+    // Then
+    assertEquals(stats.getAvailablePermits(), 10);
+    assertEquals(stats.getCurrentPeriod(), 0);
+  }
+
   /**
    * Asserts that wait times and available permits are expected, over time, when calling acquirePermits.
    */
@@ -87,6 +117,78 @@ public class BurstyRateLimiterStatsTest extends RateLimiterStatsTest<BurstyRateL
     assertEquals(stats.getCurrentPeriod(), 2);
   }
 
+  /**
+   * Asserts that released permits are made available again, up to the max permits per period.
+   */
+  public void testReleasePermits() {
+    // Given 2 max permits per second
+    BurstyRateLimiterStats stats = createStats(2, Duration.ofSeconds(1));
+    assertEquals(acquire(stats, 6), 2000);
+    assertEquals(stats.getAvailablePermits(), -4);
+
+    // When / Then
+    stats.releasePermits(3);
+    assertEquals(stats.getAvailablePermits(), -1);
+    assertEquals(acquire(stats, 1), 1000);
+
+    // When / Then
+    stopwatch.set(1500);
+    stats.releasePermits(10);
+    assertEquals(stats.getAvailablePermits(), 2);
+    assertEquals(stats.getCurrentPeriod(), 1);
+  }
+
+  /**
+   * Asserts that elapsed periods are counted across a wrap of the packed period.
+   */
+  public void testPeriodWrap() {
+    // Given 2 max permits per second
+    BurstyRateLimiterStats stats = createStats(2, Duration.ofSeconds(1));
+    long wrapMillis = (1L << 32) * 1000;
+    stopwatch.set(wrapMillis / 2);
+    assertEquals(acquire(stats, 2), 0);
+    stopwatch.set(wrapMillis - 1000);
+    assertEquals(acquire(stats, 3), 1000);
+    assertEquals(stats.getAvailablePermits(), -1);
+
+    // When / Then
+    stopwatch.set(wrapMillis + 1000);
+    assertEquals(acquire(stats, 1), 0);
+    assertEquals(stats.getAvailablePermits(), 2);
+    assertEquals(stats.getCurrentPeriod(), 1);
+  }
+
+  /**
+   * Asserts that acquisitions that would take the deficit below the packed range are rejected.
+   */
+  public void testDeficitLimit() {
+    // Given 1 max permit per second
+    BurstyRateLimiterStats stats = createStats(1, Duration.ofSeconds(1));
+    assertTrue(stats.acquirePermits(1L + Integer.MAX_VALUE, null) > 0);
+    assertEquals(stats.getAvailablePermits(), Integer.MIN_VALUE + 1);
+
+    // When / Then
+    assertEquals(stats.acquirePermits(2, null), -1);
+    assertEquals(stats.getAvailablePermits(), Integer.MIN_VALUE + 1);
+  }
+
+  /**
+   * Asserts that stats are full once all permits per period are available again.
+   */
+  public void testIsFull() {
+    // Given 2 max permits per second
+    BurstyRateLimiterStats stats = createStats(2, Duration.ofSeconds(1));
+    assertTrue(stats.isFull());
+    assertEquals(acquire(stats, 1), 0);
+    assertFalse(stats.isFull());
+
+    // When / Then
+    stopwatch.set(5000);
+    assertTrue(stats.isFull());
+    assertEquals(acquire(stats, 3), 1000);
+    assertFalse(stats.isFull());
+  }
+
   @Override
   void printInfo(BurstyRateLimiterStats stats, long waitMillis) {
     System.out.printf("[%s] elapsedMillis: %5s, availablePermits: %2s, currentPeriod: %s, waitMillis: %s%n",
@@ -17,6 +17,9 @@ package dev.failsafe.internal;
 
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.function.Predicate;
 
 @Test
@@ -40,4 +43,29 @@ public abstract class CircuitStatsTest {
         stats.recordFailure();
     }
   }
+
+  /**
+   * Records {@code executionsPerThread} alternating successes and failures against the {@code stats} from each of
+   * {@code threadCount} threads, all of which start at the same time.
+   */
+  protected static <T extends CircuitStats> void recordConcurrently(T stats, int threadCount,
+    int executionsPerThread) throws InterruptedException {
+    CountDownLatch startLatch = new CountDownLatch(1);
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < threadCount; i++) {
+      Thread thread = new Thread(() -> {
+        try {
+          startLatch.await();
+        } catch (InterruptedException ignore) {
+        }
+        recordExecutions(stats, executionsPerThread, j -> j % 2 == 0);
+      });
+      thread.start();
+      threads.add(thread);
+    }
+
+    startLatch.countDown();
+    for (Thread thread : threads)
+      thread.join();
+  }
 }
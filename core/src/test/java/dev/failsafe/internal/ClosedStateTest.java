@@ -16,8 +16,13 @@
 package dev.failsafe.internal;
 
 import dev.failsafe.CircuitBreaker;
+import dev.failsafe.spi.ManualTicker;
 import org.testng.annotations.Test;
 
+import java.time.Duration;
+
+import static dev.failsafe.internal.InternalTesting.stateFor;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
@@ -177,4 +182,107 @@ public class ClosedStateTest {
   //    // Then
   //    assertTrue(breaker.isOpen());
   //  }
+
+  /**
+   * Asserts that the circuit is opened when a fractional failure rate threshold is met, using exact counts.
+   */
+  public void testFailureWithFractionalFailureRateThreshold() {
+    // Given
+    CircuitBreakerImpl<Object> breaker = (CircuitBreakerImpl<Object>) CircuitBreaker.builder()
+      .withFailureRateThreshold(0.4, 1000, Duration.ofMinutes(1))
+      .build();
+    ClosedState<Object> state = stateFor(breaker);
+
+    // When
+    for (int i = 0; i < 996; i++)
+      state.recordSuccess();
+    for (int i = 0; i < 3; i++)
+      state.recordFailure(null);
+
+    // Then
+    assertTrue(breaker.isClosed());
+
+    // When
+    state.recordFailure(null);
+
+    // Then
+    assertTrue(breaker.isOpen());
+  }
+
+  /**
+   * Asserts that the circuit is not opened when the failure rate is just under a fractional threshold.
+   */
+  public void testSuccessWithFractionalFailureRateThreshold() {
+    // Given
+    CircuitBreakerImpl<Object> breaker = (CircuitBreakerImpl<Object>) CircuitBreaker.builder()
+      .withFailureRateThreshold(0.45, 1000, Duration.ofMinutes(1))
+      .build();
+    ClosedState<Object> state = stateFor(breaker);
+
+    // When
+    for (int i = 0; i < 4; i++)
+      state.recordFailure(null);
+    for (int i = 0; i < 996; i++)
+      state.recordSuccess();
+
+    // Then
+    assertTrue(breaker.isClosed());
+    assertEquals(breaker.getConfig().getFailureRateThresholdPercentage(), 0.45);
+  }
+
+  /**
+   * Asserts that the percentage of permitted executions ramps up after the circuit closes from half-open.
+   */
+  public void testRampUpAfterHalfOpen() {
+    // Given
+    ManualTicker ticker = new ManualTicker();
+    CircuitBreakerImpl<Object> breaker = (CircuitBreakerImpl<Object>) CircuitBreaker.builder()
+      .withRampUp(10, Duration.ofSeconds(10))
+      .withTicker(ticker)
+      .build();
+    breaker.halfOpen();
+    breaker.recordSuccess();
+    ClosedState<Object> state = stateFor(breaker);
+    assertTrue(breaker.isClosed());
+    assertTrue(state.isRampingUp());
+
+    // When / Then
+    assertPermittedPercentage(state, 10);
+    ticker.advance(Duration.ofSeconds(5));
+    assertPermittedPercentage(state, 55);
+    ticker.advance(Duration.ofSeconds(5));
+    assertFalse(state.isRampingUp());
+    assertPermittedPercentage(state, 100);
+  }
+
+  /**
+   * Asserts that the circuit does not ramp up when closed manually, and re-opens when failures exceed the threshold
+   * while ramping up.
+   */
+  public void testRampUpOnlyAfterHalfOpen() {
+    // Given
+    CircuitBreakerImpl<Object> breaker = (CircuitBreakerImpl<Object>) CircuitBreaker.builder()
+      .withRampUp(10, Duration.ofMinutes(1))
+      .build();
+    breaker.open();
+    breaker.close();
+    assertFalse(InternalTesting.<ClosedState<Object>>stateFor(breaker).isRampingUp());
+
+    // When
+    breaker.halfOpen();
+    breaker.recordSuccess();
+    assertTrue(InternalTesting.<ClosedState<Object>>stateFor(breaker).isRampingUp());
+    breaker.recordFailure();
+
+    // Then
+    assertTrue(breaker.isOpen());
+  }
+
+  private static void assertPermittedPercentage(ClosedState<Object> state, int expectedPercentage) {
+    int permitted = 0;
+    for (int i = 0; i < 10000; i++)
+      if (state.tryAcquirePermit())
+        permitted++;
+    assertEquals(permitted / 100.0, expectedPercentage, 3);
+  }
 }
@@ -7,6 +7,7 @@ import java.time.Duration;
 import java.util.Arrays;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
 @Test
@@ -46,20 +47,44 @@ public class CountingCircuitStatsTest extends CircuitStatsTest {
     assertEquals(stats.getExecutionCount(), 100);
   }
 
+  public void testSlowCount() {
+    stats = new CountingCircuitStats(70, null);
+    for (int i = 0; i < 70; i++)
+      stats.setNext(i % 2 == 0, i % 7 == 0);
+    assertEquals(stats.getSlowCount(), 10);
+    assertTrue(stats.isSlow(63));
+    assertFalse(stats.isSlow(64));
+
+    // Overwrite the oldest slow entry with a fast entry and a fast entry with a slow entry
+    stats.recordSuccess(false);
+    stats.recordFailure(true);
+    assertEquals(stats.getSlowCount(), 10);
+    assertFalse(stats.isSlow(0));
+    assertTrue(stats.isSlow(1));
+
+    // Copy the slow entries along with their results
+    CountingCircuitStats right = new CountingCircuitStats(70, stats);
+    assertEquals(right.getSlowCount(), 10);
+    assertEquals(right.getFailureCount(), stats.getFailureCount());
+
+    stats.reset();
+    assertEquals(stats.getSlowCount(), 0);
+  }
+
   public void testCopyToEqualSizedStats() {
     stats = new CountingCircuitStats(5, null);
     recordSuccesses(stats, 2);
     recordFailures(stats, 3);
 
-    stats.currentIndex = 0;
+    stats.currentIndex.set(0);
     CountingCircuitStats right = new CountingCircuitStats(5, stats);
     assertValues(right, true, true, false, false, false);
 
-    stats.currentIndex = 2;
+    stats.currentIndex.set(2);
     right = new CountingCircuitStats(5, stats);
     assertValues(right, false, false, false, true, true);
 
-    stats.currentIndex = 4;
+    stats.currentIndex.set(4);
     right = new CountingCircuitStats(5, stats);
     assertValues(right, false, true, true, false, false);
   }
@@ -69,15 +94,15 @@ public class CountingCircuitStatsTest extends CircuitStatsTest {
     recordSuccesses(stats, 5);
     recordFailures(stats, 5);
 
-    stats.currentIndex = 0;
+    stats.currentIndex.set(0);
     CountingCircuitStats right = new CountingCircuitStats(4, stats);
     assertValues(right, false, false, false, false);
 
-    stats.currentIndex = 2;
+    stats.currentIndex.set(2);
     right = new CountingCircuitStats(4, stats);
     assertValues(right, false, false, true, true);
 
-    stats.currentIndex = 7;
+    stats.currentIndex.set(7);
     right = new CountingCircuitStats(4, stats);
     assertValues(right, true, true, false, false);
   }
@@ -87,15 +112,15 @@ public class CountingCircuitStatsTest extends CircuitStatsTest {
     recordSuccesses(stats, 2);
     recordFailures(stats, 3);
 
-    stats.currentIndex = 0;
+    stats.currentIndex.set(0);
     CountingCircuitStats right = new CountingCircuitStats(6, stats);
     assertValues(right, true, true, false, false, false);
 
-    stats.currentIndex = 2;
+    stats.currentIndex.set(2);
     right = new CountingCircuitStats(6, stats);
     assertValues(right, false, false, false, true, true);
 
-    stats.currentIndex = 4;
+    stats.currentIndex.set(4);
     right = new CountingCircuitStats(6, stats);
     assertValues(right, false, true, true, false, false);
   }
@@ -111,10 +136,17 @@ public class CountingCircuitStatsTest extends CircuitStatsTest {
     assertValues(stats, true, true, true, false, false, false, false, false);
   }
 
+  public void shouldRecordConcurrently() throws Throwable {
+    stats = new CountingCircuitStats(100, null);
+    recordConcurrently(stats, 8, 10000);
+    assertEquals(stats.getExecutionCount(), 100);
+    assertEquals(stats.getSuccessCount() + stats.getFailureCount(), 100);
+  }
+
   private static boolean[] valuesFor(CountingCircuitStats stats) {
     boolean[] values = new boolean[stats.getExecutionCount()];
     for (int i = 0; i < values.length; i++)
-      values[i] = stats.bitSet.get(i);
+      values[i] = stats.get(i) == 1;
     return values;
   }
 
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.spi.ManualTicker;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+
+import static org.testng.Assert.assertEquals;
+
+@Test
+public class DecayingCircuitStatsTest extends CircuitStatsTest {
+  ManualTicker ticker;
+  DecayingCircuitStats stats;
+
+  @BeforeMethod
+  protected void beforeMethod() {
+    ticker = new ManualTicker();
+    stats = new DecayingCircuitStats(Duration.ofSeconds(10), ticker, null);
+  }
+
+  public void testMetrics() {
+    assertEquals(stats.getExecutionCount(), 0);
+    assertEquals(stats.getFailureRate(), 0);
+
+    recordSuccesses(stats, 8);
+    recordFailures(stats, 8);
+    assertEquals(stats.getSuccessCount(), 8);
+    assertEquals(stats.getFailureCount(), 8);
+    assertEquals(stats.getFailureRate(), 50);
+
+    // Decay by one half-life
+    ticker.advance(Duration.ofSeconds(10));
+    assertEquals(stats.getSuccessCount(), 4);
+    assertEquals(stats.getFailureCount(), 4);
+    assertEquals(stats.getFailureRate(), 50);
+
+    recordFailures(stats, 4);
+    assertEquals(stats.getFailureCount(), 8);
+    assertEquals(stats.getExecutionCount(), 12);
+    assertEquals(stats.getFailureRate(), 67);
+    assertEquals(stats.getSuccessRate(), 33);
+
+    // Decay smoothly by half a half-life
+    ticker.advance(Duration.ofSeconds(5));
+    assertEquals(stats.getFailureCount(), 6);
+  }
+
+  public void testSlowCount() {
+    stats.recordSuccess(true);
+    stats.recordFailure(true);
+    stats.recordSuccess(false);
+    stats.recordFailure(true);
+    assertEquals(stats.getSlowCount(), 3);
+
+    ticker.advance(Duration.ofSeconds(10));
+    stats.recordSuccess(true);
+    assertEquals(stats.getSlowCount(), 3);
+  }
+
+  public void shouldRebaseEpoch() {
+    recordFailures(stats, 10);
+    DecayingCircuitStats.Epoch epoch = stats.epoch.get();
+
+    // Record beyond the rebase threshold
+    ticker.advance(Duration.ofSeconds(10 * DecayingCircuitStats.REBASE_HALF_LIVES + 15));
+    recordSuccesses(stats, 10);
+    assertEquals(stats.epoch.get().originNanos,
+      epoch.originNanos + Duration.ofSeconds(10 * DecayingCircuitStats.REBASE_HALF_LIVES + 10).toNanos());
+    assertEquals(stats.getSuccessCount(), 10);
+    assertEquals(stats.getFailureCount(), 0);
+
+    // Decay continues across the rebase
+    ticker.advance(Duration.ofSeconds(10));
+    assertEquals(stats.getSuccessCount(), 5);
+  }
+
+  public void testCopyStats() {
+    recordSuccesses(stats, 4);
+    recordFailures(stats, 8);
+    ticker.advance(Duration.ofSeconds(10));
+
+    DecayingCircuitStats right = new DecayingCircuitStats(Duration.ofSeconds(10), ticker, stats);
+    assertEquals(right.getSuccessCount(), 2);
+    assertEquals(right.getFailureCount(), 4);
+
+    CountingCircuitStats counting = new CountingCircuitStats(10, null);
+    recordSuccesses(counting, 3);
+    recordFailures(counting, 5);
+    right = new DecayingCircuitStats(Duration.ofSeconds(10), ticker, counting);
+    assertEquals(right.getSuccessCount(), 3);
+    assertEquals(right.getFailureCount(), 5);
+  }
+
+  public void testReset() {
+    recordSuccesses(stats, 4);
+    stats.reset();
+    assertEquals(stats.getExecutionCount(), 0);
+    assertEquals(stats.getSuccessRate(), 0);
+  }
+
+  public void shouldRecordConcurrently() throws Throwable {
+    recordConcurrently(stats, 8, 10000);
+    assertEquals(stats.getExecutionCount(), 80000);
+    assertEquals(stats.getSuccessCount(), 40000);
+    assertEquals(stats.getFailureCount(), 40000);
+  }
+}
@@ -19,6 +19,8 @@ import dev.failsafe.CircuitBreaker;
 import dev.failsafe.testing.Testing;
 import org.testng.annotations.Test;
 
+import java.time.Duration;
+
 import static dev.failsafe.internal.InternalTesting.stateFor;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
@@ -84,6 +86,46 @@ public class HalfOpenStateTest {
     assertTrue(breaker.isOpen());
   }
 
+  /**
+   * Asserts that the circuit is opened after a fractional failure rate threshold is met.
+   */
+  public void testFailureWithFractionalFailureRateThreshold() {
+    // Given
+    CircuitBreaker<Object> breaker = CircuitBreaker.builder()
+      .withFailureRateThreshold(2.5, 40, Duration.ofMinutes(1))
+      .build();
+    breaker.halfOpen();
+    HalfOpenState<Object> state = stateFor(breaker);
+
+    // When
+    for (int i = 0; i < 39; i++)
+      state.recordSuccess();
+    assertTrue(breaker.isHalfOpen());
+    state.recordFailure(null);
+
+    // Then
+    assertTrue(breaker.isOpen());
+  }
+
+  /**
+   * Asserts that the circuit is closed when the failure rate is under a fractional failure rate threshold.
+   */
+  public void testSuccessWithFractionalFailureRateThreshold() {
+    // Given
+    CircuitBreaker<Object> breaker = CircuitBreaker.builder()
+      .withFailureRateThreshold(2.5, 40, Duration.ofMinutes(1))
+      .build();
+    breaker.halfOpen();
+    HalfOpenState<Object> state = stateFor(breaker);
+
+    // When
+    for (int i = 0; i < 40; i++)
+      state.recordSuccess();
+
+    // Then
+    assertTrue(breaker.isClosed());
+  }
+
   /**
    * Asserts that the circuit is opened after a single failure. The failure threshold is ignored.
    */
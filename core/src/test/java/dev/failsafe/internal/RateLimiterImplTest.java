@@ -18,13 +18,25 @@ package dev.failsafe.internal;
 import dev.failsafe.RateLimitExceededException;
 import dev.failsafe.RateLimiter;
 import dev.failsafe.internal.RateLimiterStatsTest.TestStopwatch;
+import dev.failsafe.spi.DefaultScheduledFuture;
+import dev.failsafe.spi.ExecutionResult;
+import dev.failsafe.spi.FailsafeFuture;
+import dev.failsafe.spi.Scheduler;
 import dev.failsafe.testing.Testing;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
 @Test
@@ -132,4 +144,142 @@ public class RateLimiterImplTest extends Testing {
     elapsed = timed(() -> assertTrue(limiter.tryAcquirePermits(2, Duration.ofMillis(300))));
     assertTrue(elapsed >= 50 && elapsed < 150);
   }
+
+  /**
+   * Asserts that permits are only acquired when both a rate limiter and its parent can provide them.
+   */
+  public void testAcquirePermitsWithParent() {
+    // Given 3 global permits per second shared by child limiters with 2 permits per second
+    RateLimiterImpl<Object> parent = new RateLimiterImpl<>(
+      RateLimiter.burstyBuilder(3, Duration.ofSeconds(1)).build().getConfig(), stopwatch);
+    RateLimiterImpl<Object> child1 = new RateLimiterImpl<>(
+      RateLimiter.burstyBuilder(2, Duration.ofSeconds(1)).withParent(parent).build().getConfig(), stopwatch);
+    RateLimiterImpl<Object> child2 = new RateLimiterImpl<>(
+      RateLimiter.burstyBuilder(2, Duration.ofSeconds(1)).withParent(parent).build().getConfig(), stopwatch);
+    RateLimiterImpl<Object> child3 = new RateLimiterImpl<>(
+      RateLimiter.burstyBuilder(2, Duration.ofSeconds(1)).withParent(parent).build().getConfig(), stopwatch);
+
+    // When / Then the child rejects without consuming parent permits
+    assertTrue(child1.tryAcquirePermit());
+    assertTrue(child1.tryAcquirePermit());
+    assertFalse(child1.tryAcquirePermit());
+    assertTrue(child2.tryAcquirePermit());
+
+    // When / Then the parent rejects and the child's permits are released
+    assertTrue(child3.isFull());
+    assertFalse(child3.tryAcquirePermit());
+    assertTrue(child3.isFull());
+    assertFalse(parent.tryAcquirePermit());
+  }
+
+  /**
+   * Asserts that the wait time for permits from a rate limiter with a parent is the longer of the two.
+   */
+  public void testReservePermitsWithParent() {
+    // Given
+    RateLimiterImpl<Object> parent = new RateLimiterImpl<>(
+      RateLimiter.smoothBuilder(Duration.ofMillis(100)).build().getConfig(), stopwatch);
+    RateLimiterImpl<Object> child = new RateLimiterImpl<>(
+      RateLimiter.smoothBuilder(Duration.ofMillis(300)).withParent(parent).build().getConfig(), stopwatch);
+
+    // When / Then
+    assertEquals(child.tryReservePermit(Duration.ofSeconds(1)), Duration.ZERO);
+    assertEquals(parent.reservePermit(), Duration.ofMillis(100));
+    assertEquals(child.tryReservePermit(Duration.ofSeconds(1)), Duration.ofMillis(300));
+    assertEquals(child.tryReservePermit(Duration.ofMillis(350)), Duration.ofNanos(-1));
+    assertEquals(parent.reservePermit(), Duration.ofMillis(300));
+  }
+
+  /**
+   * Asserts that threads lease batches of permits that can be acquired within the lease duration.
+   */
+  public void testAcquirePermitsWithLeasing() {
+    // Given
+    RateLimiterImpl<Object> limiter = new RateLimiterImpl<>(RateLimiter.smoothBuilder(Duration.ofMillis(10))
+      .withPermitLeasing(4, Duration.ofMillis(100))
+      .build()
+      .getConfig(), stopwatch);
+
+    // When / Then 2 batches are leased
+    for (int i = 0; i < 8; i++)
+      assertTrue(limiter.tryAcquirePermit());
+    assertFalse(limiter.tryAcquirePermit());
+
+    // When / Then a new batch is leased
+    stopwatch.set(200);
+    assertTrue(limiter.tryAcquirePermit());
+  }
+
+  /**
+   * Asserts that unused permits are released when a lease expires.
+   */
+  public void testReleasePermitsAfterLeaseExpires() {
+    // Given
+    RateLimiterImpl<Object> limiter = new RateLimiterImpl<>(RateLimiter.burstyBuilder(10, Duration.ofSeconds(1))
+      .withPermitLeasing(4, Duration.ofMillis(100))
+      .build()
+      .getConfig(), stopwatch);
+    assertTrue(limiter.tryAcquirePermit());
+
+    // When
+    stopwatch.set(150);
+    assertTrue(limiter.tryAcquirePermit());
+
+    // Then the 3 unused permits were released before leasing 4 more
+    assertTrue(limiter.tryAcquirePermits(5));
+    assertFalse(limiter.tryAcquirePermits(5));
+  }
+
+  /**
+   * Asserts that unused permits from an expired lease are reclaimed by other threads when the owning thread stops
+   * acquiring permits.
+   */
+  public void testReclaimPermitsFromExpiredLeasesOfOtherThreads() throws Throwable {
+    // Given
+    RateLimiterImpl<Object> limiter = new RateLimiterImpl<>(RateLimiter.burstyBuilder(10, Duration.ofSeconds(1))
+      .withPermitLeasing(4, Duration.ofMillis(100))
+      .build()
+      .getConfig(), stopwatch);
+    Thread thread = new Thread(() -> assertTrue(limiter.tryAcquirePermit()));
+    thread.start();
+    thread.join();
+
+    // When
+    stopwatch.set(150);
+
+    // Then the other thread's 3 unused permits were reclaimed
+    assertTrue(limiter.tryAcquirePermits(9));
+    assertFalse(limiter.tryAcquirePermit());
+  }
+
+  /**
+   * Asserts that async pre-execution only schedules a permit wait when a wait is actually needed.
+   */
+  @SuppressWarnings("unchecked")
+  public void testPreExecuteAsyncOnlySchedulesWhenWaiting() {
+    // Given
+    RateLimiterImpl<Object> limiter = new RateLimiterImpl<>(
+      RateLimiter.smoothBuilder(Duration.ofMillis(100)).withMaxWaitTime(Duration.ofSeconds(1)).build().getConfig(),
+      stopwatch);
+    RateLimiterExecutor<Object> executor = new RateLimiterExecutor<>(limiter, 0);
+    Scheduler scheduler = mock(Scheduler.class);
+    when(scheduler.schedule(any(Callable.class), anyLong(), any(TimeUnit.class))).thenReturn(
+      new DefaultScheduledFuture<>());
+    FailsafeFuture<Object> future = mock(FailsafeFuture.class);
+
+    // When
+    CompletableFuture<ExecutionResult<Object>> result = executor.preExecuteAsync(scheduler, future);
+
+    // Then
+    assertNull(result);
+    verifyNoInteractions(scheduler, future);
+
+    // When
+    result = executor.preExecuteAsync(scheduler, future);
+
+    // Then
+    assertFalse(result.isDone());
+    verify(scheduler).schedule(any(Callable.class), eq(TimeUnit.MILLISECONDS.toNanos(100)), eq(TimeUnit.NANOSECONDS));
+    verify(future).setCancelFn(eq(executor), any());
+  }
 }
@@ -16,10 +16,14 @@
 package dev.failsafe.internal;
 
 import dev.failsafe.internal.RateLimiterStats.Stopwatch;
+import dev.failsafe.spi.Ticker;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 import static org.testng.Assert.assertEquals;
@@ -31,6 +35,10 @@ public abstract class RateLimiterStatsTest<T extends RateLimiterStats> {
   public static class TestStopwatch extends Stopwatch {
     long currentTimeMillis;
 
+    TestStopwatch() {
+      super(Ticker.SYSTEM);
+    }
+
     void set(long currentTimeMillis) {
       this.currentTimeMillis = currentTimeMillis;
     }
@@ -111,6 +119,30 @@ public abstract class RateLimiterStatsTest<T extends RateLimiterStats> {
 
   abstract void printInfo(T stats, long waitMillis);
 
+  /**
+   * Runs the {@code runnable} from each of {@code threadCount} threads, all of which start at the same time, and waits
+   * for them to complete.
+   */
+  static void runConcurrently(int threadCount, Runnable runnable) throws InterruptedException {
+    CountDownLatch startLatch = new CountDownLatch(1);
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < threadCount; i++) {
+      Thread thread = new Thread(() -> {
+        try {
+          startLatch.await();
+        } catch (InterruptedException ignore) {
+        }
+        runnable.run();
+      });
+      thread.start();
+      threads.add(thread);
+    }
+
+    startLatch.countDown();
+    for (Thread thread : threads)
+      thread.join();
+  }
+
   static long toMillis(long nanos) {
     return TimeUnit.NANOSECONDS.toMillis(nanos);
   }
@@ -20,8 +20,11 @@ import dev.failsafe.RateLimiterConfig;
 import org.testng.annotations.Test;
 
 import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
 
 @Test
 public class SmoothRateLimiterStatsTest extends RateLimiterStatsTest<SmoothRateLimiterStats> {
@@ -102,6 +105,64 @@ public class SmoothRateLimiterStatsTest extends RateLimiterStatsTest<SmoothRateL
     assertEquals(toMillis(stats.acquirePermits(2, null)), 50);
   }
 
+  /**
+   * Asserts that concurrent acquisitions reserve distinct permits and honor the max wait time.
+   */
+  public void shouldAcquirePermitsConcurrently() throws Throwable {
+    // Given 1 permit every 500 millis
+    SmoothRateLimiterStats stats = createStats(Duration.ofMillis(500));
+    AtomicInteger acquired = new AtomicInteger();
+
+    // When
+    runConcurrently(8, () -> {
+      for (int i = 0; i < 100; i++)
+        if (stats.acquirePermits(1, Duration.ofSeconds(5)) != -1)
+          acquired.incrementAndGet();
+    });
+
+    // Then permits with waits of 0 through 5000 millis are acquired
+    assertEquals(acquired.get(), 11);
+    assertEquals(toMillis(stats.getNextFreePermitNanos()), 5500);
+  }
+
+  /**
+   * Asserts that released permits give their reserved time back, but not time before the current interval.
+   */
+  public void testReleasePermits() {
+    // Given 1 permit every 100 millis
+    SmoothRateLimiterStats stats = createStats(Duration.ofMillis(100));
+    assertEquals(toMillis(stats.acquirePermits(5, null)), 400);
+
+    // When / Then
+    stats.releasePermits(2);
+    assertEquals(toMillis(stats.getNextFreePermitNanos()), 300);
+    assertEquals(toMillis(stats.acquirePermits(1, null)), 300);
+
+    // When / Then
+    stopwatch.set(250);
+    stats.releasePermits(10);
+    assertEquals(toMillis(stats.getNextFreePermitNanos()), 200);
+    assertEquals(toMillis(stats.acquirePermits(1, null)), 0);
+    assertEquals(toMillis(stats.acquirePermits(1, null)), 50);
+  }
+
+  /**
+   * Asserts that stats are full once no permits are reserved beyond the current time.
+   */
+  public void testIsFull() {
+    // Given 1 permit every 100 millis
+    SmoothRateLimiterStats stats = createStats(Duration.ofMillis(100));
+    assertTrue(stats.isFull());
+
+    // When / Then
+    stats.acquirePermits(2, null);
+    assertFalse(stats.isFull());
+    stopwatch.set(150);
+    assertFalse(stats.isFull());
+    stopwatch.set(200);
+    assertTrue(stats.isFull());
+  }
+
   private static void assertResults(SmoothRateLimiterStats stats, long waitMillis, long expectedWaitMillis,
     long expectedNextFreePermitMillis) {
     assertEquals(waitMillis, expectedWaitMillis);
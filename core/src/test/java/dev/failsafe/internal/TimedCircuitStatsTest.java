@@ -16,12 +16,13 @@
 package dev.failsafe.internal;
 
 import dev.failsafe.internal.TimedCircuitStats.Bucket;
-import dev.failsafe.internal.TimedCircuitStats.Clock;
+import dev.failsafe.spi.ManualTicker;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
@@ -31,21 +32,9 @@ public class TimedCircuitStatsTest extends CircuitStatsTest {
   TimedCircuitStats stats;
   private TestClock clock;
 
-  static class TestClock extends Clock {
-    long currentTimeMillis;
-
+  static class TestClock extends ManualTicker {
     void set(long currentTimeMillis) {
-      this.currentTimeMillis = currentTimeMillis;
-    }
-
-    @Override
-    long currentTimeMillis() {
-      return currentTimeMillis;
-    }
-
-    @Override
-    public String toString() {
-      return "TestClock[currentTimeMillis=" + currentTimeMillis + ']';
+      advance(currentTimeMillis - currentTimeMillis(), TimeUnit.MILLISECONDS);
     }
   }
 
@@ -63,7 +52,7 @@ public class TimedCircuitStatsTest extends CircuitStatsTest {
 
     // Record into bucket 1
     recordExecutions(stats, 50, i -> i % 5 == 0); // currentTime = 0
-    assertEquals(stats.currentIndex, 0);
+    assertEquals(stats.getCurrentBucket(), stats.buckets.get(0));
     assertEquals(stats.getCurrentBucket().startTimeMillis, 0);
     assertEquals(stats.getSuccessCount(), 10);
     assertEquals(stats.getSuccessRate(), 20);
@@ -74,7 +63,7 @@ public class TimedCircuitStatsTest extends CircuitStatsTest {
     // Record into bucket 2
     clock.set(1000);
     recordSuccesses(stats, 10);
-    assertEquals(stats.currentIndex, 1);
+    assertEquals(stats.getCurrentBucket(), stats.buckets.get(1));
     assertEquals(stats.getCurrentBucket().startTimeMillis, 1000);
     assertEquals(stats.getSuccessCount(), 20);
     assertEquals(stats.getSuccessRate(), 33);
@@ -85,7 +74,7 @@ public class TimedCircuitStatsTest extends CircuitStatsTest {
     // Record into bucket 3
     clock.set(2500);
     recordFailures(stats, 20);
-    assertEquals(stats.currentIndex, 2);
+    assertEquals(stats.getCurrentBucket(), stats.buckets.get(2));
     assertEquals(stats.getCurrentBucket().startTimeMillis, 2000);
     assertEquals(stats.getSuccessCount(), 20);
     assertEquals(stats.getSuccessRate(), 25);
@@ -96,7 +85,7 @@ public class TimedCircuitStatsTest extends CircuitStatsTest {
     // Record into bucket 4
     clock.set(3100);
     recordExecutions(stats, 25, i -> i % 5 == 0);
-    assertEquals(stats.currentIndex, 3);
+    assertEquals(stats.getCurrentBucket(), stats.buckets.get(3));
     assertEquals(stats.getCurrentBucket().startTimeMillis, 3000);
     assertEquals(stats.getSuccessCount(), 25);
     assertEquals(stats.getSuccessRate(), 24);
@@ -107,12 +96,9 @@ public class TimedCircuitStatsTest extends CircuitStatsTest {
     // Record into bucket 2, skipping bucket 1
     clock.set(5400);
     recordSuccesses(stats, 8);
-    assertEquals(stats.currentIndex, 1);
-    // Assert bucket 1 was skipped and reset based on its previous start time
-    Bucket bucket1 = stats.buckets[0];
-    assertEquals(bucket1.startTimeMillis, 4000);
-    assertEquals(bucket1.successes, 0);
-    assertEquals(bucket1.failures, 0);
+    assertEquals(stats.getCurrentBucket(), stats.buckets.get(1));
+    // Assert bucket 1 was skipped and no longer counts towards the summary
+    assertValues(stats, b(0, 10, 40), b(5000, 8, 0), b(2000, 0, 20), b(3000, 5, 20));
     assertEquals(stats.getCurrentBucket().startTimeMillis, 5000);
     assertEquals(stats.getSuccessCount(), 13);
     assertEquals(stats.getSuccessRate(), 25);
@@ -123,12 +109,9 @@ public class TimedCircuitStatsTest extends CircuitStatsTest {
     // Record into bucket 4, skipping bucket 3
     clock.set(7300);
     recordFailures(stats, 5);
-    assertEquals(stats.currentIndex, 3);
-    // Assert bucket 3 was skipped and reset based on its previous start time
-    Bucket bucket3 = stats.buckets[2];
-    assertEquals(bucket3.startTimeMillis, 6000);
-    assertEquals(bucket3.successes, 0);
-    assertEquals(bucket3.failures, 0);
+    assertEquals(stats.getCurrentBucket(), stats.buckets.get(3));
+    // Assert bucket 3 was skipped and no longer counts towards the summary
+    assertValues(stats, b(0, 10, 40), b(5000, 8, 0), b(2000, 0, 20), b(7000, 0, 5));
     assertEquals(stats.getCurrentBucket().startTimeMillis, 7000);
     assertEquals(stats.getSuccessCount(), 8);
     assertEquals(stats.getSuccessRate(), 62);
@@ -136,59 +119,89 @@ public class TimedCircuitStatsTest extends CircuitStatsTest {
     assertEquals(stats.getFailureRate(), 38);
     assertEquals(stats.getExecutionCount(), 13);
 
-    // Skip all buckets, starting at 1 again
-    int startTime = 22500;
-    clock.set(startTime);
+    // Skip all buckets
+    clock.set(22500);
     stats.getCurrentBucket();
-    assertEquals(stats.currentIndex, 0);
-    for (Bucket bucket : stats.buckets) {
-      assertEquals(bucket.startTimeMillis, startTime);
-      assertEquals(bucket.successes, 0);
-      assertEquals(bucket.failures, 0);
-      startTime += 1000;
-    }
+    assertEquals(stats.getCurrentBucket(), stats.buckets.get(2));
+    assertEquals(stats.getCurrentBucket().startTimeMillis, 22000);
     assertEquals(stats.getSuccessRate(), 0);
     assertEquals(stats.getFailureRate(), 0);
     assertEquals(stats.getExecutionCount(), 0);
   }
 
+  public void testReset() {
+    stats = new TimedCircuitStats(4, Duration.ofSeconds(4), clock, null);
+    recordSuccesses(stats, 2);
+    clock.set(1100);
+    recordFailures(stats, 3);
+
+    stats.reset();
+    assertValues(stats, b(-1, 0, 0), b(-1, 0, 0), b(-1, 0, 0), b(-1, 0, 0));
+    assertEquals(stats.getExecutionCount(), 0);
+
+    recordSuccesses(stats, 1);
+    assertValues(stats, b(-1, 0, 0), b(1000, 1, 0), b(-1, 0, 0), b(-1, 0, 0));
+    assertEquals(stats.getSuccessCount(), 1);
+  }
+
+  public void testSlowCount() {
+    stats = new TimedCircuitStats(4, Duration.ofSeconds(4), clock, null);
+    stats.recordSuccess(true);
+    stats.recordFailure(true);
+    stats.recordSuccess(false);
+    clock.set(1100);
+    stats.recordFailure(true);
+    assertEquals(stats.getSlowCount(), 3);
+
+    // Copy slow counts with their buckets
+    TimedCircuitStats right = new TimedCircuitStats(4, Duration.ofSeconds(4), clock, stats);
+    assertEquals(right.getSlowCount(), 3);
+
+    // Roll the first bucket off
+    clock.set(4500);
+    stats.recordSuccess(false);
+    assertEquals(stats.getSlowCount(), 1);
+  }
+
   public void testCopyToEqualSizedStats() {
     stats = new TimedCircuitStats(4, Duration.ofSeconds(4), clock, null);
-    assertValues(stats, b(0, 0, 0), b(-1, 0, 0), b(-1, 0, 0), b(-1, 0, 0));
+    assertValues(stats, b(-1, 0, 0), b(-1, 0, 0), b(-1, 0, 0), b(-1, 0, 0));
     recordSuccesses(stats, 2);
     clock.set(1100);
     recordFailures(stats, 3);
-    assertEquals(stats.currentIndex, 1);
+    assertEquals(stats.getCurrentBucket(), stats.buckets.get(1));
 
     TimedCircuitStats right1 = new TimedCircuitStats(4, Duration.ofSeconds(4), clock, stats);
-    assertValues(right1, b(-1, 0, 0), b(-1, 0, 0), b(0, 2, 0), b(1000, 0, 3));
-    assertEquals(right1.currentIndex, 3);
+    assertValues(right1, b(1000, 0, 3), b(-1, 0, 0), b(-1, 0, 0), b(0, 2, 0));
+    assertEquals(right1.getCurrentBucket(), right1.buckets.get(0));
     clock.set(2500);
     recordSuccesses(right1, 5);
-    assertValues(right1, b(2000, 5, 0), b(-1, 0, 0), b(0, 2, 0), b(1000, 0, 3));
-    assertEquals(right1.currentIndex, 0);
+    assertValues(right1, b(1000, 0, 3), b(2000, 5, 0), b(-1, 0, 0), b(0, 2, 0));
+    assertEquals(right1.getCurrentBucket(), right1.buckets.get(1));
 
     clock.set(2200);
     recordSuccesses(stats, 2);
     clock.set(3300);
     recordFailures(stats, 3);
-    assertEquals(stats.currentIndex, 3);
+    assertEquals(stats.getCurrentBucket(), stats.buckets.get(3));
 
     TimedCircuitStats right2 = new TimedCircuitStats(4, Duration.ofSeconds(4), clock, stats);
-    assertValues(right2, b(0, 2, 0), b(1000, 0, 3), b(2000, 2, 0), b(3000, 0, 3));
-    assertEquals(right2.currentIndex, 3);
+    assertValues(right2, b(3000, 0, 3), b(0, 2, 0), b(1000, 0, 3), b(2000, 2, 0));
+    assertEquals(right2.getCurrentBucket(), right2.buckets.get(0));
     clock.set(4400);
     recordSuccesses(right2, 4);
-    assertValues(right2, b(4000, 4, 0), b(1000, 0, 3), b(2000, 2, 0), b(3000, 0, 3));
-    assertEquals(right2.currentIndex, 0);
+    assertValues(right2, b(3000, 0, 3), b(4000, 4, 0), b(1000, 0, 3), b(2000, 2, 0));
+    assertEquals(right2.getCurrentBucket(), right2.buckets.get(1));
 
     TimedCircuitStats right3 = new TimedCircuitStats(4, Duration.ofSeconds(4), clock, right2);
-    assertValues(right3, b(1000, 0, 3), b(2000, 2, 0), b(3000, 0, 3), b(4000, 4, 0));
-    assertEquals(right3.currentIndex, 3);
+    assertValues(right3, b(4000, 4, 0), b(1000, 0, 3), b(2000, 2, 0), b(3000, 0, 3));
+    assertEquals(right3.getCurrentBucket(), right3.buckets.get(0));
     clock.set(7500);
     recordExecutions(right3, 4, i -> i % 2 == 0);
-    assertValues(right3, b(5000, 0, 0), b(6000, 0, 0), b(7000, 2, 2), b(4000, 4, 0));
-    assertEquals(right3.currentIndex, 2);
+    assertValues(right3, b(4000, 4, 0), b(1000, 0, 3), b(2000, 2, 0), b(7000, 2, 2));
+    assertEquals(right3.getCurrentBucket(), right3.buckets.get(3));
+    assertEquals(right3.getSuccessCount(), 6);
+    assertEquals(right3.getFailureCount(), 2);
   }
 
   public void testCopyToSmallerStats() {
@@ -204,12 +217,14 @@ public class TimedCircuitStatsTest extends CircuitStatsTest {
     recordFailures(stats, 6);
 
     TimedCircuitStats right1 = new TimedCircuitStats(3, Duration.ofSeconds(3), clock, stats);
-    assertValues(right1, b(2000, 4, 0), b(3000, 0, 5), b(4000, 0, 6));
-    assertEquals(right1.currentIndex, 2);
+    assertValues(right1, b(4000, 0, 6), b(2000, 4, 0), b(3000, 0, 5));
+    assertEquals(right1.getCurrentBucket(), right1.buckets.get(0));
     clock.set(6500);
     recordSuccesses(right1, 33);
-    assertValues(right1, b(5000, 0, 0), b(6000, 33, 0), b(4000, 0, 6));
-    assertEquals(right1.currentIndex, 1);
+    assertValues(right1, b(4000, 0, 6), b(2000, 4, 0), b(6000, 33, 0));
+    assertEquals(right1.getCurrentBucket(), right1.buckets.get(2));
+    assertEquals(right1.getSuccessCount(), 33);
+    assertEquals(right1.getFailureCount(), 6);
   }
 
   public void testCopyToLargerStats() {
@@ -221,20 +236,30 @@ public class TimedCircuitStatsTest extends CircuitStatsTest {
     recordSuccesses(stats, 4);
 
     TimedCircuitStats right1 = new TimedCircuitStats(5, Duration.ofSeconds(5), clock, stats);
-    assertValues(right1, b(0, 2, 0), b(1000, 0, 3), b(2000, 4, 0), b(-1, 0, 0), b(-1, 0, 0));
-    assertEquals(right1.currentIndex, 2);
+    assertValues(right1, b(2000, 4, 0), b(-1, 0, 0), b(-1, 0, 0), b(0, 2, 0), b(1000, 0, 3));
+    assertEquals(right1.getCurrentBucket(), right1.buckets.get(0));
     clock.set(3300);
     recordSuccesses(right1, 22);
-    assertValues(right1, b(0, 2, 0), b(1000, 0, 3), b(2000, 4, 0), b(3000, 22, 0), b(-1, 0, 0));
-    assertEquals(right1.currentIndex, 3);
+    assertValues(right1, b(2000, 4, 0), b(3000, 22, 0), b(-1, 0, 0), b(0, 2, 0), b(1000, 0, 3));
+    assertEquals(right1.getCurrentBucket(), right1.buckets.get(1));
 
     TimedCircuitStats right2 = new TimedCircuitStats(6, Duration.ofSeconds(6), clock, right1);
-    assertValues(right2, b(-1, 0, 0), b(0, 2, 0), b(1000, 0, 3), b(2000, 4, 0), b(3000, 22, 0), b(-1, 0, 0));
-    assertEquals(right2.currentIndex, 4);
+    assertValues(right2, b(3000, 22, 0), b(-1, 0, 0), b(-1, 0, 0), b(0, 2, 0), b(1000, 0, 3), b(2000, 4, 0));
+    assertEquals(right2.getCurrentBucket(), right2.buckets.get(0));
     clock.set(7250);
     recordFailures(right2, 123);
-    assertValues(right2, b(5000, 0, 0), b(6000, 0, 0), b(7000, 0, 123), b(2000, 4, 0), b(3000, 22, 0), b(4000, 0, 0));
-    assertEquals(right2.currentIndex, 2);
+    assertValues(right2, b(3000, 22, 0), b(-1, 0, 0), b(-1, 0, 0), b(0, 2, 0), b(7000, 0, 123), b(2000, 4, 0));
+    assertEquals(right2.getCurrentBucket(), right2.buckets.get(4));
+    assertEquals(right2.getSuccessCount(), 26);
+    assertEquals(right2.getFailureCount(), 123);
+  }
+
+  public void shouldRecordConcurrently() throws Throwable {
+    stats = new TimedCircuitStats(4, Duration.ofSeconds(4), clock, null);
+    recordConcurrently(stats, 8, 10000);
+    assertEquals(stats.getExecutionCount(), 80000);
+    assertEquals(stats.getSuccessCount(), 40000);
+    assertEquals(stats.getFailureCount(), 40000);
   }
 
   /**
@@ -245,9 +270,11 @@ public class TimedCircuitStatsTest extends CircuitStatsTest {
   }
 
   private static int[][] valuesFor(TimedCircuitStats stats) {
-    int[][] values = new int[stats.buckets.length][];
-    for (int i = 0; i < values.length; i++)
-      values[i] = b((int) stats.buckets[i].startTimeMillis, stats.buckets[i].successes, stats.buckets[i].failures);
+    int[][] values = new int[stats.buckets.length()][];
+    for (int i = 0; i < values.length; i++) {
+      Bucket bucket = stats.buckets.get(i);
+      values[i] = bucket == null ? b(-1, 0, 0) : b((int) bucket.startTimeMillis, bucket.successes(), bucket.failures());
+    }
     return values;
   }
 
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal;
+
+import dev.failsafe.RateLimiter;
+import dev.failsafe.RateLimiterBuilder;
+import dev.failsafe.RateLimiterConfig;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+@Test
+public class TokenBucketRateLimiterStatsTest extends RateLimiterStatsTest<TokenBucketRateLimiterStats> {
+  @Override
+  TokenBucketRateLimiterStats createStats() {
+    RateLimiterConfig<Object> config = RateLimiter.tokenBucketBuilder(Duration.ofMillis(500), 2).build().getConfig();
+    return new TokenBucketRateLimiterStats(config, stopwatch);
+  }
+
+  TokenBucketRateLimiterStats createStats(Duration refillRate, long capacity, Duration warmUpPeriod) {
+    RateLimiterBuilder<Object> builder = RateLimiter.tokenBucketBuilder(refillRate, capacity);
+    if (warmUpPeriod != null)
+      builder.withWarmUp(warmUpPeriod);
+    return new TokenBucketRateLimiterStats(builder.build().getConfig(), stopwatch);
+  }
+
+  /**
+   * Asserts that wait times and available permits are expected, over time, when calling acquirePermits.
+   */
+  public void testAcquirePermits() {
+    // Given 1 permit refilled every 100 millis, with a capacity of 5
+    TokenBucketRateLimiterStats stats = createStats(Duration.ofMillis(100), 5, null);
+
+    assertEquals(acquire(stats, 5), 0);
+    assertEquals(stats.getAvailablePermits(), 0);
+    assertEquals(acquire(stats, 1), 100);
+    assertEquals(stats.getAvailablePermits(), -1);
+
+    stopwatch.set(250);
+    assertEquals(stats.getAvailablePermits(), 1);
+    assertEquals(acquire(stats, 1), 0);
+    assertEquals(acquire(stats, 2), 150);
+
+    // Refills are capped at the capacity
+    stopwatch.set(5000);
+    assertEquals(stats.getAvailablePermits(), 5);
+    assertEquals(acquire(stats, 7), 200);
+    assertEquals(stats.getAvailablePermits(), -2);
+  }
+
+  /**
+   * Asserts that a cold rate limiter does not allow bursts, and that its rate climbs while warming up.
+   */
+  public void testWarmUp() {
+    // Given 1 permit refilled every 100 millis, with a capacity of 5 and a warm up period of 1 second
+    TokenBucketRateLimiterStats stats = createStats(Duration.ofMillis(100), 5, Duration.ofSeconds(1));
+
+    // When / Then the rate begins at a third of the refill rate
+    assertEquals(acquire(stats, 1), 0);
+    assertTrue(stats.isWarmingUp());
+    assertEquals(acquire(stats, 1), 300);
+
+    // When / Then the rate climbs halfway through warm up
+    stopwatch.set(500);
+    assertEquals(acquire(stats, 1), 100);
+    assertTrue(stats.isWarmingUp());
+
+    // When / Then warm up ends
+    stopwatch.set(1000);
+    assertEquals(acquire(stats, 1), 0);
+    assertFalse(stats.isWarmingUp());
+
+    // When / Then the rate limiter becomes cold again after being idle
+    stopwatch.set(5000);
+    assertEquals(acquire(stats, 2), 300);
+    assertTrue(stats.isWarmingUp());
+  }
+
+  /**
+   * Asserts that released permits are made available again, up to the capacity.
+   */
+  public void testReleasePermits() {
+    // Given 1 permit refilled every 100 millis, with a capacity of 2
+    TokenBucketRateLimiterStats stats = createStats(Duration.ofMillis(100), 2, null);
+    assertEquals(acquire(stats, 4), 200);
+
+    // When / Then
+    stats.releasePermits(1);
+    assertEquals(stats.getAvailablePermits(), -1);
+    assertEquals(acquire(stats, 1), 200);
+
+    // When / Then
+    stats.releasePermits(10);
+    assertEquals(stats.getAvailablePermits(), 2);
+  }
+
+  /**
+   * Asserts that concurrent acquisitions reserve distinct permits and honor the max wait time.
+   */
+  public void shouldAcquirePermitsConcurrently() throws Throwable {
+    // Given 1 permit refilled every 100 millis, with a capacity of 10
+    TokenBucketRateLimiterStats stats = createStats(Duration.ofMillis(100), 10, null);
+    AtomicInteger acquired = new AtomicInteger();
+
+    // When
+    runConcurrently(8, () -> {
+      for (int i = 0; i < 100; i++)
+        if (stats.acquirePermits(1, Duration.ofSeconds(1)) != -1)
+          acquired.incrementAndGet();
+    });
+
+    // Then the bucket's permits plus permits refilled within 1 second are acquired
+    assertEquals(acquired.get(), 20);
+    assertEquals(stats.getAvailablePermits(), -10);
+  }
+
+  @Override
+  void printInfo(TokenBucketRateLimiterStats stats, long waitMillis) {
+    System.out.printf("[%s] elapsedMillis: %4s, waitMillis: %s, availablePermits: %s%n",
+      Thread.currentThread().getName(), stats.getElapsed().toMillis(), waitMillis, stats.getAvailablePermits());
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+package dev.failsafe.internal.util;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.testng.Assert.*;
+
+@Test
+public class FutureQueueTest {
+  public void testAdd() {
+    // Given
+    FutureQueue queue = new FutureQueue();
+    assertTrue(queue.isEmpty());
+
+    // When
+    CompletableFuture<Void> f1 = queue.add();
+    CompletableFuture<Void> f2 = queue.add();
+    CompletableFuture<Void> f3 = queue.add();
+
+    // Then
+    assertFalse(queue.isEmpty());
+    assertTrue(queue.head.isDone());
+    assertEquals(queue.head.next, f1);
+    assertEquals(queue.head.next.next, f2);
+    assertEquals(queue.tail, f3);
+  }
+
+  /**
+   * Asserts that futures are only added when fewer than the max size are incomplete.
+   */
+  public void testAddWithMaxSize() {
+    // Given
+    FutureQueue queue = new FutureQueue();
+    CompletableFuture<Void> f1 = queue.add(2);
+    CompletableFuture<Void> f2 = queue.add(2);
+
+    // When / Then
+    assertEquals(queue.size(), 2);
+    assertNull(queue.add(2));
+
+    // When / Then
+    f1.cancel(false);
+    assertEquals(queue.size(), 1);
+    assertNotNull(queue.add(2));
+    assertEquals(queue.pollFirst(), f2);
+    f2.complete(null);
+    assertEquals(queue.size(), 1);
+  }
+
+  public void testPollFirst() {
+    // Given
+    FutureQueue queue = new FutureQueue();
+
+    // When / Then
+    assertNull(queue.pollFirst());
+
+    // Given
+    CompletableFuture<Void> f1 = queue.add();
+    CompletableFuture<Void> f2 = queue.add();
+    CompletableFuture<Void> f3 = queue.add();
+
+    // When / Then
+    assertEquals(queue.pollFirst(), f1);
+    assertEquals(queue.head, f1);
+    assertEquals(queue.pollFirst(), f2);
+    assertEquals(queue.pollFirst(), f3);
+    assertNull(queue.pollFirst());
+    assertTrue(queue.isEmpty());
+  }
+
+  /**
+   * Asserts that completed futures are skipped, and that cancelled or exceptionally completed futures at the front of
+   * the queue are unlinked.
+   */
+  public void testSkipCompleted() {
+    // Given
+    FutureQueue queue = new FutureQueue();
+    CompletableFuture<Void> f1 = queue.add();
+    CompletableFuture<Void> f2 = queue.add();
+    CompletableFuture<Void> f3 = queue.add();
+    CompletableFuture<Void> f4 = queue.add();
+
+    // When / Then
+    f2.complete(null);
+    assertEquals(queue.head.next, f1);
+    f1.cancel(false);
+    assertEquals(queue.head, f2);
+    assertEquals(queue.head.next, f3);
+
+    // When / Then
+    f4.completeExceptionally(new IllegalStateException());
+    assertEquals(queue.pollFirst(), f3);
+    assertNull(queue.pollFirst());
+    assertTrue(queue.isEmpty());
+  }
+
+  /**
+   * Asserts that cancelled or expired futures behind an incomplete future are unlinked.
+   */
+  public void testUnlinkCompletedBehindIncomplete() {
+    // Given
+    FutureQueue queue = new FutureQueue();
+    CompletableFuture<Void> first = queue.add();
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (int i = 0; i < 100; i++)
+      futures.add(queue.add(1000, i % 2 == 0 ? 0 : Long.MAX_VALUE));
+    CompletableFuture<Void> last = queue.add();
+
+    // When
+    for (int i = 1; i < futures.size(); i += 2)
+      futures.get(i).cancel(false);
+    assertEquals(queue.linkedSize(), 52);
+    assertEquals(queue.expire(0, IllegalStateException::new), -1);
+
+    // Then
+    assertEquals(queue.size(), 2);
+    assertEquals(queue.linkedSize(), 2);
+    assertEquals(queue.head.next, first);
+    assertEquals(queue.head.next.next, last);
+
+    // When / Then the last future is unlinked once another is added after it
+    last.cancel(false);
+    queue.add();
+    assertEquals(queue.expire(0, IllegalStateException::new), -1);
+    assertEquals(queue.linkedSize(), 2);
+  }
+
+  /**
+   * Asserts that futures are expired in deadline order, skipping futures without a deadline.
+   */
+  public void testExpire() {
+    // Given
+    FutureQueue queue = new FutureQueue();
+    CompletableFuture<Void> f1 = queue.add(10, 100);
+    CompletableFuture<Void> f2 = queue.add(10);
+    CompletableFuture<Void> f3 = queue.add(10, 200);
+    CompletableFuture<Void> f4 = queue.add(10, 300);
+
+    // When / Then
+    assertEquals(queue.expire(50, IllegalStateException::new), 50);
+    assertEquals(queue.expire(200, IllegalStateException::new), 100);
+    assertTrue(f1.isCompletedExceptionally());
+    assertFalse(f2.isDone());
+    assertTrue(f3.isCompletedExceptionally());
+    assertFalse(f4.isDone());
+
+    // When / Then
+    f4.complete(null);
+    assertEquals(queue.expire(200, IllegalStateException::new), -1);
+    assertEquals(queue.size(), 1);
+  }
+}